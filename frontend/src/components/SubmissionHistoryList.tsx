@@ -6,6 +6,7 @@ import LoadingSpinner from './LoadingSpinner';
 import { getSubmissionStatusMeta } from '../utils/submissionStatus';
 import IconButton from './IconButton';
 import { useToastContext } from '../context/ToastContext';
+import { submissionService } from '../services/submissionService';
 
 interface SubmissionHistoryListProps {
   submissions: SubmissionHistoryForProblem[];
@@ -33,7 +34,43 @@ const SubmissionHistoryList: React.FC<SubmissionHistoryListProps> = ({
   onToggleExpand,
 }) => {
   const toast = useToastContext();
+  const [sourceCodes, setSourceCodes] = React.useState<
+    Record<number, string>
+  >({});
   const isInitialLoading = loading && submissions.length === 0;
+
+  // 목록에는 코드가 없으므로 펼칠 때 한 번만 불러온다
+  React.useEffect(() => {
+    if (
+      expandedSubmissionId === null ||
+      expandedSubmissionId === undefined ||
+      sourceCodes[expandedSubmissionId] !== undefined
+    ) {
+      return;
+    }
+
+    let cancelled = false;
+    submissionService
+      .getSubmissionSource(expandedSubmissionId)
+      .then((source) => {
+        if (!cancelled) {
+          setSourceCodes((prev) => ({
+            ...prev,
+            [source.submissionId]: source.sourceCode,
+          }));
+        }
+      })
+      .catch((err) => {
+        console.error('Failed to load submission source', err);
+        if (!cancelled) {
+          toast.error('제출 코드를 불러오지 못했습니다.');
+        }
+      });
+
+    return () => {
+      cancelled = true;
+    };
+  }, [expandedSubmissionId, sourceCodes, toast.error]);
   const hasMultiplePages = totalPages > 1;
 
   const getPageNumbers = () => {
@@ -189,6 +226,7 @@ const SubmissionHistoryList: React.FC<SubmissionHistoryListProps> = ({
                 submission.submissionId === selectedSubmissionId;
               const isExpanded =
                 expandedSubmissionId === submission.submissionId;
+              const sourceCode = sourceCodes[submission.submissionId];
 
               return (
                 <React.Fragment key={submission.submissionId}>
@@ -298,7 +336,8 @@ const SubmissionHistoryList: React.FC<SubmissionHistoryListProps> = ({
                               <IconButton
                                 label="코드 복사"
                                 onClick={() =>
-                                  handleCopyCode(submission.sourceCode)
+                                  sourceCode !== undefined &&
+                                  handleCopyCode(sourceCode)
                                 }
                               >
                                 <svg
@@ -325,7 +364,7 @@ const SubmissionHistoryList: React.FC<SubmissionHistoryListProps> = ({
                               language={resolveEditorLanguage(
                                 submission.language
                               )}
-                              value={submission.sourceCode}
+                              value={sourceCode ?? '// 코드를 불러오는 중...'}
                               theme="vs-dark"
                               options={{
                                 readOnly: true,
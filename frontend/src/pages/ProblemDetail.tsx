@@ -341,6 +341,12 @@ main()`,
       console.error('SSE connection error:', error);
       console.log('EventSource readyState:', newEventSource.readyState);
       console.log('EventSource URL:', newEventSource.url);
+
+      // 재연결 중이면 브라우저가 Last-Event-ID와 함께 다시 연결하므로 닫지 않음
+      if (newEventSource.readyState === EventSource.CONNECTING) {
+        return;
+      }
+
       newEventSource.close();
       setEventSource(null);
     };
@@ -37,6 +37,9 @@ const SubmissionsPage: React.FC = () => {
   const [navigating, setNavigating] = React.useState(false);
   const [codePreview, setCodePreview] =
     React.useState<SubmissionHistoryForProblem | null>(null);
+  const [codePreviewSource, setCodePreviewSource] = React.useState<
+    string | null
+  >(null);
 
   const loadSubmissions = React.useCallback(
     async (pageToLoad: number) => {
@@ -157,12 +160,28 @@ const SubmissionsPage: React.FC = () => {
     }
   };
 
-  const handleOpenCodePreview = (submission: SubmissionHistoryForProblem) => {
+  const handleOpenCodePreview = async (
+    submission: SubmissionHistoryForProblem
+  ) => {
     setCodePreview(submission);
+    setCodePreviewSource(null);
+
+    // 목록에는 코드가 없으므로 미리보기를 열 때 불러온다
+    try {
+      const source = await submissionService.getSubmissionSource(
+        submission.submissionId
+      );
+      setCodePreviewSource(source.sourceCode);
+    } catch (err) {
+      console.error('Failed to load submission source', err);
+      toast.error('제출 코드를 불러오지 못했습니다.');
+      setCodePreview(null);
+    }
   };
 
   const handleCloseCodePreview = () => {
     setCodePreview(null);
+    setCodePreviewSource(null);
   };
 
   const handleProblemNavigate = async (problemTitle: string) => {
@@ -422,7 +441,10 @@ const SubmissionsPage: React.FC = () => {
               <div className="flex items-center space-x-2">
                 <IconButton
                   label="코드 복사"
-                  onClick={() => handleCopyCode(codePreview.sourceCode)}
+                  onClick={() =>
+                    codePreviewSource !== null &&
+                    handleCopyCode(codePreviewSource)
+                  }
                 >
                   <svg
                     xmlns="http://www.w3.org/2000/svg"
@@ -462,7 +484,7 @@ const SubmissionsPage: React.FC = () => {
               <Editor
                 height="60vh"
                 language={resolveEditorLanguage(codePreview.language)}
-                value={codePreview.sourceCode}
+                value={codePreviewSource ?? '// 코드를 불러오는 중...'}
                 theme="vs-dark"
                 options={{
                   readOnly: true,
@@ -0,0 +1,70 @@
+import api from './api';
+import { problemService } from './problemService';
+
+jest.mock('./api', () => ({
+  __esModule: true,
+  default: {
+    post: jest.fn(),
+  },
+}));
+
+const mockedPost = api.post as jest.Mock;
+
+describe('problemService.uploadTestCase', () => {
+  const calls: string[] = [];
+
+  beforeEach(() => {
+    calls.length = 0;
+    mockedPost.mockReset();
+    mockedPost.mockImplementation(async (url: string) => {
+      calls.push(`POST ${url}`);
+      if (url === '/problems/initiate-upload') {
+        return {
+          key: 'problems/1/test_data/1.in',
+          presignedUrl: 'https://bucket.example.com/problems/1/test_data/1.in?X-Amz-Signature=abc',
+        };
+      }
+      return undefined;
+    });
+  });
+
+  afterEach(() => {
+    jest.restoreAllMocks();
+  });
+
+  it('completes the upload only after the PUT to storage succeeds', async () => {
+    global.fetch = jest.fn(async () => {
+      calls.push('PUT storage');
+      return { ok: true, status: 200, statusText: 'OK' } as Response;
+    }) as jest.Mock;
+    jest.spyOn(console, 'log').mockImplementation(() => {});
+
+    await problemService.uploadTestCase(new File(['1 2\n3'], '1.in'), 1);
+
+    expect(calls).toEqual([
+      'POST /problems/initiate-upload',
+      'PUT storage',
+      'POST /problems/complete-upload/1',
+    ]);
+  });
+
+  it('does not complete the upload when the PUT fails', async () => {
+    global.fetch = jest.fn(async () => {
+      calls.push('PUT storage');
+      return {
+        ok: false,
+        status: 403,
+        statusText: 'Forbidden',
+        text: async () => 'denied',
+      } as Response;
+    }) as jest.Mock;
+    jest.spyOn(console, 'log').mockImplementation(() => {});
+    jest.spyOn(console, 'error').mockImplementation(() => {});
+
+    await expect(
+      problemService.uploadTestCase(new File(['1 2\n3'], '1.in'), 1)
+    ).rejects.toThrow();
+
+    expect(calls).not.toContain('POST /problems/complete-upload/1');
+  });
+});
@@ -113,6 +113,11 @@ export const problemService = {
     return response;
   },
 
+  // Bumps the problem revision so verdicts cached against old test data are not reused
+  completeUpload: async (problemId: number): Promise<void> => {
+    await api.post<void>(`/problems/complete-upload/${problemId}`);
+  },
+
   uploadImage: async (file: File, problemId: number): Promise<string> => {
     // Get presigned URL
     const fileSizeKiloBytes = Math.ceil(file.size / 1024);
@@ -198,6 +203,9 @@ export const problemService = {
         );
       }
 
+      // Only after the file is in place, so in-flight judging stays on the old revision
+      await problemService.completeUpload(problemId);
+
       // Extract path from presigned URL and combine with base URL
       const presignedUrl = new URL(uploadResponse.presignedUrl);
       const testCasePath = presignedUrl.pathname;
@@ -3,6 +3,7 @@ import {
   PageResponse,
   Submission,
   SubmissionHistoryForProblem,
+  SubmissionSource,
   SubmitResponse,
 } from '../types';
 import api from './api';
@@ -53,6 +54,16 @@ export const submissionService = {
     return response;
   },
 
+  // Get submitted source code (목록 응답에는 코드가 포함되지 않는다)
+  getSubmissionSource: async (
+    submissionId: number
+  ): Promise<SubmissionSource> => {
+    const response = await api.get<SubmissionSource>(
+      `/submissions/${submissionId}/source`
+    );
+    return response;
+  },
+
   // Create an SSE connection for real-time progress
   createProgressEventSource: (submissionId: number): EventSource => {
     const user = localStorage.getItem('user');
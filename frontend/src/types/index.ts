@@ -155,7 +155,6 @@ export interface SubmissionHistoryForProblem {
   problemId: number;
   username: string;
   submitStatus: SubmissionStatus;
-  sourceCode: string;
   language: Language;
   runtimeMs: number | null;
   memoryKb: number | null;
@@ -163,6 +162,12 @@ export interface SubmissionHistoryForProblem {
   problemTitle: string;
 }
 
+export interface SubmissionSource {
+  submissionId: number;
+  language: Language;
+  sourceCode: string;
+}
+
 // Image Upload Types
 export interface InitiateUploadRequest {
   originalFileName: string;
@@ -13,6 +13,8 @@ class Settings:
 
     s3_bucket_name: str | None = os.getenv("S3_BUCKET_NAME")
     s3_test_data_prefix: str = "problems/{problem_id}/test_data/"
+    # problem-service 의 storage.type=local 저장소 경로 (설정 시 S3 대신 사용)
+    source_code_local_dir: str | None = os.getenv("SOURCE_CODE_LOCAL_DIR")
 
     redis_host: str = os.getenv("REDIS_HOST", "localhost")
     redis_port: int = int(os.getenv("REDIS_PORT", "6379"))
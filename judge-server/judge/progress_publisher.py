@@ -4,6 +4,7 @@ from judge.config import settings
 import redis
 import json
 import logging
+import time
 
 logging.basicConfig(level=logging.INFO)
 logger = logging.getLogger(__name__)
@@ -16,6 +17,14 @@ class ProgressPublisher:
             password=settings.redis_password,
             decode_responses=True
         )
+        self._trace_ids = {}
+
+    def bind_trace(self, submission_id: int, trace_id: str | None):
+        if trace_id:
+            self._trace_ids[submission_id] = trace_id
+
+    def unbind_trace(self, submission_id: int):
+        self._trace_ids.pop(submission_id, None)
     
     def publish_judging_start(self, submission_id: int, username: str, total_tests: int):
         self._publish_progress(submission_id, username, "JUDGING", 0, 0, total_tests)
@@ -37,7 +46,9 @@ class ProgressPublisher:
             "totalTests": total_tests,
             "timestamp": datetime.now().isoformat(),
             "runtimeMs": runtime_ms,
-            "memoryKb": memory_kb
+            "memoryKb": memory_kb,
+            "traceId": self._trace_ids.get(submission_id),
+            "publishedAt": int(time.time() * 1000)
         }
 
         channel = f"progress:{submission_id}"
@@ -3,11 +3,14 @@ from botocore.exceptions import ClientError
 from judge.config import settings
 from judge.file_util import save_to_temp, delete_temp
 from judge.judge import run
+from judge.progress_publisher import progress_publisher
 
 import boto3
+import hashlib
 import time
 import logging
 import json
+import os
 
 logging.basicConfig(level=logging.INFO)
 logger = logging.getLogger(__name__)
@@ -32,10 +35,11 @@ def consume_loop():
                 continue
 
             message = messages[0]
+            received_at = _now_ms()
 
             logger.info(f"Received message: {message.body}")
 
-            _handle_message(json.loads(message.body))
+            _handle_message(json.loads(message.body), received_at)
 
             # 처리 성공 시 메시지 삭제
             _delete_message(queue, response)
@@ -45,12 +49,12 @@ def consume_loop():
             time.sleep(5)  # 에러 시 잠깐 대기 후 재시도
 
 
-def _handle_message(message_body: dict):
+def _handle_message(message_body: dict, received_at: int | None = None):
     submission_id, problem_id, username, source_code, language, time_limit_sec, memory_limit_mb = (
         int(message_body.get("submissionId")),
         int(message_body.get("problemId")),
         message_body.get("username"),
-        message_body.get("sourceCode"),
+        _resolve_source_code(message_body),
         message_body.get("language"),
         int(message_body.get("timeLimitSec")),
         int(message_body.get("memoryLimitMb")),
@@ -64,7 +68,15 @@ def _handle_message(message_body: dict):
     source_code_path = save_to_temp(source_code, submission_id, username, language)
     logger.info(f"SAVED PATH: {source_code_path}")
 
-    judge_result = run(source_code_path, language, time_limit_sec, memory_limit_mb, problem_id, submission_id, username)
+    # 진행 상황 메시지에도 같은 traceId 를 실어 problem-service 가 구간을 이어 붙일 수 있게 한다
+    trace_id = message_body.get("traceId")
+    progress_publisher.bind_trace(submission_id, trace_id)
+    judge_started_at = _now_ms()
+    try:
+        judge_result = run(source_code_path, language, time_limit_sec, memory_limit_mb, problem_id, submission_id, username)
+    finally:
+        progress_publisher.unbind_trace(submission_id)
+    judge_finished_at = _now_ms()
 
     delete_temp(submission_id, username)
 
@@ -75,21 +87,54 @@ def _handle_message(message_body: dict):
         "submitStatus": judge_result[0],
         "runtimeMs": judge_result[1],
         "memoryKb": judge_result[2],
+        "traceId": trace_id,
+        "submittedAt": message_body.get("submittedAt"),
+        "dispatchedAt": message_body.get("dispatchedAt"),
+        "receivedAt": received_at if received_at is not None else judge_started_at,
+        "judgeStartedAt": judge_started_at,
+        "judgeFinishedAt": judge_finished_at,
     }
 
     _send_message(event)
 
     logger.info(f"Judging finished result={judge_result[0]}")
 
+def _resolve_source_code(message_body: dict) -> str | None:
+    # 큰 코드는 메시지 대신 저장소에 올라오고 메시지에는 키와 SHA-256 만 실린다 (claim-check)
+    source_code_ref = message_body.get("sourceCodeRef")
+    if not source_code_ref:
+        return message_body.get("sourceCode")
+
+    content = _fetch_source_code(source_code_ref)
+    if hashlib.sha256(content).hexdigest() != message_body.get("sourceCodeSha256"):
+        raise ValueError(f"Source code hash mismatch for ref={source_code_ref}")
+
+    return content.decode("utf-8")
+
+def _fetch_source_code(key: str) -> bytes:
+    if settings.source_code_local_dir:
+        with open(os.path.join(settings.source_code_local_dir, key), "rb") as f:
+            return f.read()
+
+    s3 = boto3.client("s3", region_name=settings.aws_region, aws_access_key_id=settings.aws_access_key_id,
+                      aws_secret_access_key=settings.aws_secret_access_key)
+    response = s3.get_object(Bucket=settings.s3_bucket_name, Key=key)
+
+    return response["Body"].read()
+
 def _send_message(message):
     sqs = boto3.resource("sqs", region_name=settings.aws_region, aws_access_key_id=settings.aws_access_key_id,
                          aws_secret_access_key=settings.aws_secret_access_key)
     queue = sqs.get_queue_by_name(QueueName=settings.sqs_result_queue_name)
 
+    message["resultSentAt"] = _now_ms()
     queue.send_message(MessageBody=json.dumps(message), MessageGroupId="results", MessageDeduplicationId=str(message["submissionId"]))
 
     logger.info(f"Sent message to queue={queue.url}")
 
+def _now_ms() -> int:
+    return int(time.time() * 1000)
+
 
 def _delete_message(queue, messages):
     try:
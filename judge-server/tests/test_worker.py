@@ -4,6 +4,7 @@ import judge.worker
 from botocore.exceptions import ClientError
 
 import pytest
+import hashlib
 import json
 
 class TestWorker:
@@ -17,18 +18,23 @@ class TestWorker:
             "sourceCode": "print('Hello')",
             "language": "PYTHON",
             "timeLimitSec": 5,
-            "memoryLimitMb": 256
+            "memoryLimitMb": 256,
+            "traceId": "4bf92f3577b34da6a3ce929d0e0e4736",
+            "submittedAt": 1700000000000,
+            "dispatchedAt": 1700000000040
         }
         
         with patch('judge.worker.save_to_temp') as mock_save, \
              patch('judge.worker.run') as mock_run, \
              patch('judge.worker.delete_temp') as mock_delete, \
-             patch('judge.worker._send_message') as mock_send:
+             patch('judge.worker._send_message') as mock_send, \
+             patch('judge.worker._now_ms') as mock_now:
             
             mock_save.return_value = "/tmp/test/Main.py"
             mock_run.return_value = ("ACCEPTED", 100.5, 1024)
+            mock_now.side_effect = [1700000001010, 1700000004010]
             
-            judge.worker._handle_message(message_body)
+            judge.worker._handle_message(message_body, 1700000001000)
             
             # 함수 호출 검증
             mock_save.assert_called_once_with(
@@ -46,7 +52,13 @@ class TestWorker:
                 "username": "testuser",
                 "submitStatus": "ACCEPTED",
                 "runtimeMs": 100.5,
-                "memoryKb": 1024
+                "memoryKb": 1024,
+                "traceId": "4bf92f3577b34da6a3ce929d0e0e4736",
+                "submittedAt": 1700000000000,
+                "dispatchedAt": 1700000000040,
+                "receivedAt": 1700000001000,
+                "judgeStartedAt": 1700000001010,
+                "judgeFinishedAt": 1700000004010
             }
             mock_send.assert_called_once_with(expected_event)
     
@@ -65,10 +77,12 @@ class TestWorker:
         with patch('judge.worker.save_to_temp') as mock_save, \
              patch('judge.worker.run') as mock_run, \
              patch('judge.worker.delete_temp') as mock_delete, \
-             patch('judge.worker._send_message') as mock_send:
+             patch('judge.worker._send_message') as mock_send, \
+             patch('judge.worker._now_ms') as mock_now:
             
             mock_save.return_value = "/tmp/test/Main.java"
             mock_run.return_value = ("COMPILE_ERROR", None, None)
+            mock_now.side_effect = [1700000000500, 1700000000900]
             
             judge.worker._handle_message(message_body)
             
@@ -78,7 +92,13 @@ class TestWorker:
                 "username": "javauser",
                 "submitStatus": "COMPILE_ERROR",
                 "runtimeMs": None,
-                "memoryKb": None
+                "memoryKb": None,
+                "traceId": None,
+                "submittedAt": None,
+                "dispatchedAt": None,
+                "receivedAt": 1700000000500,
+                "judgeStartedAt": 1700000000500,
+                "judgeFinishedAt": 1700000000900
             }
             mock_send.assert_called_once_with(expected_event)
     
@@ -97,6 +117,60 @@ class TestWorker:
         with pytest.raises((ValueError, TypeError)):
             judge.worker._handle_message(message_body)
     
+    def test_handle_message_with_source_code_ref(self):
+        """claim-check 참조로 전달된 코드 처리 테스트"""
+        source_code = "print('large')"
+        message_body = {
+            "submissionId": 12345,
+            "problemId": 1,
+            "username": "testuser",
+            "sourceCode": None,
+            "sourceCodeRef": "submissions/12345/source",
+            "sourceCodeSha256": hashlib.sha256(source_code.encode("utf-8")).hexdigest(),
+            "language": "PYTHON",
+            "timeLimitSec": 5,
+            "memoryLimitMb": 256
+        }
+
+        with patch('judge.worker._fetch_source_code') as mock_fetch, \
+             patch('judge.worker.save_to_temp') as mock_save, \
+             patch('judge.worker.run') as mock_run, \
+             patch('judge.worker.delete_temp'), \
+             patch('judge.worker._send_message'):
+
+            mock_fetch.return_value = source_code.encode("utf-8")
+            mock_save.return_value = "/tmp/test/Main.py"
+            mock_run.return_value = ("ACCEPTED", 100.5, 1024)
+
+            judge.worker._handle_message(message_body)
+
+            mock_fetch.assert_called_once_with("submissions/12345/source")
+            mock_save.assert_called_once_with(source_code, 12345, "testuser", "PYTHON")
+
+    def test_handle_message_with_source_code_hash_mismatch(self):
+        """claim-check 코드 해시 불일치 시 처리 테스트"""
+        message_body = {
+            "submissionId": 12345,
+            "problemId": 1,
+            "username": "testuser",
+            "sourceCode": None,
+            "sourceCodeRef": "submissions/12345/source",
+            "sourceCodeSha256": "0" * 64,
+            "language": "PYTHON",
+            "timeLimitSec": 5,
+            "memoryLimitMb": 256
+        }
+
+        with patch('judge.worker._fetch_source_code') as mock_fetch, \
+             patch('judge.worker.run') as mock_run:
+
+            mock_fetch.return_value = b"print('tampered')"
+
+            with pytest.raises(ValueError):
+                judge.worker._handle_message(message_body)
+
+            mock_run.assert_not_called()
+
     def test_handle_message_invalid_types(self):
         """필드 타입이 잘못된 경우 처리 테스트"""
         message_body = {
@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "algo-market"
@@ -35,6 +36,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // AWS
     implementation("io.awspring.cloud:spring-cloud-aws-starter:3.4.0")
@@ -61,10 +66,29 @@ dependencies {
 
     testImplementation("org.junit-pioneer:junit-pioneer:2.3.0")
     testImplementation("org.mockito:mockito-core:5.18.0")
+    testImplementation("com.github.codemonstur:embedded-redis:1.4.3") { exclude(group = "redis.clients") }
     mockitoAgent("org.mockito:mockito-core:5.18.0") { isTransitive = false}
+
+    jmh("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
     jvmArgs("-javaagent:${mockitoAgent.asPath}", "-Xshare:off")
 }
+
+// ./gradlew jmh -PjmhIncludes=JwtManagerBenchmark
+// 결과는 커밋 간 비교할 수 있도록 build/results/jmh/results.json 에 남긴다
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    fork = 1
+    includeTests = false
+    zip64 = true
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
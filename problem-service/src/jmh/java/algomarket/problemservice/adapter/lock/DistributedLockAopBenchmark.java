@@ -0,0 +1,82 @@
+package algomarket.problemservice.adapter.lock;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import algomarket.problemservice.application.ProblemModifyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Redis 왕복을 뺀 락 획득 경로의 오버헤드 (메타데이터 조회, 키 계산, 메트릭 기록)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistributedLockAopBenchmark {
+
+	@Param({"false", "true"})
+	boolean metadataCacheEnabled;
+
+	DistributedLockAop distributedLockAop;
+	ProceedingJoinPoint joinPoint;
+	Method method;
+	LockMetadata lockMetadata;
+	String[] parameterNames = {"problemId", "username"};
+	Object[] args = {1000L, "username"};
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		method = ProblemModifyService.class.getMethod("makePublic", Long.class, String.class);
+		lockMetadata = LockMetadata.of(method, parameterNames);
+
+		RLock rLock = stub(RLock.class, name -> name.equals("tryLock") ? true : null);
+		RedissonClient redissonClient = stub(RedissonClient.class, name -> rLock);
+		MethodSignature signature = stub(MethodSignature.class, name -> switch (name) {
+			case "getMethod" -> method;
+			case "getParameterNames" -> parameterNames;
+			default -> null;
+		});
+		joinPoint = stub(ProceedingJoinPoint.class, name -> switch (name) {
+			case "getSignature" -> signature;
+			case "getArgs" -> args;
+			default -> null;
+		});
+
+		distributedLockAop = new DistributedLockAop(redissonClient, new AopForTransaction(), new LockMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(distributedLockAop, "metadataCacheEnabled", metadataCacheEnabled);
+	}
+
+	@Benchmark
+	public Object lock() throws Throwable {
+		return distributedLockAop.lock(joinPoint);
+	}
+
+	@Benchmark
+	public String resolveKey() {
+		if (!metadataCacheEnabled) {
+			return LockMetadata.of(method, parameterNames).resolveKey(args);
+		}
+
+		return lockMetadata.resolveKey(args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Function<String, Object> answer) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+			(proxy, invoked, invokedArgs) -> answer.apply(invoked.getName()));
+	}
+}
@@ -0,0 +1,87 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mock.env.MockEnvironment;
+
+// 제출 1,000건이 한꺼번에 몰릴 때 플랫폼 스레드(Tomcat 200 + threadPoolExecutor)와 가상 스레드 모드의 제출 한 건당 처리 시간을 비교한다 (결과는 us/submit)
+// 제출 하나는 요청 스레드의 DB/락 대기 후 threadPoolExecutor 위에서 SQS 로 보내는 것으로 흉내낸다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncExecutionModeBenchmark {
+
+	static final int SUBMIT_COUNT = 1_000;
+	static final int TOMCAT_MAX_THREADS = 200;
+	static final long DB_AND_LOCK_MILLIS = 5;
+	static final long SQS_SEND_MILLIS = 5;
+
+	@Param({"false", "true"})
+	boolean virtualThreads;
+
+	ExecutorService requestExecutor;
+	Executor asyncExecutor;
+
+	@Setup
+	public void setUp() {
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+		asyncExecutor = new AsyncConfig().threadPoolExecutor(environment);
+		requestExecutor = virtualThreads
+			? Executors.newVirtualThreadPerTaskExecutor()
+			: Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		requestExecutor.shutdownNow();
+		if (asyncExecutor instanceof DisposableBean disposableBean) {
+			disposableBean.destroy();
+		} else if (asyncExecutor instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SUBMIT_COUNT)
+	public long submitAll() throws InterruptedException {
+		CountDownLatch sent = new CountDownLatch(SUBMIT_COUNT);
+		for (int i = 0; i < SUBMIT_COUNT; i++) {
+			requestExecutor.execute(() -> {
+				sleep(DB_AND_LOCK_MILLIS);
+				asyncExecutor.execute(() -> {
+					sleep(SQS_SEND_MILLIS);
+					sent.countDown();
+				});
+			});
+		}
+		if (!sent.await(60, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("제출 전송이 제한 시간 안에 끝나지 않았습니다");
+		}
+
+		return sent.getCount();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 시청자 1,000명이 각자 테스트 케이스 300개짜리 제출을 지켜볼 때, 채점 서버 이벤트 한 건이 SSE 쓰기까지 드는 비용을 비교한다 (결과는 ns/event)
+// intervalMs=0 은 이벤트마다 SSE 로 쓰는 경우다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProgressCoalescerBenchmark {
+
+	static final int VIEWERS = 1_000;
+	static final int TEST_CASES = 300;
+
+	@Param({"0", "250"})
+	long intervalMs;
+
+	ScheduledExecutorService flushScheduler;
+	ExecutorService flushExecutor;
+	ProgressCoalescer progressCoalescer;
+	ProgressEvent[][] progressEvents;
+	ProgressEvent[] completedEvents;
+
+	@Setup
+	public void setUp() {
+		flushScheduler = Executors.newSingleThreadScheduledExecutor();
+		flushExecutor = Executors.newFixedThreadPool(4);
+
+		progressEvents = new ProgressEvent[TEST_CASES][VIEWERS];
+		completedEvents = new ProgressEvent[VIEWERS];
+		for (int viewer = 0; viewer < VIEWERS; viewer++) {
+			long submissionId = viewer + 1L;
+			for (int test = 1; test <= TEST_CASES; test++) {
+				progressEvents[test - 1][viewer] = new ProgressEvent(submissionId, "user" + submissionId, SubmitStatus.JUDGING,
+					test * 100 / TEST_CASES, test, TEST_CASES, LocalDateTime.now(), null, null, null, null);
+			}
+			completedEvents[viewer] = new ProgressEvent(submissionId, "user" + submissionId, SubmitStatus.ACCEPTED, 100, TEST_CASES, TEST_CASES,
+				LocalDateTime.now(), 120, 14_336, null, null);
+		}
+	}
+
+	// 완료 이벤트가 연결을 닫으므로 호출마다 시청자 연결을 새로 연다
+	@Setup(Level.Invocation)
+	public void subscribeViewers() {
+		SseProgressAdapter sseProgressAdapter = new SseProgressAdapter(new ProgressReplayBuffer(100, 60_000L, 600_000L));
+		ReflectionTestUtils.setField(sseProgressAdapter, "sseTimeoutMs", 600_000L);
+		for (long submissionId = 1; submissionId <= VIEWERS; submissionId++) {
+			sseProgressAdapter.saveSubscription("user" + submissionId, submissionId, null);
+		}
+
+		// ProgressService 가 하는 대로 진행 이벤트를 쓰고 완료되면 연결을 닫는다
+		progressCoalescer = new ProgressCoalescer(event -> {
+			ProgressEvent progressEvent = (ProgressEvent) event;
+			sseProgressAdapter.notifyProgressUpdate(progressEvent.username(), progressEvent.submissionId(), progressEvent);
+			if (progressEvent.submitStatus().isCompleted()) {
+				sseProgressAdapter.completeProgress(progressEvent.username(), progressEvent.submissionId(), progressEvent.submitStatus());
+			}
+		}, flushScheduler, flushExecutor, new SimpleMeterRegistry(), intervalMs);
+	}
+
+	@TearDown
+	public void tearDown() {
+		flushScheduler.shutdownNow();
+		flushExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VIEWERS * (TEST_CASES + 1))
+	public int offerAllEvents() {
+		for (ProgressEvent[] tick : progressEvents) {
+			for (ProgressEvent progressEvent : tick) {
+				progressCoalescer.offer(progressEvent);
+			}
+		}
+		for (ProgressEvent completedEvent : completedEvents) {
+			progressCoalescer.offer(completedEvent);
+		}
+
+		return progressCoalescer.pendingWindowCount();
+	}
+}
@@ -0,0 +1,89 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 구독, 메시지 한 건, 해지까지 시청자 한 명당 비용이 시청자 수와 관계없이 평평한지 본다 (결과는 ns/watcher)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisProgressSubscriberBenchmark {
+
+	static final int WATCHERS = 1_000;
+	static final byte[] PATTERN = "progress:*".getBytes(StandardCharsets.UTF_8);
+
+	// 노드 전체에서 이미 지켜보고 있는 다른 제출 수
+	@Param({"10", "1000", "10000"})
+	int backgroundWatchers;
+
+	ScheduledExecutorService scheduler;
+	RedisProgressSubscriber subscriber;
+	DefaultMessage[] messages;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(event -> { }, scheduler, Runnable::run, new SimpleMeterRegistry(), 0);
+		subscriber = new RedisProgressSubscriber(new RedisTemplate<>(), new RedisMessageListenerContainer(), progressCoalescer, objectMapper,
+			scheduler);
+
+		for (long id = 1; id <= backgroundWatchers; id++) {
+			subscriber.subscribeToProgress(-id);
+		}
+
+		messages = new DefaultMessage[WATCHERS];
+		for (int i = 0; i < WATCHERS; i++) {
+			long submissionId = i + 1L;
+			var event = new ProgressEvent(submissionId, "username", SubmitStatus.JUDGING, 50, 5, 10, LocalDateTime.now(), null, null, null, null);
+			messages[i] = new DefaultMessage(("progress:" + submissionId).getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(event));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(WATCHERS)
+	public int subscribeMessageUnsubscribe() {
+		for (long id = 1; id <= WATCHERS; id++) {
+			subscriber.subscribeToProgress(id);
+		}
+		for (DefaultMessage message : messages) {
+			subscriber.onMessage(message, PATTERN);
+		}
+		for (long id = 1; id <= WATCHERS; id++) {
+			subscriber.unsubscribeFromProgress(id);
+		}
+
+		return subscriber.activeSubscriptionCount();
+	}
+}
@@ -0,0 +1,66 @@
+package algomarket.problemservice.adapter.security;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.ServletException;
+
+// 여러 요청 스레드가 같은 필터를 동시에 통과할 때의 처리량
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class JwtAuthenticationFilterBenchmark {
+
+	static final int USERS = 1_000;
+
+	@Param({"false", "true"})
+	boolean cacheEnabled;
+
+	JwtAuthenticationFilter jwtAuthenticationFilter;
+	String[] authorizations = new String[USERS];
+
+	@Setup
+	public void setUp() {
+		String key = Base64.getEncoder().encodeToString(Jwts.SIG.HS256.key().build().getEncoded());
+		JwtManager jwtManager = JwtManagerBenchmark.create(key, cacheEnabled);
+
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtManager);
+		for (int i = 0; i < USERS; i++) {
+			authorizations[i] = "Bearer " + jwtManager.createToken("user" + i);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Request {
+		int next;
+	}
+
+	@Benchmark
+	public Object doFilter(Request state) throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/problems");
+		request.addHeader("Authorization", authorizations[state.next++ % USERS]);
+
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		SecurityContextHolder.clearContext();
+
+		return principal;
+	}
+}
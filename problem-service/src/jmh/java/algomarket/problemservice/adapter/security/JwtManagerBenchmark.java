@@ -0,0 +1,62 @@
+package algomarket.problemservice.adapter.security;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtManagerBenchmark {
+
+	JwtManager jwtManager;
+	JwtManager cachingJwtManager;
+	String token;
+
+	@Setup
+	public void setUp() {
+		String key = Base64.getEncoder().encodeToString(Jwts.SIG.HS256.key().build().getEncoded());
+
+		jwtManager = create(key, false);
+		cachingJwtManager = create(key, true);
+		token = jwtManager.createToken("username");
+	}
+
+	// 예전 JwtAuthenticationFilter 처럼 두 번 검증하는 경우
+	@Benchmark
+	public String authenticateAndExtractUsername() {
+		jwtManager.authenticate(token);
+
+		return jwtManager.extractUsername(token);
+	}
+
+	@Benchmark
+	public String verify() {
+		return jwtManager.verify(token);
+	}
+
+	@Benchmark
+	public String verifyCached() {
+		return cachingJwtManager.verify(token);
+	}
+
+	static JwtManager create(String key, boolean cacheEnabled) {
+		JwtManager jwtManager = new JwtManager();
+		ReflectionTestUtils.setField(jwtManager, "key", key);
+		ReflectionTestUtils.setField(jwtManager, "cacheEnabled", cacheEnabled);
+		ReflectionTestUtils.setField(jwtManager, "cacheMaximumSize", 10_000L);
+		jwtManager.init();
+
+		return jwtManager;
+	}
+}
@@ -0,0 +1,30 @@
+package algomarket.problemservice.adapter.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileCategoryBenchmark {
+
+	@Param({"diagram of input.png", "1.in"})
+	String fileName;
+
+	@Benchmark
+	public FileCategory findByFileName() {
+		return FileCategory.findByFileName(fileName);
+	}
+
+	@Benchmark
+	public String createKey() {
+		return FileCategory.findByFileName(fileName).createKey(1000L, fileName);
+	}
+}
@@ -0,0 +1,82 @@
+package algomarket.problemservice.application.event;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+	// 스프링 부트가 만드는 ObjectMapper 와 같은 모듈 구성
+	ObjectMapper objectMapper;
+
+	SubmittedEvent submittedEvent;
+	ProgressEvent progressEvent;
+	JudgedEvent judgedEvent;
+
+	String submittedEventJson;
+	String progressEventJson;
+	String judgedEventJson;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		String sourceCode = "import java.util.*;\n\npublic class Main {\n\tpublic static void main(String[] args) {\n\t\tSystem.out.println(1);\n\t}\n}\n".repeat(20);
+		long now = System.currentTimeMillis();
+		String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+		submittedEvent = new SubmittedEvent(1L, 1000L, "username", sourceCode, null, null, Language.JAVA, 1.0, 256, traceId, now, now);
+		progressEvent = new ProgressEvent(1L, "username", SubmitStatus.JUDGING, 40, 4, 10, LocalDateTime.now(), null, null, traceId, now);
+		judgedEvent = new JudgedEvent(1L, 1000L, "username", SubmitStatus.ACCEPTED, 120, 14_336, traceId, now, now, now, now, now, now);
+
+		submittedEventJson = objectMapper.writeValueAsString(submittedEvent);
+		progressEventJson = objectMapper.writeValueAsString(progressEvent);
+		judgedEventJson = objectMapper.writeValueAsString(judgedEvent);
+	}
+
+	@Benchmark
+	public String serializeSubmittedEvent() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(submittedEvent);
+	}
+
+	@Benchmark
+	public SubmittedEvent deserializeSubmittedEvent() throws JsonProcessingException {
+		return objectMapper.readValue(submittedEventJson, SubmittedEvent.class);
+	}
+
+	@Benchmark
+	public String serializeProgressEvent() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(progressEvent);
+	}
+
+	@Benchmark
+	public ProgressEvent deserializeProgressEvent() throws JsonProcessingException {
+		return objectMapper.readValue(progressEventJson, ProgressEvent.class);
+	}
+
+	@Benchmark
+	public String serializeJudgedEvent() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(judgedEvent);
+	}
+
+	@Benchmark
+	public JudgedEvent deserializeJudgedEvent() throws JsonProcessingException {
+		return objectMapper.readValue(judgedEventJson, JudgedEvent.class);
+	}
+}
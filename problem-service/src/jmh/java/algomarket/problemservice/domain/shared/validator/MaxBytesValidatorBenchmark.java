@@ -0,0 +1,46 @@
+package algomarket.problemservice.domain.shared.validator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import algomarket.problemservice.domain.shared.annotation.MaxBytes;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaxBytesValidatorBenchmark {
+
+	static final int INPUT_BYTES = 256 * 1024;
+
+	// ASCII 만 있는 코드와 한글 주석이 섞인 코드 (한글은 UTF-8 로 3바이트)
+	@Param({"ascii", "korean"})
+	String content;
+
+	MaxBytesValidator validator;
+	String sourceCode;
+
+	@Setup
+	public void setUp() throws NoSuchFieldException {
+		MaxBytes maxBytes = SubmitRequest.class.getDeclaredField("sourceCode").getAnnotation(MaxBytes.class);
+		validator = new MaxBytesValidator();
+		validator.initialize(maxBytes);
+
+		String unit = content.equals("ascii") ? "a" : "가";
+		int unitBytes = content.equals("ascii") ? 1 : 3;
+		sourceCode = unit.repeat(INPUT_BYTES / unitBytes);
+	}
+
+	@Benchmark
+	public boolean isValid() {
+		return validator.isValid(sourceCode, null);
+	}
+}
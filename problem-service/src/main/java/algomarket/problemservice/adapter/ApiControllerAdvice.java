@@ -4,15 +4,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import algomarket.problemservice.adapter.lock.DistributedLockException;
+import algomarket.problemservice.adapter.ratelimit.RateLimitExceededException;
 import algomarket.problemservice.adapter.storage.UnsupportedFileExtensionException;
 import algomarket.problemservice.application.NotFoundException;
+import algomarket.problemservice.application.SubmissionOverloadedException;
 import algomarket.problemservice.domain.member.DuplicateEmailException;
 import algomarket.problemservice.domain.member.DuplicateUsernameException;
 import algomarket.problemservice.domain.member.PasswordOrUsernameMismatchException;
@@ -97,6 +101,31 @@ public class ApiControllerAdvice {
 		return getProblemDetail(ex, HttpStatus.CONFLICT, "서버 내에서 동시 처리가 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
 	}
 
+	@ExceptionHandler(SubmissionOverloadedException.class)
+	public ResponseEntity<ProblemDetail> handleSubmissionOverloaded(SubmissionOverloadedException ex) {
+		log.warn(ex.getMessage());
+
+		ProblemDetail problemDetail = getProblemDetail(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+		problemDetail.setProperty("retryAfterSeconds", ex.getRetryAfterSeconds());
+		problemDetail.setProperty("estimatedWaitSeconds", ex.getEstimatedWaitSeconds());
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+			.body(problemDetail);
+	}
+
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<ProblemDetail> handleRateLimitExceeded(RateLimitExceededException ex) {
+		log.warn(ex.getMessage());
+
+		ProblemDetail problemDetail = getProblemDetail(ex, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + ex.getRetryAfterSeconds() + "초 후 다시 시도해주세요.");
+		problemDetail.setProperty("retryAfterSeconds", ex.getRetryAfterSeconds());
+
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+			.body(problemDetail);
+	}
+
 	@ExceptionHandler(InsufficientTestCasesException.class)
 	public ProblemDetail handleInsufficientTestCases(InsufficientTestCasesException ex) {
 		log.error(ex.getMessage(), ex);
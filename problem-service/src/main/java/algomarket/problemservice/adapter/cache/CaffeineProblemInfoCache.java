@@ -0,0 +1,176 @@
+package algomarket.problemservice.adapter.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.domain.problem.ProblemInfoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class CaffeineProblemInfoCache implements ProblemInfoCache, MessageListener {
+
+	static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("problem-cache:invalidate");
+
+	private static final String NUMBER_KEY_PREFIX = "number:";
+	private static final String TITLE_KEY_PREFIX = "title:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+	private final Cache<String, ProblemInfoResponse> cache;
+
+	public CaffeineProblemInfoCache(
+		RedisTemplate<String, Object> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${problem.cache.max-size:10000}") long maxSize,
+		@Value("${problem.cache.ttl-seconds:300}") long ttlSeconds
+	) {
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.objectMapper = objectMapper;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "problemInfo");
+	}
+
+	@PostConstruct
+	public void init() {
+		redisMessageListenerContainer.addMessageListener(this, INVALIDATION_TOPIC);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		redisMessageListenerContainer.removeMessageListener(this, INVALIDATION_TOPIC);
+	}
+
+	@Override
+	public ProblemInfoResponse getByNumber(Long problemNumber, Supplier<ProblemInfoResponse> loader) {
+		return getOrLoad(NUMBER_KEY_PREFIX + problemNumber, loader);
+	}
+
+	@Override
+	public ProblemInfoResponse getByTitle(String title, Supplier<ProblemInfoResponse> loader) {
+		return getOrLoad(TITLE_KEY_PREFIX + title, loader);
+	}
+
+	@Override
+	public void evict(Long problemNumber, String title) {
+		List<String> keys = new ArrayList<>(2);
+		if (problemNumber != null) {
+			keys.add(NUMBER_KEY_PREFIX + problemNumber);
+		}
+		if (title != null) {
+			keys.add(TITLE_KEY_PREFIX + title);
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			broadcastEviction(keys);
+			return;
+		}
+
+		// 커밋 전에 지우면 다른 노드가 이전 값을 다시 읽어 캐시할 수 있다
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				broadcastEviction(keys);
+			}
+		});
+	}
+
+	// 제출 수 반영처럼 이미 커밋된 변경에 쓴다. 제목 키는 각 노드가 자기 캐시에서 찾아 함께 지운다
+	@Override
+	public void evictNumbers(Collection<Long> problemNumbers) {
+		if (problemNumbers.isEmpty()) {
+			return;
+		}
+
+		broadcastEviction(problemNumbers.stream().map(problemNumber -> NUMBER_KEY_PREFIX + problemNumber).toList());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			List<String> keys = objectMapper.readValue(message.getBody(), new TypeReference<>() {});
+			invalidate(keys);
+		} catch (Exception e) {
+			log.error("Failed to handle problem cache invalidation message", e);
+		}
+	}
+
+	long estimatedSize() {
+		return cache.estimatedSize();
+	}
+
+	private ProblemInfoResponse getOrLoad(String key, Supplier<ProblemInfoResponse> loader) {
+		ProblemInfoResponse cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		ProblemInfoResponse loaded = loader.get();
+
+		// 공개된 문제만 캐시한다. 임시저장 문제는 수정될 수 있고 번호도 없다
+		if (loaded != null && loaded.problemNumber() != null) {
+			cache.put(NUMBER_KEY_PREFIX + loaded.problemNumber(), loaded);
+			cache.put(TITLE_KEY_PREFIX + loaded.title(), loaded);
+		}
+
+		return loaded;
+	}
+
+	private void invalidate(List<String> keys) {
+		List<String> allKeys = new ArrayList<>(keys);
+		for (String key : keys) {
+			// asMap 조회는 적중률 통계에 잡히지 않는다
+			ProblemInfoResponse cached = key.startsWith(NUMBER_KEY_PREFIX) ? cache.asMap().get(key) : null;
+			if (cached != null) {
+				allKeys.add(TITLE_KEY_PREFIX + cached.title());
+			}
+		}
+
+		cache.invalidateAll(allKeys);
+	}
+
+	private void broadcastEviction(List<String> keys) {
+		invalidate(keys);
+
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), objectMapper.writeValueAsString(keys));
+		} catch (JsonProcessingException e) {
+			log.error("Failed to serialize problem cache invalidation keys: {}", keys, e);
+		} catch (Exception e) {
+			log.error("Failed to publish problem cache invalidation for keys: {}", keys, e);
+		}
+	}
+}
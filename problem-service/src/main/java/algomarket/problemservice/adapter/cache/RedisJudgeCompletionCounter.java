@@ -0,0 +1,64 @@
+package algomarket.problemservice.adapter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.required.JudgeCompletionCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 채점 결과를 반영한 노드가 커밋 뒤에 INCRBY 로 더한다. 값은 정수 문자열이므로 직렬화기를 거치지 않고 바이트로 읽고 쓴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJudgeCompletionCounter implements JudgeCompletionCounter {
+
+	private static final byte[] KEY = "judge:completed".getBytes(StandardCharsets.UTF_8);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	@Override
+	public void add(int count) {
+		if (count <= 0) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			increment(count);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				increment(count);
+			}
+		});
+	}
+
+	@Override
+	public OptionalLong total() {
+		try {
+			byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(KEY));
+
+			return OptionalLong.of(value == null ? 0 : Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+		} catch (Exception e) {
+			log.warn("Failed to read judge completion count", e);
+			return OptionalLong.empty();
+		}
+	}
+
+	private void increment(int count) {
+		try {
+			redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().incrBy(KEY, count));
+		} catch (Exception e) {
+			log.warn("Failed to add judge completion count: {}", count, e);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package algomarket.problemservice.adapter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 해결한 문제 번호를 Redis 비트맵(solved:{username})의 비트로 저장한다.
+// 문제 번호는 1부터 시작하므로 0번 비트는 DB에서 채워 넣었는지를 나타내는 표시로 쓴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSolvedProblemStore implements SolvedProblemStore {
+
+	private static final String KEY_PREFIX = "solved:";
+	private static final long INITIALIZED_BIT = 0L;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	@Override
+	public Optional<Set<Long>> findSolvedAmong(String username, Collection<Long> problemNumbers) {
+		byte[] bitmap;
+		try {
+			bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key(username)));
+		} catch (Exception e) {
+			log.warn("Failed to read solved bitmap for user: {}", username, e);
+			return Optional.empty();
+		}
+
+		if (bitmap == null || !isSet(bitmap, INITIALIZED_BIT)) {
+			return Optional.empty();
+		}
+
+		Set<Long> solved = new HashSet<>();
+		for (Long problemNumber : problemNumbers) {
+			if (problemNumber != null && isSet(bitmap, problemNumber)) {
+				solved.add(problemNumber);
+			}
+		}
+
+		return Optional.of(solved);
+	}
+
+	@Override
+	public void initialize(String username, Collection<Long> solvedProblemNumbers) {
+		byte[] key = key(username);
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (Long problemNumber : solvedProblemNumbers) {
+					connection.stringCommands().setBit(key, problemNumber, true);
+				}
+				connection.stringCommands().setBit(key, INITIALIZED_BIT, true);
+
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("Failed to initialize solved bitmap for user: {}", username, e);
+		}
+	}
+
+	@Override
+	public void markSolved(String username, Long problemNumber) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			setBit(username, problemNumber);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				setBit(username, problemNumber);
+			}
+		});
+	}
+
+	private void setBit(String username, Long problemNumber) {
+		try {
+			redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().setBit(key(username), problemNumber, true));
+		} catch (Exception e) {
+			// 비트를 놓쳐도 다음 ACCEPTED 또는 표시 비트 삭제 후 재구성으로 복구된다
+			log.warn("Failed to mark problem {} solved for user: {}", problemNumber, username, e);
+		}
+	}
+
+	// Redis 비트맵은 바이트 안에서 최상위 비트가 오프셋 0이다
+	private static boolean isSet(byte[] bitmap, long offset) {
+		int byteIndex = (int) (offset >>> 3);
+		if (byteIndex >= bitmap.length) {
+			return false;
+		}
+
+		return (bitmap[byteIndex] & (0x80 >>> (offset & 7))) != 0;
+	}
+
+	private static byte[] key(String username) {
+		return (KEY_PREFIX + username).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,183 @@
+package algomarket.problemservice.adapter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.required.VerdictCache;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import algomarket.problemservice.domain.submission.VerdictKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 채점 결과는 VERDICT:{problemId}:{language}:{revision}:{sha256} 에 "제출 id|상태|실행 시간|메모리" 로 저장한다.
+// revision 이 키에 들어가므로 제한이나 채점 데이터가 바뀌면 이전 결과는 더 이상 조회되지 않고 TTL 로 사라진다.
+// 채점 중인 제출은 VERDICT-PENDING:{submissionId} 에 자신의 키를 들고 있다가 결과가 오면 꺼내 쓴다
+@Slf4j
+@Component
+public class RedisVerdictCache implements VerdictCache {
+
+	private static final String KEY_PREFIX = "VERDICT:";
+	private static final String PENDING_KEY_PREFIX = "VERDICT-PENDING:";
+	private static final String SEPARATOR = "|";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final boolean enabled;
+	private final Duration ttl;
+	private final Duration pendingTtl;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter errorCounter;
+
+	public RedisVerdictCache(
+		RedisTemplate<String, Object> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${submission.verdict-cache.enabled:true}") boolean enabled,
+		@Value("${submission.verdict-cache.ttl-hours:24}") long ttlHours,
+		@Value("${submission.verdict-cache.pending-ttl-minutes:30}") long pendingTtlMinutes
+	) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.pendingTtl = Duration.ofMinutes(pendingTtlMinutes);
+		this.hitCounter = lookupCounter(meterRegistry, "hit");
+		this.missCounter = lookupCounter(meterRegistry, "miss");
+		this.errorCounter = lookupCounter(meterRegistry, "error");
+
+		Gauge.builder("submission.verdict.cache.hit.ratio", this, RedisVerdictCache::hitRatio)
+			.description("같은 코드의 재제출을 채점 없이 끝낸 비율")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Optional<SubmissionVerdict> find(VerdictKey verdictKey) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		Object cached;
+		try {
+			cached = redisTemplate.opsForValue().get(key(verdictKey));
+		} catch (Exception e) {
+			errorCounter.increment();
+			log.warn("Failed to read verdict cache for problem {}", verdictKey.problemId(), e);
+			return Optional.empty();
+		}
+
+		if (cached == null) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+
+		hitCounter.increment();
+		return Optional.of(deserialize((String) cached));
+	}
+
+	@Override
+	public void reserve(Long submissionId, VerdictKey verdictKey) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			redisTemplate.opsForValue().set(PENDING_KEY_PREFIX + submissionId, key(verdictKey), pendingTtl);
+		} catch (Exception e) {
+			log.warn("Failed to reserve verdict cache for submission {}", submissionId, e);
+		}
+	}
+
+	@Override
+	public void complete(List<SubmissionVerdict> verdicts) {
+		if (!enabled || verdicts.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			store(verdicts);
+			return;
+		}
+
+		// 롤백된 결과를 다른 제출에 내주지 않도록 커밋된 뒤에 저장한다
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				store(verdicts);
+			}
+		});
+	}
+
+	double hitRatio() {
+		double lookups = hitCounter.count() + missCounter.count() + errorCounter.count();
+
+		return lookups == 0 ? 0.0 : hitCounter.count() / lookups;
+	}
+
+	// 채점 결과마다 묶어 둔 키를 꺼내고(GETDEL), 다시 쓸 수 있는 결과만 한 번의 파이프라인으로 저장한다
+	private void store(List<SubmissionVerdict> verdicts) {
+		try {
+			List<Object> verdictKeys = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (SubmissionVerdict verdict : verdicts) {
+					connection.stringCommands().getDel(bytes(PENDING_KEY_PREFIX + verdict.submissionId()));
+				}
+
+				return null;
+			});
+
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (int i = 0; i < verdicts.size(); i++) {
+					SubmissionVerdict verdict = verdicts.get(i);
+					if (verdictKeys.get(i) != null && verdict.isReusable()) {
+						connection.stringCommands().set(bytes((String) verdictKeys.get(i)), bytes(serialize(verdict)),
+							Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+					}
+				}
+
+				return null;
+			});
+		} catch (Exception e) {
+			// 놓쳐도 다음 같은 제출이 다시 채점되어 채워진다
+			log.warn("Failed to store {} verdicts into verdict cache", verdicts.size(), e);
+		}
+	}
+
+	private static String key(VerdictKey verdictKey) {
+		return KEY_PREFIX + verdictKey.problemId() + ":" + verdictKey.language() + ":" + verdictKey.revision() + ":" + verdictKey.sourceHash();
+	}
+
+	private static String serialize(SubmissionVerdict verdict) {
+		return verdict.submissionId() + SEPARATOR + verdict.submitStatus() + SEPARATOR
+			+ (verdict.runtimeMs() == null ? "" : verdict.runtimeMs()) + SEPARATOR
+			+ (verdict.memoryKb() == null ? "" : verdict.memoryKb());
+	}
+
+	private static SubmissionVerdict deserialize(String value) {
+		String[] fields = value.split("\\|", -1);
+
+		return SubmissionVerdict.of(Long.valueOf(fields[0]), SubmitStatus.valueOf(fields[1]),
+			fields[2].isEmpty() ? null : Integer.valueOf(fields[2]), fields[3].isEmpty() ? null : Integer.valueOf(fields[3]));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("submission.verdict.cache")
+			.description("채점 결과 캐시 조회 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -17,4 +17,7 @@ public @interface DistributedLock {
 	long waitTime() default 5L;
 
 	long leaseTime() default 3L;
+
+	// true 면 leaseTime 대신 Redisson watchdog 이 트랜잭션이 끝날 때까지 락을 연장하고, FencingToken 으로 펜싱 토큰을 넘긴다
+	boolean watchdog() default false;
 }
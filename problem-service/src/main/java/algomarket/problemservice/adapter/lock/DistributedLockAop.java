@@ -1,6 +1,8 @@
 package algomarket.problemservice.adapter.lock;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -8,9 +10,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -23,49 +23,74 @@ import lombok.extern.slf4j.Slf4j;
 public class DistributedLockAop {
 
 	private static final String REDISSON_LOCK_PREFIX = "LOCK:";
+	private static final String FENCING_TOKEN_PREFIX = "FENCE:";
+	private static final long WATCHDOG_LEASE = -1L;
 
 	private final RedissonClient redissonClient;
 	private final AopForTransaction aopForTransaction;
+	private final LockMetrics lockMetrics;
+	private final Map<Method, LockMetadata> lockMetadataCache = new ConcurrentHashMap<>();
+
+	@Value("${distributed-lock.metadata-cache.enabled:true}")
+	private boolean metadataCacheEnabled = true;
 
 	@Around("@annotation(algomarket.problemservice.adapter.lock.DistributedLock)")
 	public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
 		MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 		Method method = signature.getMethod();
-		DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+		LockMetadata lockMetadata = getLockMetadata(signature);
+		DistributedLock distributedLock = lockMetadata.distributedLock();
 
-		String key = REDISSON_LOCK_PREFIX + getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+		String key = REDISSON_LOCK_PREFIX + lockMetadata.resolveKey(joinPoint.getArgs());
 		RLock rLock = redissonClient.getLock(key);
 
-		boolean lockAcquired = false;
+		String pattern = distributedLock.key();
+		long leaseTime = distributedLock.watchdog() ? WATCHDOG_LEASE : distributedLock.leaseTime();
+		LockMetrics.HeldLock heldLock = null;
 		try {
-			lockAcquired = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
+			long waitStart = System.nanoTime();
+			boolean lockAcquired = rLock.tryLock(distributedLock.waitTime(), leaseTime, distributedLock.timeUnit());
+			lockMetrics.recordWait(pattern, System.nanoTime() - waitStart, lockAcquired);
+
 			if (!lockAcquired) {
 				throw new DistributedLockException("Failed to acquire lock for key: " + key);
 			}
 
-			return aopForTransaction.proceed(joinPoint);
+			heldLock = lockMetrics.acquired(key, pattern, method.getName(), distributedLock.timeUnit().toNanos(leaseTime));
+
+			if (!distributedLock.watchdog()) {
+				return aopForTransaction.proceed(joinPoint);
+			}
+
+			// 락이 끊겼다가 다른 노드로 넘어가도 쓰기 쪽에서 이전 보유자를 가려낼 수 있도록 번호를 붙인다
+			Long previousToken = FencingToken.set(redissonClient.getAtomicLong(FENCING_TOKEN_PREFIX + key).incrementAndGet());
+			try {
+				return aopForTransaction.proceed(joinPoint);
+			} finally {
+				FencingToken.restore(previousToken);
+			}
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 			throw new DistributedLockException("Thread interrupted while waiting for lock: " + key, e);
 		} finally {
-			if (lockAcquired) {
+			if (heldLock != null) {
+				boolean leaseLost = false;
 				try {
 					rLock.unlock();
 				} catch (IllegalMonitorStateException e) {
+					leaseLost = true;
 					log.warn("Redisson Lock Already UnLock {} {}", method.getName(), key);
 				}
+				lockMetrics.released(heldLock, leaseLost);
 			}
 		}
 	}
 
-	private Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-		ExpressionParser parser = new SpelExpressionParser();
-		StandardEvaluationContext context = new StandardEvaluationContext();
-
-		for (int i = 0; i < parameterNames.length; i++) {
-			context.setVariable(parameterNames[i], args[i]);
+	private LockMetadata getLockMetadata(MethodSignature signature) {
+		if (!metadataCacheEnabled) {
+			return LockMetadata.of(signature.getMethod(), signature.getParameterNames());
 		}
 
-		return parser.parseExpression(key).getValue(context, Object.class);
+		return lockMetadataCache.computeIfAbsent(signature.getMethod(), method -> LockMetadata.of(method, signature.getParameterNames()));
 	}
 }
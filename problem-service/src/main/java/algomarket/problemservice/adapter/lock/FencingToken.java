@@ -0,0 +1,30 @@
+package algomarket.problemservice.adapter.lock;
+
+// watchdog 모드 락을 잡은 동안 현재 스레드에 걸리는 펜싱 토큰. 같은 락 키 안에서 단조 증가한다
+public final class FencingToken {
+
+	private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+	private FencingToken() {
+	}
+
+	// 락 밖에서 호출되거나 watchdog 모드가 아니면 null
+	public static Long current() {
+		return CURRENT.get();
+	}
+
+	static Long set(Long token) {
+		Long previous = CURRENT.get();
+		CURRENT.set(token);
+
+		return previous;
+	}
+
+	static void restore(Long previous) {
+		if (previous == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package algomarket.problemservice.adapter.lock;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// /actuator/locks - 이 노드에서 지금 쥐고 있는 분산 락 목록
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class HeldLocksEndpoint {
+
+	private final LockMetrics lockMetrics;
+
+	@ReadOperation
+	public List<LockMetrics.HeldLockView> heldLocks() {
+		return lockMetrics.heldLocks();
+	}
+}
@@ -0,0 +1,49 @@
+package algomarket.problemservice.adapter.lock;
+
+import java.lang.reflect.Method;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+// 메서드마다 한 번만 만들어 두는 락 정보. 키 표현식은 파싱해 두고 가능하면 바이트코드로 컴파일한다
+record LockMetadata(
+	DistributedLock distributedLock,
+	String[] parameterNames,
+	Expression keyExpression,
+	String constantKey
+) {
+
+	private static final SpelExpressionParser PARSER =
+		new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, LockMetadata.class.getClassLoader()));
+
+	static LockMetadata of(Method method, String[] parameterNames) {
+		DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+		Expression keyExpression = PARSER.parseExpression(distributedLock.key());
+
+		// 'makePublic' 처럼 리터럴 하나뿐인 키는 호출마다 평가할 필요가 없다
+		if (keyExpression instanceof SpelExpression spelExpression && spelExpression.getAST() instanceof Literal literal) {
+			return new LockMetadata(distributedLock, parameterNames, null, String.valueOf(literal.getLiteralValue().getValue()));
+		}
+
+		return new LockMetadata(distributedLock, parameterNames, keyExpression, null);
+	}
+
+	String resolveKey(Object[] args) {
+		if (constantKey != null) {
+			return constantKey;
+		}
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+
+		for (int i = 0; i < parameterNames.length; i++) {
+			context.setVariable(parameterNames[i], args[i]);
+		}
+
+		return String.valueOf(keyExpression.getValue(context, Object.class));
+	}
+}
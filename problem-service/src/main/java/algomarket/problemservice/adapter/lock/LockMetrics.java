@@ -0,0 +1,115 @@
+package algomarket.problemservice.adapter.lock;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 락 키 패턴(@DistributedLock.key 표현식) 단위로 대기/점유 시간, 획득 실패, lease 초과를 기록하고 이 노드가 쥔 락을 보관한다
+@Slf4j
+@Component
+public class LockMetrics {
+
+	private static final String PATTERN_TAG = "pattern";
+
+	private final MeterRegistry meterRegistry;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<Long, HeldLock> heldLocks = new ConcurrentHashMap<>();
+
+	public LockMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		Gauge.builder("distributed.lock.held", heldLocks, Map::size)
+			.description("이 노드가 현재 쥐고 있는 분산 락 수")
+			.register(meterRegistry);
+	}
+
+	public void recordWait(String pattern, long waitNanos, boolean acquired) {
+		Timer.builder("distributed.lock.wait")
+			.tag(PATTERN_TAG, pattern)
+			.tag("outcome", acquired ? "acquired" : "timeout")
+			.register(meterRegistry)
+			.record(waitNanos, TimeUnit.NANOSECONDS);
+
+		if (!acquired) {
+			Counter.builder("distributed.lock.timeouts")
+				.tag(PATTERN_TAG, pattern)
+				.register(meterRegistry)
+				.increment();
+		}
+	}
+
+	public HeldLock acquired(String key, String pattern, String method, long leaseNanos) {
+		HeldLock heldLock = new HeldLock(sequence.incrementAndGet(), key, pattern, method, Thread.currentThread().getName(),
+			System.nanoTime(), leaseNanos);
+		heldLocks.put(heldLock.id(), heldLock);
+
+		return heldLock;
+	}
+
+	// unlock 시점에 이미 lease 가 끝나 있었다면 그 사이 다른 노드가 같은 락을 잡았을 수 있다
+	public void released(HeldLock heldLock, boolean leaseLost) {
+		heldLocks.remove(heldLock.id());
+
+		long holdNanos = System.nanoTime() - heldLock.acquiredAtNanos();
+		Timer.builder("distributed.lock.hold")
+			.tag(PATTERN_TAG, heldLock.pattern())
+			.register(meterRegistry)
+			.record(holdNanos, TimeUnit.NANOSECONDS);
+
+		if (leaseLost || heldLock.isOverLease(holdNanos)) {
+			Counter.builder("distributed.lock.lease.overruns")
+				.tag(PATTERN_TAG, heldLock.pattern())
+				.register(meterRegistry)
+				.increment();
+
+			log.warn("Distributed lock held past its lease: key={}, method={}, heldMs={}, leaseMs={}",
+				heldLock.key(), heldLock.method(), Duration.ofNanos(holdNanos).toMillis(), Duration.ofNanos(heldLock.leaseNanos()).toMillis());
+		}
+	}
+
+	public List<HeldLockView> heldLocks() {
+		long now = System.nanoTime();
+
+		return heldLocks.values().stream()
+			.sorted(Comparator.comparingLong(HeldLock::acquiredAtNanos))
+			.map(heldLock -> HeldLockView.of(heldLock, now))
+			.toList();
+	}
+
+	public record HeldLock(
+		long id,
+		String key,
+		String pattern,
+		String method,
+		String thread,
+		long acquiredAtNanos,
+		long leaseNanos
+	) {
+		// leaseTime 이 0 이하면 만료 없이 잡은 락이다
+		boolean isOverLease(long holdNanos) {
+			return leaseNanos > 0 && holdNanos > leaseNanos;
+		}
+	}
+
+	public record HeldLockView(String key, String pattern, String method, String thread, long heldMs, long leaseMs, boolean overLease) {
+
+		static HeldLockView of(HeldLock heldLock, long now) {
+			long holdNanos = now - heldLock.acquiredAtNanos();
+
+			return new HeldLockView(heldLock.key(), heldLock.pattern(), heldLock.method(), heldLock.thread(),
+				Duration.ofNanos(holdNanos).toMillis(), Duration.ofNanos(heldLock.leaseNanos()).toMillis(), heldLock.isOverLease(holdNanos));
+		}
+	}
+}
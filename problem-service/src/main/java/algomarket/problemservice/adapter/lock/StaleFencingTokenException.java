@@ -0,0 +1,8 @@
+package algomarket.problemservice.adapter.lock;
+
+public class StaleFencingTokenException extends DistributedLockException {
+
+	public StaleFencingTokenException(String message) {
+		super(message);
+	}
+}
@@ -1,10 +1,16 @@
 package algomarket.problemservice.adapter.messaging;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -14,8 +20,13 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableScheduling
 public class AsyncConfig {
 
+	// spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 아래 실행기들도 가상 스레드로 전환된다
 	@Bean(name = "threadPoolExecutor")
-	public Executor threadPoolExecutor() {
+	public Executor threadPoolExecutor(Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			return virtualThreadExecutor("async-", environment.getProperty("async.virtual.concurrency-limit", Integer.class, 500));
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(2);
 		executor.setMaxPoolSize(5);
@@ -28,4 +39,51 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	@Bean(name = "progressTimeoutScheduler", destroyMethod = "shutdownNow")
+	public ScheduledExecutorService progressTimeoutScheduler(Environment environment) {
+		ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+			? Thread.ofVirtual().name("progress-timeout-", 0).factory()
+			: Thread.ofPlatform().name("progress-timeout-", 0).daemon().factory();
+
+		return Executors.newScheduledThreadPool(2, threadFactory);
+	}
+
+	// 진행 이벤트 합치기(ProgressCoalescer)의 flush 시점만 알리는 스케줄러. SSE 쓰기는 progressFlushExecutor 에서 한다
+	@Bean(name = "progressFlushScheduler", destroyMethod = "shutdownNow")
+	public ScheduledExecutorService progressFlushScheduler(Environment environment) {
+		ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+			? Thread.ofVirtual().name("progress-flush-scheduler-", 0).factory()
+			: Thread.ofPlatform().name("progress-flush-scheduler-", 0).daemon().factory();
+
+		return Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	@Bean(name = "progressFlushExecutor")
+	public Executor progressFlushExecutor(Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			return virtualThreadExecutor("progress-flush-", environment.getProperty("sse.progress.flush-concurrency-limit", Integer.class, 200));
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(1_000);
+		executor.setThreadNamePrefix("progress-flush-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+		executor.initialize();
+		return executor;
+	}
+
+	static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		executor.setConcurrencyLimit(concurrencyLimit);
+		executor.setTaskTerminationTimeout(10_000);
+
+		return executor;
+	}
 }
@@ -0,0 +1,19 @@
+package algomarket.problemservice.adapter.messaging;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.provided.SubmissionAdmissionSampler;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class JudgeBacklogSampleScheduler {
+
+	private final SubmissionAdmissionSampler submissionAdmissionSampler;
+
+	@Scheduled(fixedDelayString = "${submission.admission.sample-interval-ms:5000}")
+	public void sampleJudgeBacklog() {
+		submissionAdmissionSampler.sampleJudgeBacklog();
+	}
+}
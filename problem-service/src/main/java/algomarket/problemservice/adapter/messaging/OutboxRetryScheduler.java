@@ -1,5 +1,6 @@
 package algomarket.problemservice.adapter.messaging;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,12 +13,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OutboxRetryScheduler {
 
+	@Value("${outbox.relay.max-batches-per-run:10}")
+	private int maxBatchesPerRun;
+
 	private final OutboxRetryHandler outboxRetryHandler;
 
 	@Scheduled(fixedDelayString = "${outbox.retry.interval-ms}", initialDelay = 10_000)
 	public void retryPendingEvents() {
 		log.debug("Starting outbox retry job");
 
-		outboxRetryHandler.retryPendingEvents();
+		// 배치마다 트랜잭션이 끝나며 잠금이 풀리므로, 밀린 메시지가 남아있는 동안 이어서 가져온다
+		for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+			if (outboxRetryHandler.retryPendingEvents() == 0) {
+				return;
+			}
+		}
 	}
 }
@@ -0,0 +1,190 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import algomarket.problemservice.application.event.ProgressEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 채점 서버는 테스트 케이스마다 진행 이벤트를 보내므로, 제출마다 간격(interval)당 최대 한 번만 내보낸다.
+// 첫 이벤트는 바로 내보내고 간격 안에 들어온 이벤트는 가장 최신 것만 남겨 간격이 끝날 때 내보낸다.
+// 채점 완료 이벤트는 기다리지 않고, 남아 있던 최신 진행 이벤트를 먼저 내보낸 뒤 바로 내보낸다
+@Component
+public class ProgressCoalescer {
+
+	// 완료 뒤 늦게 도착한 진행 이벤트가 새 간격을 열어 남지 않도록 완료된 제출을 잠시 기억한다
+	private static final Duration COMPLETED_RETENTION = Duration.ofMinutes(1);
+
+	private final ApplicationEventPublisher eventPublisher;
+	private final ScheduledExecutorService flushScheduler;
+	private final Executor flushExecutor;
+	private final long intervalNanos;
+	private final Counter receivedCounter;
+	private final Counter emittedCounter;
+	private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+	private final Cache<Long, Boolean> completedSubmissions = Caffeine.newBuilder()
+		.expireAfterWrite(COMPLETED_RETENTION)
+		.build();
+
+	public ProgressCoalescer(
+		ApplicationEventPublisher eventPublisher,
+		@Qualifier("progressFlushScheduler") ScheduledExecutorService flushScheduler,
+		@Qualifier("progressFlushExecutor") Executor flushExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${sse.progress.coalesce-interval-ms:250}") long intervalMs
+	) {
+		this.eventPublisher = eventPublisher;
+		this.flushScheduler = flushScheduler;
+		this.flushExecutor = flushExecutor;
+		this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+		this.receivedCounter = Counter.builder("progress.coalescer.events")
+			.description("채점 서버에서 받은 진행 이벤트 수")
+			.tag("direction", "in")
+			.register(meterRegistry);
+		this.emittedCounter = Counter.builder("progress.coalescer.events")
+			.description("합쳐진 뒤 SSE 로 내보낸 진행 이벤트 수")
+			.tag("direction", "out")
+			.register(meterRegistry);
+	}
+
+	public void offer(ProgressEvent progressEvent) {
+		receivedCounter.increment();
+
+		if (intervalNanos <= 0) {
+			publish(progressEvent);
+			return;
+		}
+
+		Long submissionId = progressEvent.submissionId();
+		boolean completed = progressEvent.submitStatus().isCompleted();
+		if (!completed && isCompleted(submissionId)) {
+			return;
+		}
+
+		Window window = windows.computeIfAbsent(submissionId, id -> new Window());
+
+		// 이벤트 발행(SSE 쓰기)까지 잠금 안에서 해야 예약된 flush 가 완료 이벤트보다 늦게 나가지 않는다
+		window.lock.lock();
+		try {
+			if (window.closed) {
+				return;
+			}
+
+			// 완료 확인과 간격 생성 사이에 완료 처리가 끝났다면 방금 연 간격을 닫는다
+			if (!completed && isCompleted(submissionId)) {
+				window.close();
+				windows.remove(submissionId, window);
+				return;
+			}
+
+			if (completed) {
+				ProgressEvent latest = window.latest;
+				window.close();
+				if (latest != null) {
+					publish(latest);
+				}
+				completedSubmissions.put(submissionId, Boolean.TRUE);
+				windows.remove(submissionId, window);
+				publish(progressEvent);
+				return;
+			}
+
+			long now = System.nanoTime();
+			if (window.latest == null && (window.lastEmittedNanos == null || now - window.lastEmittedNanos >= intervalNanos)) {
+				window.lastEmittedNanos = now;
+				publish(progressEvent);
+				return;
+			}
+
+			window.latest = progressEvent;
+			if (window.flushTask == null) {
+				long delay = Math.max(0, window.lastEmittedNanos + intervalNanos - now);
+				// 스케줄러 스레드는 flush 를 넘겨주기만 하고, 막힐 수 있는 SSE 쓰기는 실행기에서 한다
+				window.flushTask = flushScheduler.schedule(() -> flushExecutor.execute(() -> flush(window)), delay, TimeUnit.NANOSECONDS);
+			}
+		} finally {
+			window.lock.unlock();
+		}
+	}
+
+	// 구독이 끝나면(시간 초과 포함) 남은 진행 이벤트를 받을 사람이 없으므로 버린다
+	public void discard(Long submissionId) {
+		Window window = windows.remove(submissionId);
+		if (window == null) {
+			return;
+		}
+
+		window.lock.lock();
+		try {
+			window.close();
+		} finally {
+			window.lock.unlock();
+		}
+	}
+
+	private boolean isCompleted(Long submissionId) {
+		return completedSubmissions.getIfPresent(submissionId) != null;
+	}
+
+	int pendingWindowCount() {
+		return windows.size();
+	}
+
+	private void flush(Window window) {
+		window.lock.lock();
+		try {
+			window.flushTask = null;
+
+			if (window.closed || window.latest == null) {
+				return;
+			}
+
+			ProgressEvent latest = window.latest;
+			window.latest = null;
+			window.lastEmittedNanos = System.nanoTime();
+			publish(latest);
+		} finally {
+			window.lock.unlock();
+		}
+	}
+
+	private void publish(ProgressEvent progressEvent) {
+		emittedCounter.increment();
+		eventPublisher.publishEvent(progressEvent);
+	}
+
+	// SSE 쓰기를 잠금 안에서 하므로 가상 스레드 고정을 피하려고 ReentrantLock 을 쓴다
+	private static class Window {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private Long lastEmittedNanos;
+		private ProgressEvent latest;
+		private ScheduledFuture<?> flushTask;
+		private boolean closed;
+
+		private void close() {
+			closed = true;
+			latest = null;
+
+			if (flushTask != null) {
+				flushTask.cancel(false);
+				flushTask = null;
+			}
+		}
+	}
+}
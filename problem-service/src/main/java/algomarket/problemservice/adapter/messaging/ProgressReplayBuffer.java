@@ -0,0 +1,125 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ProgressReplayBuffer {
+
+	private final int capacity;
+	private final long retentionMs;
+	private final long idleTimeoutMs;
+	private final Map<Long, SubmissionEvents> buffers = new ConcurrentHashMap<>();
+
+	public ProgressReplayBuffer(
+		@Value("${sse.replay.capacity:100}") int capacity,
+		@Value("${sse.replay.retention-ms:60000}") long retentionMs,
+		@Value("${sse.replay.idle-timeout-ms:600000}") long idleTimeoutMs) {
+		this.capacity = capacity;
+		this.retentionMs = retentionMs;
+		this.idleTimeoutMs = idleTimeoutMs;
+	}
+
+	public SubmissionEvents forSubmission(Long submissionId) {
+		return buffers.computeIfAbsent(submissionId, id -> new SubmissionEvents(capacity));
+	}
+
+	@Scheduled(fixedDelayString = "${sse.replay.cleanup-interval-ms:60000}")
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+
+		buffers.entrySet().removeIf(entry -> entry.getValue().isExpired(now, retentionMs, idleTimeoutMs));
+		log.debug("Progress replay buffers after eviction: {}", buffers.size());
+	}
+
+	public record BufferedEvent(long id, String name, Object data) {
+	}
+
+	// 제출 하나에 대한 최근 이벤트 링 버퍼. 기록과 전송 순서를 맞추기 위해 호출자가 lock()으로 감싼다.
+	// 잠금 구간에서 소켓 쓰기가 일어나므로 가상 스레드를 고정(pinning)하지 않도록 synchronized 대신 ReentrantLock 하나로 모든 상태를 보호한다.
+	public static class SubmissionEvents {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final int capacity;
+		private final Deque<BufferedEvent> events;
+		private long lastEventId;
+		private boolean completed;
+		private long lastUpdatedMs = System.currentTimeMillis();
+
+		SubmissionEvents(int capacity) {
+			this.capacity = capacity;
+			this.events = new ArrayDeque<>(capacity);
+		}
+
+		public void lock() {
+			lock.lock();
+		}
+
+		public void unlock() {
+			lock.unlock();
+		}
+
+		public BufferedEvent append(String name, Object data, boolean terminal) {
+			lock.lock();
+			try {
+				if (events.size() == capacity) {
+					events.pollFirst();
+				}
+
+				BufferedEvent event = new BufferedEvent(++lastEventId, name, data);
+				events.addLast(event);
+
+				completed |= terminal;
+				lastUpdatedMs = System.currentTimeMillis();
+
+				return event;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public List<BufferedEvent> eventsAfter(Long lastEventId) {
+			long after = lastEventId == null ? 0 : lastEventId;
+
+			lock.lock();
+			try {
+				return events.stream()
+					.filter(event -> event.id() > after)
+					.toList();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public boolean isCompleted() {
+			lock.lock();
+			try {
+				return completed;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		boolean isExpired(long now, long retentionMs, long idleTimeoutMs) {
+			lock.lock();
+			try {
+				long idleMs = now - lastUpdatedMs;
+
+				return completed ? idleMs > retentionMs : idleMs > idleTimeoutMs;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -2,18 +2,16 @@ package algomarket.problemservice.adapter.messaging;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -21,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import algomarket.problemservice.application.event.ProgressEvent;
 import algomarket.problemservice.application.required.ProgressSubscriber;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,32 +29,36 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RedisProgressSubscriber implements ProgressSubscriber, MessageListener {
 
+	private static final String CHANNEL_PREFIX = "progress:";
+	private static final PatternTopic PROGRESS_TOPIC = new PatternTopic(CHANNEL_PREFIX + "*");
+
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final RedisMessageListenerContainer redisMessageListenerContainer;
-	private final ApplicationEventPublisher eventPublisher;
+	private final ProgressCoalescer progressCoalescer;
 	private final ObjectMapper objectMapper;
+	@Qualifier("progressTimeoutScheduler")
+	private final ScheduledExecutorService scheduledExecutorService;
 
-	private final ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(2);
 	private final Map<Long, ScheduledFuture<?>> timeoutTasks = new ConcurrentHashMap<>();
-	private final Map<Long, MessageListenerAdapter> activeSubscriptions = new ConcurrentHashMap<>();
+	// 노드당 하나의 패턴 구독(progress:*)을 두고, 구독/해지는 Redis 호출 없이 이 로컬 인덱스만 갱신한다.
+	private final Map<Long, Boolean> activeSubscriptions = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		redisMessageListenerContainer.addMessageListener(this, PROGRESS_TOPIC);
+		log.info("Subscribed to Redis pattern: {}", PROGRESS_TOPIC.getTopic());
+	}
 
 	@PreDestroy
 	public void shutdown() {
-		scheduledExecutorService.shutdownNow();
+		redisMessageListenerContainer.removeMessageListener(this, PROGRESS_TOPIC);
 	}
 
 	@Override
 	public void subscribeToProgress(Long submissionId) {
-		String channel = "progress:" + submissionId;
-
-		activeSubscriptions.computeIfAbsent(submissionId, id -> {
-			MessageListenerAdapter listenerAdapter = new MessageListenerAdapter(this, "onMessage");
-			redisMessageListenerContainer.addMessageListener(listenerAdapter, new ChannelTopic(channel));
-
-			log.info("Subscribed to Redis channel: {}", channel);
-
-			return listenerAdapter;
-		});
+		if (activeSubscriptions.putIfAbsent(submissionId, Boolean.TRUE) == null) {
+			log.debug("Started watching progress for submission: {}", submissionId);
+		}
 
 		scheduleInactivityTimeout(submissionId);
 	}
@@ -67,21 +70,25 @@ public class RedisProgressSubscriber implements ProgressSubscriber, MessageListe
 			timeoutTask.cancel(false);
 		}
 
-		MessageListenerAdapter listenerAdapter = activeSubscriptions.remove(submissionId);
-		
-		if (listenerAdapter != null) {
-			String channel = "progress:" + submissionId;
-			redisMessageListenerContainer.removeMessageListener(listenerAdapter, new ChannelTopic(channel));
-			log.info("Unsubscribed from Redis channel: {}", channel);
+		progressCoalescer.discard(submissionId);
+
+		if (activeSubscriptions.remove(submissionId) != null) {
+			log.debug("Stopped watching progress for submission: {}", submissionId);
 		}
 	}
 
 	@Override
 	public void onMessage(Message message, byte[] pattern) {
 		String channel = redisTemplate.getStringSerializer().deserialize(message.getChannel());
+		Long submissionId = extractSubmissionId(channel);
+
+		if (submissionId == null || !activeSubscriptions.containsKey(submissionId)) {
+			return;
+		}
+
 		String body = redisTemplate.getStringSerializer().deserialize(message.getBody());
 
-		log.info("Received message from Redis - Channel: {}, Body: {}", channel, body);
+		log.debug("Received message from Redis - Channel: {}, Body: {}", channel, body);
 
 		ProgressEvent progressEvent;
 
@@ -97,8 +104,28 @@ public class RedisProgressSubscriber implements ProgressSubscriber, MessageListe
 			return;
 		}
 
-		eventPublisher.publishEvent(progressEvent);
-		scheduleInactivityTimeout(progressEvent.submissionId());
+		progressCoalescer.offer(progressEvent);
+
+		if (activeSubscriptions.containsKey(submissionId)) {
+			scheduleInactivityTimeout(submissionId);
+		}
+	}
+
+	int activeSubscriptionCount() {
+		return activeSubscriptions.size();
+	}
+
+	private Long extractSubmissionId(String channel) {
+		if (channel == null || !channel.startsWith(CHANNEL_PREFIX)) {
+			return null;
+		}
+
+		try {
+			return Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+		} catch (NumberFormatException e) {
+			log.warn("Ignoring message from unexpected channel: {}", channel);
+			return null;
+		}
 	}
 
 	private void scheduleInactivityTimeout(Long submissionId) {
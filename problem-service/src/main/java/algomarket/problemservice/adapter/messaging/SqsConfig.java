@@ -3,10 +3,14 @@ package algomarket.problemservice.adapter.messaging;
 import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -32,16 +36,46 @@ public class SqsConfig {
 	}
 
 	@Bean
-	public SqsMessageListenerContainerFactory<Object> defaultSqsListenerContainerFactory(SqsAsyncClient sqsAsyncClient) {
+	public SqsMessageListenerContainerFactory<Object> defaultSqsListenerContainerFactory(SqsAsyncClient sqsAsyncClient, Environment environment) {
+		boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+
 		return SqsMessageListenerContainerFactory.builder()
-			.configure(sqsContainerOptionsBuilder ->
+			.configure(sqsContainerOptionsBuilder -> {
 				sqsContainerOptionsBuilder
 					.maxConcurrentMessages(10) // 컨테이너의 스레드 풀 크기
 					.maxMessagesPerPoll(10) // 한 번의 폴링 요청으로 수신할 수 있는 최대 메시지 수 지정
 					.pollTimeout(Duration.ofSeconds(10)) // 롱 폴링 대기 시간(WaitTimeSeconds)
 					.acknowledgementInterval(Duration.ofSeconds(1))
-					.acknowledgementThreshold(1)
-			)
+					.acknowledgementThreshold(1);
+
+				if (virtualThreads) {
+					sqsContainerOptionsBuilder.componentsTaskExecutor(AsyncConfig.virtualThreadExecutor("sqs-listener-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY));
+				}
+			})
+			.sqsAsyncClient(sqsAsyncClient)
+			.build();
+	}
+
+	// 채점 결과를 폴링 단위로 모아 받는다. 한 번 받은 만큼 한꺼번에 삭제하도록 임계값도 배치 크기에 맞춘다
+	@Bean
+	public SqsMessageListenerContainerFactory<Object> batchSqsListenerContainerFactory(SqsAsyncClient sqsAsyncClient, Environment environment,
+		@Value("${sqs.result-consumer.batch-size:10}") int batchSize) {
+		boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+
+		return SqsMessageListenerContainerFactory.builder()
+			.configure(sqsContainerOptionsBuilder -> {
+				sqsContainerOptionsBuilder
+					.listenerMode(ListenerMode.BATCH)
+					.maxConcurrentMessages(batchSize)
+					.maxMessagesPerPoll(batchSize) // SQS 는 한 번에 최대 10개까지 돌려준다
+					.pollTimeout(Duration.ofSeconds(10))
+					.acknowledgementInterval(Duration.ofSeconds(1))
+					.acknowledgementThreshold(batchSize);
+
+				if (virtualThreads) {
+					sqsContainerOptionsBuilder.componentsTaskExecutor(AsyncConfig.virtualThreadExecutor("sqs-batch-listener-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY));
+				}
+			})
 			.sqsAsyncClient(sqsAsyncClient)
 			.build();
 	}
@@ -0,0 +1,41 @@
+package algomarket.problemservice.adapter.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.required.JudgeQueue;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+@Component
+public class SqsJudgeQueue implements JudgeQueue {
+
+	private final SqsAsyncClient sqsAsyncClient;
+	private final String queueName;
+	private volatile String queueUrl;
+
+	public SqsJudgeQueue(SqsAsyncClient sqsAsyncClient, @Value("${spring.cloud.aws.sqs.submission-request-queue}") String queueName) {
+		this.sqsAsyncClient = sqsAsyncClient;
+		this.queueName = queueName;
+	}
+
+	@Override
+	public long approximateDepth() {
+		String value = sqsAsyncClient.getQueueAttributes(request -> request
+				.queueUrl(queueUrl())
+				.attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES))
+			.join()
+			.attributes()
+			.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES);
+
+		return value == null ? 0 : Long.parseLong(value);
+	}
+
+	private String queueUrl() {
+		if (queueUrl == null) {
+			queueUrl = sqsAsyncClient.getQueueUrl(request -> request.queueName(queueName)).join().queueUrl();
+		}
+
+		return queueUrl;
+	}
+}
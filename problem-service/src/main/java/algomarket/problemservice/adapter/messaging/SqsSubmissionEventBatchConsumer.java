@@ -0,0 +1,70 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.provided.SubmissionHandler;
+import algomarket.problemservice.application.provided.SubmissionTracer;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 폴링 한 번에 받은 채점 결과를 한 트랜잭션으로 반영하고 함께 삭제한다.
+// 배치가 실패하거나 반영되지 않은 메시지는 한 건씩 다시 처리하고, 그래도 실패한 메시지는 삭제하지 않아 재전달된다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sqs.result-consumer.mode", havingValue = "batch")
+@RequiredArgsConstructor
+public class SqsSubmissionEventBatchConsumer {
+
+	private final SubmissionHandler submissionHandler;
+	private final SubmissionTracer submissionTracer;
+
+	@SqsListener(value = "${spring.cloud.aws.sqs.submission-result-queue}", factory = "batchSqsListenerContainerFactory", acknowledgementMode = "MANUAL")
+	public void consume(List<Message<JudgedEvent>> messages, BatchAcknowledgement<JudgedEvent> acknowledgement) {
+		long ingestedAt = System.currentTimeMillis();
+
+		Set<Long> finishedIds = finishAll(messages);
+
+		List<Message<JudgedEvent>> finished = new ArrayList<>(messages.size());
+		for (Message<JudgedEvent> message : messages) {
+			JudgedEvent judgedEvent = message.getPayload();
+
+			if (finishedIds.contains(judgedEvent.submissionId()) || finishOne(judgedEvent)) {
+				submissionTracer.judged(judgedEvent, ingestedAt);
+				finished.add(message);
+			}
+		}
+
+		if (!finished.isEmpty()) {
+			acknowledgement.acknowledge(finished);
+		}
+	}
+
+	private Set<Long> finishAll(List<Message<JudgedEvent>> messages) {
+		try {
+			return new HashSet<>(submissionHandler.finishSubmissions(messages.stream().map(Message::getPayload).toList()));
+		} catch (RuntimeException e) {
+			log.warn("Failed to finish {} submissions in batch, retrying one by one", messages.size(), e);
+			return Set.of();
+		}
+	}
+
+	private boolean finishOne(JudgedEvent judgedEvent) {
+		try {
+			submissionHandler.finishSubmission(judgedEvent);
+			return true;
+		} catch (RuntimeException e) {
+			log.error("Failed to finish submission: {}", judgedEvent.submissionId(), e);
+			return false;
+		}
+	}
+}
@@ -1,22 +1,29 @@
 package algomarket.problemservice.adapter.messaging;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import algomarket.problemservice.application.event.JudgedEvent;
 import algomarket.problemservice.application.provided.SubmissionHandler;
+import algomarket.problemservice.application.provided.SubmissionTracer;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@ConditionalOnProperty(name = "sqs.result-consumer.mode", havingValue = "single", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SqsSubmissionEventConsumer {
 
 	private final SubmissionHandler submissionHandler;
+	private final SubmissionTracer submissionTracer;
 
 	@SqsListener(value = "${spring.cloud.aws.sqs.submission-result-queue}", factory = "defaultSqsListenerContainerFactory", acknowledgementMode = "MANUAL")
 	public void consume(JudgedEvent judgedEvent, Acknowledgement acknowledgement) {
+		long ingestedAt = System.currentTimeMillis();
+
 		submissionHandler.finishSubmission(judgedEvent);
+		submissionTracer.judged(judgedEvent, ingestedAt);
 		acknowledgement.acknowledge();
 	}
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import algomarket.problemservice.application.event.SubmittedEvent;
 import algomarket.problemservice.application.provided.OutboxCleanupHandler;
+import algomarket.problemservice.application.provided.SubmissionTracer;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +27,13 @@ public class SqsSubmissionEventProducer {
 	private final SqsTemplate sqsTemplate;
 	private final ObjectMapper objectMapper;
 	private final OutboxCleanupHandler outboxCleanupHandler;
+	private final SubmissionTracer submissionTracer;
 
 	@Async("threadPoolExecutor")
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void produce(SubmittedEvent submittedEvent) throws JsonProcessingException {
-		String message = objectMapper.writeValueAsString(submittedEvent);
+		SubmittedEvent dispatchedEvent = submittedEvent.withDispatchedAt(System.currentTimeMillis());
+		String message = objectMapper.writeValueAsString(dispatchedEvent);
 
 		sqsTemplate.send(to -> to
 			.queue(queueName)
@@ -39,6 +42,7 @@ public class SqsSubmissionEventProducer {
 			.messageDeduplicationId(submittedEvent.submissionId().toString())
 		);
 
+		submissionTracer.dispatched(dispatchedEvent);
 		outboxCleanupHandler.deleteSubmittedEvent(submittedEvent);
 		log.info("Successfully sent SubmittedEvent to SQS and removed from outbox: {}", submittedEvent.submissionId());
 	}
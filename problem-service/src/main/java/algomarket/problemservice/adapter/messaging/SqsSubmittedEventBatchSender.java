@@ -0,0 +1,84 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.required.SubmittedEventSender;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqsSubmittedEventBatchSender implements SubmittedEventSender {
+
+	// SendMessageBatch 한 번에 보낼 수 있는 최대 메시지 수
+	private static final int SQS_MAX_BATCH_SIZE = 10;
+
+	@Value("${spring.cloud.aws.sqs.submission-request-queue}")
+	private String queueName;
+
+	private final SqsTemplate sqsTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public List<Long> sendBatch(List<SubmittedEvent> submittedEvents) {
+		List<Long> sentSubmissionIds = new ArrayList<>(submittedEvents.size());
+
+		for (int from = 0; from < submittedEvents.size(); from += SQS_MAX_BATCH_SIZE) {
+			List<SubmittedEvent> chunk = submittedEvents.subList(from, Math.min(from + SQS_MAX_BATCH_SIZE, submittedEvents.size()));
+
+			try {
+				sentSubmissionIds.addAll(sendChunk(chunk));
+			} catch (Exception e) {
+				log.error("Failed to send SubmittedEvent batch of size {}", chunk.size(), e);
+			}
+		}
+
+		return sentSubmissionIds;
+	}
+
+	private List<Long> sendChunk(List<SubmittedEvent> chunk) throws JsonProcessingException {
+		List<Message<String>> messages = new ArrayList<>(chunk.size());
+		for (SubmittedEvent submittedEvent : chunk) {
+			messages.add(MessageBuilder.withPayload(objectMapper.writeValueAsString(submittedEvent))
+				.setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, submittedEvent.username())
+				.setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_DEDUPLICATION_ID_HEADER, submittedEvent.submissionId().toString())
+				.build());
+		}
+
+		SendResult.Batch<String> result;
+		try {
+			result = sqsTemplate.sendMany(queueName, messages);
+		} catch (SendBatchOperationFailedException e) {
+			// 일부만 실패한 경우에도 성공한 메시지는 outbox 에서 지울 수 있도록 결과를 꺼낸다
+			result = e.getSendBatchResult(String.class);
+			result.failed().forEach(failed ->
+				log.warn("Failed to send SubmittedEvent in batch: {}", failed.errorMessage()));
+		}
+
+		return submissionIds(result.successful());
+	}
+
+	private List<Long> submissionIds(Collection<SendResult<String>> successful) {
+		return successful.stream()
+			.map(sendResult -> sendResult.message().getHeaders()
+				.get(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_DEDUPLICATION_ID_HEADER, String.class))
+			.map(Long::valueOf)
+			.toList();
+	}
+}
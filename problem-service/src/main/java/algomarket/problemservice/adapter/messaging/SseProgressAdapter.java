@@ -1,6 +1,7 @@
 package algomarket.problemservice.adapter.messaging;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -9,99 +10,177 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import algomarket.problemservice.adapter.messaging.ProgressReplayBuffer.BufferedEvent;
+import algomarket.problemservice.adapter.messaging.ProgressReplayBuffer.SubmissionEvents;
 import algomarket.problemservice.application.event.ProgressEvent;
 import algomarket.problemservice.application.required.ProgressNotifier;
 import algomarket.problemservice.domain.submission.SubmitStatus;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SseProgressAdapter implements ProgressNotifier {
 
+	private static final String PROGRESS_EVENT = "progress";
+	private static final String COMPLETED_EVENT = "completed";
+
 	@Value("${sse.timeout-ms}")
 	private Long sseTimeoutMs;
 	private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+	private final ProgressReplayBuffer replayBuffer;
 
 	@Override
-	public SseEmitter saveSubscription(String username, Long submissionId) {
+	public SseEmitter saveSubscription(String username, Long submissionId, Long lastEventId) {
 		String emitterKey = username + ":" + submissionId;
 
 		SseEmitter existingEmitter = emitters.get(emitterKey);
 		if (existingEmitter != null) {
-			log.info("Already existing emitter for submission: {}", submissionId);
-			return existingEmitter;
+			if (lastEventId == null) {
+				log.info("Already existing emitter for submission: {}", submissionId);
+				return existingEmitter;
+			}
+
+			// 재연결 요청이면 끊어진 이전 연결을 정리하고 새 연결로 교체한다
+			emitters.remove(emitterKey, existingEmitter);
+			existingEmitter.complete();
 		}
 
 		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
-		SseEmitter prev = emitters.putIfAbsent(emitterKey, emitter);
+		SubmissionEvents submissionEvents = replayBuffer.forSubmission(submissionId);
+
+		submissionEvents.lock();
+		try {
+			SseEmitter prev = emitters.putIfAbsent(emitterKey, emitter);
+
+			if (prev != null) {
+				return prev;
+			}
 
-		if (prev != null) {
-			return prev;
+			emitter.onCompletion(() -> {
+				log.info("SSE connection completed for: {}", emitterKey);
+				emitters.remove(emitterKey, emitter);
+			});
+
+			emitter.onTimeout(() -> {
+				log.info("SSE connection timed out for: {}", emitterKey);
+				emitters.remove(emitterKey, emitter);
+			});
+
+			emitter.onError(throwable -> {
+				log.error("SSE connection error for: {}", emitterKey, throwable);
+				emitters.remove(emitterKey, emitter);
+			});
+
+			try {
+				emitter.send(SseEmitter.event()
+					.name("connected")
+					.data("Connected to submission progress for: " + submissionId));
+
+				replay(emitter, submissionEvents.eventsAfter(lastEventId));
+			} catch (IOException e) {
+				log.error("Failed to send initial connection event", e);
+				emitters.remove(emitterKey);
+				emitter.completeWithError(e);
+				return emitter;
+			}
+
+			if (submissionEvents.isCompleted()) {
+				emitters.remove(emitterKey);
+				emitter.complete();
+			}
+		} finally {
+			submissionEvents.unlock();
 		}
 
-		emitter.onCompletion(() -> {
-			log.info("SSE connection completed for: {}", emitterKey);
-			emitters.remove(emitterKey);
-		});
-		
-		emitter.onTimeout(() -> {
-			log.info("SSE connection timed out for: {}", emitterKey);
-			emitters.remove(emitterKey);
-		});
-		
-		emitter.onError(throwable -> {
-			log.error("SSE connection error for: {}", emitterKey, throwable);
-			emitters.remove(emitterKey);
-		});
-		
+		return emitter;
+	}
+
+	@Override
+	public SseEmitter sendFinalStatus(String username, Long submissionId, SubmitStatus status) {
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
 		try {
 			emitter.send(SseEmitter.event()
-				.name("connected")
-				.data("Connected to submission progress for: " + submissionId));
+				.name(COMPLETED_EVENT)
+				.data(Map.of("finalStatus", status), MediaType.APPLICATION_JSON));
+			emitter.complete();
 		} catch (IOException e) {
-			log.error("Failed to send initial connection event", e);
-			emitters.remove(emitterKey);
+			log.error("Failed to send final status for: {}:{}", username, submissionId, e);
 			emitter.completeWithError(e);
 		}
-		
+
 		return emitter;
 	}
 
 	@Override
 	public void notifyProgressUpdate(String username, Long submissionId, ProgressEvent progressEvent) {
 		String emitterKey = username + ":" + submissionId;
-		SseEmitter emitter = emitters.get(emitterKey);
-		
-		if (emitter != null) {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("progress")
-					.data(progressEvent));
-			} catch (IOException e) {
-				log.error("Failed to send progress update to: {}", emitterKey, e);
-				emitters.remove(emitterKey);
-				emitter.completeWithError(e);
+		SubmissionEvents submissionEvents = replayBuffer.forSubmission(submissionId);
+
+		submissionEvents.lock();
+		try {
+			BufferedEvent event = submissionEvents.append(PROGRESS_EVENT, progressEvent, false);
+			SseEmitter emitter = emitters.get(emitterKey);
+
+			if (emitter != null) {
+				try {
+					send(emitter, event);
+				} catch (IOException e) {
+					log.error("Failed to send progress update to: {}", emitterKey, e);
+					emitters.remove(emitterKey);
+					emitter.completeWithError(e);
+				}
 			}
+		} finally {
+			submissionEvents.unlock();
 		}
 	}
 
 	@Override
 	public void completeProgress(String username, Long submissionId, SubmitStatus status) {
 		String emitterKey = username + ":" + submissionId;
-		SseEmitter emitter = emitters.get(emitterKey);
-		
-		if (emitter != null) {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("completed")
-					.data(Map.of("finalStatus", status), MediaType.APPLICATION_JSON));
-				emitter.complete();
-			} catch (IOException e) {
-				log.error("Failed to complete progress for: {}", emitterKey, e);
-				emitter.completeWithError(e);
-			} finally {
-				emitters.remove(emitterKey);
+		SubmissionEvents submissionEvents = replayBuffer.forSubmission(submissionId);
+
+		submissionEvents.lock();
+		try {
+			BufferedEvent event = submissionEvents.append(COMPLETED_EVENT, Map.of("finalStatus", status), true);
+			SseEmitter emitter = emitters.get(emitterKey);
+
+			if (emitter != null) {
+				try {
+					send(emitter, event);
+					emitter.complete();
+				} catch (IOException e) {
+					log.error("Failed to complete progress for: {}", emitterKey, e);
+					emitter.completeWithError(e);
+				} finally {
+					emitters.remove(emitterKey);
+				}
 			}
+		} finally {
+			submissionEvents.unlock();
 		}
 	}
+
+	private void replay(SseEmitter emitter, List<BufferedEvent> events) throws IOException {
+		for (BufferedEvent event : events) {
+			send(emitter, event);
+		}
+	}
+
+	private void send(SseEmitter emitter, BufferedEvent event) throws IOException {
+		SseEmitter.SseEventBuilder builder = SseEmitter.event()
+			.id(String.valueOf(event.id()))
+			.name(event.name());
+
+		if (COMPLETED_EVENT.equals(event.name())) {
+			builder.data(event.data(), MediaType.APPLICATION_JSON);
+		} else {
+			builder.data(event.data());
+		}
+
+		emitter.send(builder);
+	}
 }
@@ -0,0 +1,30 @@
+package algomarket.problemservice.adapter.messaging;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.provided.SubmitCountFlusher;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmitCountFlushScheduler {
+
+	private final SubmitCountFlusher submitCountFlusher;
+
+	@Scheduled(fixedDelayString = "${problem.submit-count.flush-interval-ms:5000}")
+	public void flushSubmitCounts() {
+		log.debug("Starting submit count flush job");
+
+		submitCountFlusher.flushSubmitCounts();
+	}
+
+	// 종료 시 남은 제출 수를 반영한다
+	@PreDestroy
+	public void flushOnShutdown() {
+		submitCountFlusher.flushSubmitCounts();
+	}
+}
@@ -0,0 +1,63 @@
+package algomarket.problemservice.adapter.messaging;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int MAX_LOGGED_FRAMES = 8;
+
+	@Value("${virtual-threads.pinning.threshold-ms:20}")
+	private long thresholdMs;
+
+	private RecordingStream recordingStream;
+
+	@PostConstruct
+	public void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+			.withThreshold(Duration.ofMillis(thresholdMs))
+			.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+		recordingStream.startAsync();
+
+		log.info("Virtual thread pinning monitor started (threshold: {}ms)", thresholdMs);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+		}
+	}
+
+	private void logPinnedEvent(RecordedEvent event) {
+		String stackTrace = event.getStackTrace() == null ? "<no stack trace>" : event.getStackTrace().getFrames().stream()
+			.limit(MAX_LOGGED_FRAMES)
+			.map(VirtualThreadPinningMonitor::formatFrame)
+			.collect(Collectors.joining("\n\tat ", "\tat ", ""));
+
+		log.warn("Virtual thread pinned for {}ms on thread {}\n{}",
+			event.getDuration().toMillis(), event.getThread() == null ? "unknown" : event.getThread().getJavaName(), stackTrace);
+	}
+
+	private static String formatFrame(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+}
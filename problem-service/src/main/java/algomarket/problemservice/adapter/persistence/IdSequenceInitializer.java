@@ -0,0 +1,50 @@
+package algomarket.problemservice.adapter.persistence;
+
+import java.util.List;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+	// @TableGenerator 의 pkColumnValue 와 대상 테이블 이름이 같다
+	static final List<String> SEQUENCE_TABLES = List.of("problem", "submission", "outbox");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 요청/메시지 처리가 시작되기 전에 IDENTITY 로 쌓인 기존 최대 id 뒤에서 할당이 시작되도록 맞춘다
+	@PostConstruct
+	public void initialize() {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_sequence (sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, next_val BIGINT)");
+
+		SEQUENCE_TABLES.forEach(this::align);
+	}
+
+	private void align(String tableName) {
+		Long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + tableName, Long.class);
+
+		int updated = jdbcTemplate.update("UPDATE id_sequence SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+			nextId, tableName, nextId);
+		if (updated > 0) {
+			log.info("Advanced id sequence [{}] to {}", tableName, nextId);
+			return;
+		}
+
+		try {
+			jdbcTemplate.update("INSERT INTO id_sequence (sequence_name, next_val) SELECT ?, ? WHERE NOT EXISTS "
+				+ "(SELECT 1 FROM id_sequence WHERE sequence_name = ?)", tableName, nextId, tableName);
+		} catch (DuplicateKeyException e) {
+			log.info("Id sequence [{}] already initialized by another node", tableName);
+		}
+	}
+}
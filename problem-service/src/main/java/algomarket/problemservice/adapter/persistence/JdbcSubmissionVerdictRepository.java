@@ -0,0 +1,73 @@
+package algomarket.problemservice.adapter.persistence;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import algomarket.problemservice.application.required.SubmissionVerdictRepository;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import lombok.RequiredArgsConstructor;
+
+// 엔티티를 읽지 않고 채점 결과 컬럼만 JDBC 배치 한 번으로 갱신한다. MySQL 에서는 rewriteBatchedStatements 로 한 번에 전송된다
+@Repository
+@RequiredArgsConstructor
+public class JdbcSubmissionVerdictRepository implements SubmissionVerdictRepository {
+
+	// 재전달되거나 중복된 결과가 이미 끝난 채점 결과를 덮어쓰지 않도록 채점 중인 제출만 갱신한다
+	private static final String UPDATE_VERDICT =
+		"UPDATE submission SET submit_status = ?, runtime_ms = ?, memory_kb = ? WHERE id = ? AND submit_status = 'JUDGING'";
+	private static final String SELECT_JUDGING_FOR_UPDATE = "SELECT id FROM submission WHERE id IN (%s) AND submit_status = 'JUDGING' FOR UPDATE";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> updateVerdicts(List<SubmissionVerdict> verdicts) {
+		if (verdicts.isEmpty()) {
+			return List.of();
+		}
+
+		// 같은 폴링에 같은 제출이 두 번 들어오면 먼저 온 결과만 반영한다
+		Map<Long, SubmissionVerdict> verdictById = new LinkedHashMap<>();
+		verdicts.forEach(verdict -> verdictById.putIfAbsent(verdict.submissionId(), verdict));
+		List<SubmissionVerdict> distinctVerdicts = List.copyOf(verdictById.values());
+
+		// 드라이버가 배치를 다시 쓰면 행 수 대신 SUCCESS_NO_INFO 를 돌려주므로, 갱신할 행을 먼저 잠가 두고 그 결과로 판단한다
+		Set<Long> judgingIds = lockJudging(verdictById.keySet());
+
+		int[][] updateCounts = jdbcTemplate.batchUpdate(UPDATE_VERDICT, distinctVerdicts, distinctVerdicts.size(), (ps, verdict) -> {
+			ps.setString(1, verdict.submitStatus().name());
+			ps.setObject(2, verdict.runtimeMs(), Types.INTEGER);
+			ps.setObject(3, verdict.memoryKb(), Types.INTEGER);
+			ps.setLong(4, verdict.submissionId());
+		});
+
+		List<Long> updatedIds = new ArrayList<>(distinctVerdicts.size());
+		int index = 0;
+		for (int[] batch : updateCounts) {
+			for (int updateCount : batch) {
+				Long submissionId = distinctVerdicts.get(index).submissionId();
+				if (updateCount > 0 || (updateCount == Statement.SUCCESS_NO_INFO && judgingIds.contains(submissionId))) {
+					updatedIds.add(submissionId);
+				}
+				index++;
+			}
+		}
+
+		return updatedIds;
+	}
+
+	private Set<Long> lockJudging(Set<Long> submissionIds) {
+		String placeholders = String.join(", ", Collections.nCopies(submissionIds.size(), "?"));
+
+		return new HashSet<>(jdbcTemplate.queryForList(SELECT_JUDGING_FOR_UPDATE.formatted(placeholders), Long.class, submissionIds.toArray()));
+	}
+}
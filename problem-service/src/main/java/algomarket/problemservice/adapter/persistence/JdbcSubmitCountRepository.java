@@ -0,0 +1,35 @@
+package algomarket.problemservice.adapter.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import algomarket.problemservice.application.required.SubmitCountRepository;
+import lombok.RequiredArgsConstructor;
+
+// 주기마다 쌓인 문제별 제출 수를 JDBC 배치 한 번으로 반영한다. 한 트랜잭션이라 실패하면 전부 되돌려 다음 주기에 다시 더한다
+@Repository
+@RequiredArgsConstructor
+public class JdbcSubmitCountRepository implements SubmitCountRepository {
+
+	private static final String ADD_SUBMIT_COUNT = "UPDATE problem SET submit_count = submit_count + ? WHERE number = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	@Transactional
+	public void addSubmitCounts(Map<Long, Integer> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<Map.Entry<Long, Integer>> entries = List.copyOf(deltas.entrySet());
+		jdbcTemplate.batchUpdate(ADD_SUBMIT_COUNT, entries, entries.size(), (ps, entry) -> {
+			ps.setInt(1, entry.getValue());
+			ps.setLong(2, entry.getKey());
+		});
+	}
+}
@@ -0,0 +1,41 @@
+package algomarket.problemservice.adapter.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class JpaBatchConfig {
+
+	// IDENTITY 가 아닌 테이블 기반 pooled-lo id 로 바꿔야 Hibernate 가 INSERT 를 배치로 묶을 수 있다
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+			properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+		};
+	}
+
+	// MySQL 드라이버는 이 옵션이 없으면 배치도 한 문장씩 서버로 보낸다
+	@Bean
+	public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource
+					&& dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+					dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+				}
+
+				return bean;
+			}
+		};
+	}
+}
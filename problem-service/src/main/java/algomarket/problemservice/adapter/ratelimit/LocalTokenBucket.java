@@ -0,0 +1,35 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+// Redis 를 쓸 수 없을 때 노드 안에서만 세는 버킷. 노드 수만큼 한도가 느슨해진다
+class LocalTokenBucket {
+
+	private final long capacity;
+	private final double tokensPerNano;
+	private double tokens;
+	private long refilledAtNanos;
+
+	LocalTokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+		this.capacity = limit.capacity();
+		this.tokensPerNano = limit.refillPerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+		this.tokens = limit.capacity();
+		this.refilledAtNanos = nowNanos;
+	}
+
+	synchronized TokenBucketRateLimiter.Decision tryAcquire(long nowNanos) {
+		tokens = Math.min(capacity, tokens + (nowNanos - refilledAtNanos) * tokensPerNano);
+		refilledAtNanos = nowNanos;
+
+		if (tokens >= 1) {
+			tokens -= 1;
+			return TokenBucketRateLimiter.Decision.ALLOWED;
+		}
+
+		if (tokensPerNano <= 0) {
+			return TokenBucketRateLimiter.Decision.throttled(TimeUnit.MINUTES.toMillis(1));
+		}
+
+		return TokenBucketRateLimiter.Decision.throttled(TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / tokensPerNano)) + 1);
+	}
+}
@@ -0,0 +1,18 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 로그인한 사용자마다 토큰 버킷을 두고 비면 429 로 거절한다. rate-limit.endpoints.{endpoint}.{등급} 설정이 있으면 기본값보다 우선한다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+	String endpoint();
+
+	long capacity();
+
+	long refillPerMinute();
+}
@@ -0,0 +1,62 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import java.util.Locale;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.adapter.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitAop {
+
+	private final TokenBucketRateLimiter tokenBucketRateLimiter;
+	private final RateLimitProperties rateLimitProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Around("@annotation(rateLimit)")
+	public Object limit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+		if (!rateLimitProperties.enabled() || authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+			return joinPoint.proceed();
+		}
+
+		String tier = tier(authentication);
+		TokenBucketRateLimiter.Decision decision = tokenBucketRateLimiter.tryAcquire(
+			rateLimit.endpoint() + ":" + userPrincipal.username(), rateLimitProperties.resolve(rateLimit, tier));
+
+		if (!decision.allowed()) {
+			Counter.builder("rate.limit.throttled")
+				.tag("endpoint", rateLimit.endpoint())
+				.tag("tier", tier)
+				.register(meterRegistry)
+				.increment();
+
+			throw new RateLimitExceededException(rateLimit.endpoint(), Math.max(1, (decision.retryAfterMillis() + 999) / 1000));
+		}
+
+		return joinPoint.proceed();
+	}
+
+	// 등급은 인증 시 부여한 권한 이름을 그대로 쓴다 (현재는 모두 USER)
+	private static String tier(Authentication authentication) {
+		return authentication.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.findFirst()
+			.map(authority -> authority.toLowerCase(Locale.ROOT))
+			.orElse(RateLimitProperties.DEFAULT_TIER);
+	}
+}
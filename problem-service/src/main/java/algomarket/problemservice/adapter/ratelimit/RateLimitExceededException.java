@@ -0,0 +1,14 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public RateLimitExceededException(String endpoint, long retryAfterSeconds) {
+		super("Rate limit exceeded for endpoint: " + endpoint);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,35 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+	@DefaultValue("true") boolean enabled,
+
+	Map<String, Map<String, Limit>> endpoints
+) {
+
+	static final String DEFAULT_TIER = "default";
+
+	public RateLimitProperties {
+		endpoints = endpoints == null ? Map.of() : endpoints;
+	}
+
+	// 등급 설정 -> 엔드포인트의 default 등급 설정 -> @RateLimit 기본값 순으로 찾는다
+	Limit resolve(RateLimit rateLimit, String tier) {
+		Map<String, Limit> tiers = endpoints.getOrDefault(rateLimit.endpoint(), Map.of());
+
+		Limit limit = tiers.get(tier);
+		if (limit == null) {
+			limit = tiers.get(DEFAULT_TIER);
+		}
+
+		return limit != null ? limit : new Limit(rateLimit.capacity(), rateLimit.refillPerMinute());
+	}
+
+	public record Limit(long capacity, long refillPerMinute) {
+	}
+}
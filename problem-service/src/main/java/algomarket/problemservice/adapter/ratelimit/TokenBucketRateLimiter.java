@@ -0,0 +1,99 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 버킷(RATE:{key} 해시의 tokens, ts)을 Lua 스크립트 한 번으로 채우고 꺼내 노드가 여러 대여도 한도를 함께 쓴다.
+// 시각은 Redis TIME 을 써서 노드 간 시계 차이의 영향을 받지 않는다
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+	private static final String KEY_PREFIX = "RATE:";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of("""
+		local capacity = tonumber(ARGV[1])
+		local tokens_per_ms = tonumber(ARGV[2]) / 60000
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+		local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+		local tokens = tonumber(bucket[1])
+		local ts = tonumber(bucket[2])
+		if tokens == nil or ts == nil then
+			tokens = capacity
+			ts = now
+		end
+
+		tokens = math.min(capacity, tokens + math.max(0, now - ts) * tokens_per_ms)
+
+		local allowed = 0
+		local retry_after_ms = 0
+		if tokens >= 1 then
+			tokens = tokens - 1
+			allowed = 1
+		elseif tokens_per_ms > 0 then
+			retry_after_ms = math.ceil((1 - tokens) / tokens_per_ms)
+		else
+			retry_after_ms = 60000
+		end
+
+		redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+		if tokens_per_ms > 0 then
+			redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / tokens_per_ms) + 1000)
+		end
+
+		return {allowed, retry_after_ms}
+		""", List.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Cache<String, LocalTokenBucket> localBuckets;
+	private final Counter fallbackCounter;
+
+	public TokenBucketRateLimiter(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.localBuckets = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofMinutes(10))
+			.build();
+		this.fallbackCounter = Counter.builder("rate.limit.fallback")
+			.description("Redis 를 쓰지 못해 노드 로컬 버킷으로 판정한 요청 수")
+			.register(meterRegistry);
+	}
+
+	public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+		try {
+			List<?> result = redisTemplate.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + key),
+				String.valueOf(limit.capacity()), String.valueOf(limit.refillPerMinute()));
+
+			return ((Number) result.get(0)).longValue() == 1 ? Decision.ALLOWED : Decision.throttled(((Number) result.get(1)).longValue());
+		} catch (RuntimeException e) {
+			fallbackCounter.increment();
+			log.warn("Failed to use redis token bucket, falling back to local bucket: key={}, cause={}", key, e.getMessage());
+
+			long now = System.nanoTime();
+			return localBuckets.get(key + ":" + limit, k -> new LocalTokenBucket(limit, now)).tryAcquire(now);
+		}
+	}
+
+	public record Decision(boolean allowed, long retryAfterMillis) {
+
+		static final Decision ALLOWED = new Decision(true, 0);
+
+		static Decision throttled(long retryAfterMillis) {
+			return new Decision(false, retryAfterMillis);
+		}
+	}
+}
@@ -2,9 +2,12 @@ package algomarket.problemservice.adapter.security;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -24,8 +27,15 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	static final GrantedAuthority USER = new SimpleGrantedAuthority("USER");
+	static final GrantedAuthority ADMIN = new SimpleGrantedAuthority("ADMIN");
+
 	private final JwtManager jwtManager;
 
+	// 운영용 actuator 엔드포인트(/actuator/locks, /actuator/submissiontrace)에 접근할 수 있는 사용자 (쉼표로 구분)
+	@Value("${security.admin-usernames:}")
+	private Set<String> adminUsernames = Set.of();
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
@@ -34,12 +44,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (StringUtils.hasText(token)) {
 			try {
-				jwtManager.authenticate(token);
-				String username = jwtManager.extractUsername(token);
+				String username = jwtManager.verify(token);
 
 				UserPrincipal userPrincipal = new UserPrincipal(username);
 				Authentication authentication =
-					new UsernamePasswordAuthenticationToken(userPrincipal, null, List.of(new SimpleGrantedAuthority("USER")));
+					new UsernamePasswordAuthenticationToken(userPrincipal, null, authorities(username));
 
 				SecurityContextHolder.getContext().setAuthentication(authentication);
 			} catch (JwtException e) {
@@ -50,6 +59,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	// 요청 제한 등급은 첫 권한을 쓰므로 USER 를 앞에 둔다
+	private List<GrantedAuthority> authorities(String username) {
+		return adminUsernames.contains(username) ? List.of(USER, ADMIN) : List.of(USER);
+	}
+
 	private String resolveToken(HttpServletRequest request) {
 		String bearerToken = request.getHeader("Authorization");
 
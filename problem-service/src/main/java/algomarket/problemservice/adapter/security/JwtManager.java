@@ -1,9 +1,13 @@
 package algomarket.problemservice.adapter.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -11,10 +15,14 @@ import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import algomarket.problemservice.application.required.TokenProvider;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 
@@ -24,22 +32,63 @@ public class JwtManager implements TokenProvider {
 	@Value("${jwt.key}")
 	private String key;
 
+	@Value("${jwt.cache.enabled:false}")
+	private boolean cacheEnabled;
+
+	@Value("${jwt.cache.maximum-size:10000}")
+	private long cacheMaximumSize;
+
 	private SecretKey secretKey;
 
+	// 파서는 불변이고 스레드 안전하므로 한 번만 만든다
+	private JwtParser jwtParser;
+
+	// 검증을 마친 토큰의 SHA-256 -> 사용자. 토큰의 exp 까지만 보관한다
+	private Cache<String, VerifiedToken> verifiedTokens;
+
 	@PostConstruct
 	public void init() {
 		byte[] decodedKey = Base64.getDecoder().decode(key);
 		secretKey = new SecretKeySpec(decodedKey, "HmacSHA256");
+		jwtParser = Jwts.parser().verifyWith(secretKey).build();
+
+		if (cacheEnabled) {
+			verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(cacheMaximumSize)
+				.expireAfter(Expiry.creating((String hash, VerifiedToken verified) -> Duration.between(Instant.now(), verified.expireAt())))
+				.build();
+		}
 	}
 
 	public void authenticate(String token) throws JwtException {
-		Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		verify(token);
 	}
 
 	public String extractUsername(String token) throws JwtException {
-		Jws<Claims> claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		return verify(token);
+	}
+
+	// 서명과 만료를 한 번만 검증하고 subject 를 돌려준다
+	public String verify(String token) throws JwtException {
+		if (verifiedTokens == null) {
+			return jwtParser.parseSignedClaims(token).getPayload().getSubject();
+		}
 
-		return claims.getPayload().getSubject();
+		String hash = sha256Hex(token);
+		VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+
+		if (cached != null && Instant.now().isBefore(cached.expireAt())) {
+			return cached.username();
+		}
+
+		Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+		// exp 가 없는 토큰은 만료를 보장할 수 없으므로 캐시하지 않는다
+		if (claims.getExpiration() != null) {
+			verifiedTokens.put(hash, new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant()));
+		}
+
+		return claims.getSubject();
 	}
 
 	@Override
@@ -58,4 +107,14 @@ public class JwtManager implements TokenProvider {
 			.expiration(Date.from(expireAt))
 			.compact();
 	}
+
+	private static String sha256Hex(String token) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record VerifiedToken(String username, Instant expireAt) {}
 }
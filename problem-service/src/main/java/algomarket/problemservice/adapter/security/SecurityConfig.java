@@ -3,6 +3,7 @@ package algomarket.problemservice.adapter.security;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,9 +47,11 @@ public class SecurityConfig {
 			.requestMatchers(HttpMethod.POST, "/login").permitAll()
 			.requestMatchers(HttpMethod.POST, "/members").permitAll()
 			.requestMatchers(HttpMethod.GET, "/problems").permitAll()
+			.requestMatchers(HttpMethod.GET, "/problems/cursor").permitAll()
 			.requestMatchers(HttpMethod.GET, "/problems/{id:\\d+}").permitAll()
 			.requestMatchers(HttpMethod.GET, "/submissions/*/progress").permitAll()
 			.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+			.requestMatchers(EndpointRequest.to("locks", "submissiontrace")).hasAuthority("ADMIN")
 			.anyRequest().authenticated())
 
 			.exceptionHandling(ex -> ex
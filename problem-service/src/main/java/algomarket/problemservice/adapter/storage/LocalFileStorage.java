@@ -0,0 +1,90 @@
+package algomarket.problemservice.adapter.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import algomarket.problemservice.application.required.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+
+// S3 없이 로컬/테스트 환경에서 쓰는 파일 시스템 저장소 (storage.type=local)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+	private final Path baseDir;
+
+	public LocalFileStorage(@Value("${storage.local.base-dir:${java.io.tmpdir}/algo-market-storage}") Path baseDir) {
+		this.baseDir = baseDir.toAbsolutePath().normalize();
+	}
+
+	@Override
+	public String createKeyForProblemUpload(Long problemId, String fileName) {
+		FileCategory category = FileCategory.findByFileName(fileName);
+
+		return category.createKey(problemId, fileName);
+	}
+
+	@Override
+	public String createPresignedUrl(String key, Map<String, String> metadata) {
+		return resolve(key).toUri().toString();
+	}
+
+	@Override
+	public void deleteAllProblemFiles(Long problemId) {
+		try {
+			FileSystemUtils.deleteRecursively(resolve("problems/" + problemId));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void putObject(String key, byte[] content, String contentType) {
+		Path target = resolve(key);
+
+		try {
+			Files.createDirectories(target.getParent());
+
+			// 읽는 쪽이 쓰다 만 파일을 보지 않도록 임시 파일에 쓴 뒤 옮긴다
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			Files.write(temp, content);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		log.debug("Put local object key=[{}], size=[{}]", key, content.length);
+	}
+
+	@Override
+	public void deleteObjects(Collection<String> keys) {
+		try {
+			for (String key : keys) {
+				Files.deleteIfExists(resolve(key));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path resolve(String key) {
+		Path path = baseDir.resolve(key).normalize();
+
+		if (!path.startsWith(baseDir)) {
+			throw new IllegalArgumentException("저장소 경로를 벗어난 키입니다: " + key);
+		}
+
+		return path;
+	}
+}
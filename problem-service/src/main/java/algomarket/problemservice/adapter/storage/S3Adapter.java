@@ -1,14 +1,18 @@
 package algomarket.problemservice.adapter.storage;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import algomarket.problemservice.application.required.FileStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
@@ -23,8 +27,12 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Adapter implements FileStorage {
 
+	// DeleteObjects 한 번에 지울 수 있는 최대 키 수
+	private static final int DELETE_BATCH_SIZE = 1_000;
+
 	private final S3Presigner s3Presigner;
 	private final S3Properties s3Properties;
 	private final S3Client s3Client;
@@ -88,4 +96,38 @@ public class S3Adapter implements FileStorage {
 			log.debug("Deleted {} objects with prefix=[{}]", objectsToDelete.size(), prefix);
 		}
 	}
+
+	@Override
+	public void putObject(String key, byte[] content, String contentType) {
+		PutObjectRequest objectRequest = PutObjectRequest.builder()
+			.bucket(s3Properties.bucketName())
+			.key(key)
+			.contentType(contentType)
+			.build();
+
+		s3Client.putObject(objectRequest, RequestBody.fromBytes(content));
+
+		log.debug("Put S3 object key=[{}], size=[{}]", key, content.length);
+	}
+
+	@Override
+	public void deleteObjects(Collection<String> keys) {
+		List<ObjectIdentifier> objects = keys.stream()
+			.map(key -> ObjectIdentifier.builder().key(key).build())
+			.toList();
+
+		for (int from = 0; from < objects.size(); from += DELETE_BATCH_SIZE) {
+			List<ObjectIdentifier> batch = new ArrayList<>(objects.subList(from, Math.min(from + DELETE_BATCH_SIZE, objects.size())));
+
+			s3Client.deleteObjects(DeleteObjectsRequest.builder()
+				.bucket(s3Properties.bucketName())
+				.delete(Delete.builder()
+					.objects(batch)
+					.quiet(true)
+					.build())
+				.build());
+		}
+
+		log.debug("Deleted {} S3 objects", objects.size());
+	}
 }
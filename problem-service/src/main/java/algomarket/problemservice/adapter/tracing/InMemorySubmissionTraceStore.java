@@ -0,0 +1,64 @@
+package algomarket.problemservice.adapter.tracing;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import algomarket.problemservice.application.required.SubmissionTraceStore;
+
+// 이 노드가 본 구간만 메모리에 잠시 보관한다. 다른 노드가 받은 구간은 보이지 않으므로 단일 노드(로컬, 테스트)에서만 submission.trace.store=memory 로 쓴다
+@Component
+@ConditionalOnProperty(name = "submission.trace.store", havingValue = "memory")
+public class InMemorySubmissionTraceStore implements SubmissionTraceStore {
+
+	private final Cache<Long, Trace> traces;
+
+	public InMemorySubmissionTraceStore(
+		@Value("${submission.trace.max-size:10000}") long maxSize,
+		@Value("${submission.trace.ttl-minutes:60}") long ttlMinutes
+	) {
+		this.traces = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.build();
+	}
+
+	@Override
+	public void record(Long submissionId, String traceId, SubmissionStage stage, long epochMillis) {
+		traces.get(submissionId, id -> new Trace()).record(traceId, stage, epochMillis);
+	}
+
+	@Override
+	public Optional<SubmissionTraceResponse> find(Long submissionId) {
+		return Optional.ofNullable(traces.getIfPresent(submissionId))
+			.map(trace -> trace.toResponse(submissionId));
+	}
+
+	private static class Trace {
+
+		private String traceId;
+		private final Map<SubmissionStage, Long> timestamps = new EnumMap<>(SubmissionStage.class);
+
+		synchronized void record(String traceId, SubmissionStage stage, long epochMillis) {
+			if (this.traceId == null) {
+				this.traceId = traceId;
+			}
+
+			timestamps.putIfAbsent(stage, epochMillis);
+		}
+
+		synchronized SubmissionTraceResponse toResponse(Long submissionId) {
+			return SubmissionTraceResponse.of(submissionId, traceId, timestamps);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package algomarket.problemservice.adapter.tracing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import algomarket.problemservice.application.required.SubmissionTraceStore;
+import lombok.extern.slf4j.Slf4j;
+
+// 제출을 받은 노드, 진행 상황을 받은 노드, 결과를 받은 노드가 달라도 한 곳에 모이도록 SUBMISSION-TRACE:{submissionId} 해시에 구간별 시각을 쌓는다.
+// HSETNX 로 처음 값을 유지하고, 이 노드가 이미 쓴 구간(진행 이벤트마다 오는 FIRST_PROGRESS 등)은 다시 보내지 않는다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "submission.trace.store", havingValue = "redis", matchIfMissing = true)
+public class RedisSubmissionTraceStore implements SubmissionTraceStore {
+
+	private static final String KEY_PREFIX = "SUBMISSION-TRACE:";
+	private static final byte[] TRACE_ID_FIELD = bytes("traceId");
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Duration ttl;
+	private final Cache<Long, Set<SubmissionStage>> recordedStages;
+
+	public RedisSubmissionTraceStore(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${submission.trace.max-size:10000}") long maxSize,
+		@Value("${submission.trace.ttl-minutes:60}") long ttlMinutes
+	) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+		this.recordedStages = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.build();
+	}
+
+	@Override
+	public void record(Long submissionId, String traceId, SubmissionStage stage, long epochMillis) {
+		Set<SubmissionStage> stages = recordedStages.get(submissionId, id -> ConcurrentHashMap.newKeySet());
+		if (!stages.add(stage)) {
+			return;
+		}
+
+		byte[] key = bytes(KEY_PREFIX + submissionId);
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				if (traceId != null) {
+					connection.hashCommands().hSetNX(key, TRACE_ID_FIELD, bytes(traceId));
+				}
+				connection.hashCommands().hSetNX(key, bytes(stage.name()), bytes(String.valueOf(epochMillis)));
+				connection.keyCommands().pExpire(key, ttl.toMillis());
+
+				return null;
+			});
+		} catch (Exception e) {
+			// 추적은 관측용이므로 제출 흐름을 막지 않는다. 다음에 같은 구간이 오면 다시 시도한다
+			stages.remove(stage);
+			log.warn("Failed to record {} trace for submission {}", stage, submissionId, e);
+		}
+	}
+
+	@Override
+	public Optional<SubmissionTraceResponse> find(Long submissionId) {
+		Map<byte[], byte[]> fields;
+		try {
+			fields = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+				connection.hashCommands().hGetAll(bytes(KEY_PREFIX + submissionId)));
+		} catch (Exception e) {
+			log.warn("Failed to read trace for submission {}", submissionId, e);
+			return Optional.empty();
+		}
+
+		if (fields == null || fields.isEmpty()) {
+			return Optional.empty();
+		}
+
+		String traceId = null;
+		Map<SubmissionStage, Long> timestamps = new EnumMap<>(SubmissionStage.class);
+		for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+			String name = new String(field.getKey(), StandardCharsets.UTF_8);
+			String value = new String(field.getValue(), StandardCharsets.UTF_8);
+			if (Arrays.equals(field.getKey(), TRACE_ID_FIELD)) {
+				traceId = value;
+			} else {
+				timestamps.put(SubmissionStage.valueOf(name), Long.valueOf(value));
+			}
+		}
+
+		return Optional.of(SubmissionTraceResponse.of(submissionId, traceId, timestamps));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,24 @@
+package algomarket.problemservice.adapter.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import algomarket.problemservice.application.provided.SubmissionTraceFinder;
+import lombok.RequiredArgsConstructor;
+
+// /actuator/submissiontrace/{submissionId} - 제출 한 건의 구간별 시각. 없으면 404
+@Component
+@Endpoint(id = "submissiontrace")
+@RequiredArgsConstructor
+public class SubmissionTraceEndpoint {
+
+	private final SubmissionTraceFinder submissionTraceFinder;
+
+	@ReadOperation
+	public SubmissionTraceResponse trace(@Selector Long submissionId) {
+		return submissionTraceFinder.findTrace(submissionId).orElse(null);
+	}
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import algomarket.problemservice.application.dto.CursorPageResponse;
 import algomarket.problemservice.application.dto.InitiateUploadRequest;
 import algomarket.problemservice.application.dto.InitiateUploadResponse;
 import algomarket.problemservice.application.dto.MyProblemInfoResponse;
@@ -52,6 +53,20 @@ public class ProblemApi {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageResponse<ProblemListResponse>> listProblemsByCursor(@RequestParam(value = "after", required = false) Long afterNumber) {
+		CursorPageResponse<ProblemListResponse> response = problemFinder.listProblemsAfter(afterNumber);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/with-solved/cursor")
+	public ResponseEntity<CursorPageResponse<ProblemListResponse>> listProblemsWithSolvedStatusByCursor(@RequestParam(value = "after", required = false) Long afterNumber, @CurrentUsername String username) {
+		CursorPageResponse<ProblemListResponse> response = problemFinder.listProblemsWithSolvedStatusAfter(afterNumber, username);
+
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/{problemNumber}")
 	public ResponseEntity<ProblemInfoResponse> find(@PathVariable Long problemNumber) {
 		ProblemInfoResponse response = problemFinder.find(problemNumber);
@@ -117,4 +132,11 @@ public class ProblemApi {
 		return ResponseEntity.created(URI.create("/problems/initiate-upload/" + request.problemId()))
 			.body(response);
 	}
+
+	@PostMapping("/complete-upload/{problemId}")
+	public ResponseEntity<Void> completeUpload(@PathVariable Long problemId, @CurrentUsername String username) {
+		problemFileManager.completeUpload(problemId, username);
+
+		return ResponseEntity.ok().build();
+	}
 }
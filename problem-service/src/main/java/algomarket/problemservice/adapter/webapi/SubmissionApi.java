@@ -1,8 +1,12 @@
 package algomarket.problemservice.adapter.webapi;
 
 import java.net.URI;
+import java.time.Duration;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -10,11 +14,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import algomarket.problemservice.adapter.ratelimit.RateLimit;
+import algomarket.problemservice.application.dto.CursorPageResponse;
 import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.dto.SubmissionSourceResponse;
 import algomarket.problemservice.application.dto.SubmitResponse;
 import algomarket.problemservice.application.provided.ProgressStreamer;
 import algomarket.problemservice.application.provided.SubmissionFinder;
@@ -28,11 +37,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SubmissionApi {
 
+	private static final CacheControl SOURCE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
 	private final SubmissionHandler submissionHandler;
 	private final ProgressStreamer progressStreamer;
 	private final SubmissionFinder submissionFinder;
 
 	@PostMapping
+	@RateLimit(endpoint = "submit", capacity = 10, refillPerMinute = 10)
 	public ResponseEntity<SubmitResponse> submit(@RequestBody @Valid SubmitRequest submitRequest, @CurrentUsername String username) {
 		SubmitResponse response = submissionHandler.submit(submitRequest, username);
 
@@ -40,12 +52,30 @@ public class SubmissionApi {
 	}
 
 	@GetMapping(value = "/{submissionId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public ResponseEntity<SseEmitter> progress(@PathVariable("submissionId") Long submissionId, @RequestParam String username) {
-		SseEmitter emitter = progressStreamer.subscribeSubmissionProgress(username, submissionId);
+	public ResponseEntity<SseEmitter> progress(@PathVariable("submissionId") Long submissionId, @RequestParam String username,
+		@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+		SseEmitter emitter = progressStreamer.subscribeSubmissionProgress(username, submissionId, lastEventId);
 
 		return ResponseEntity.ok(emitter);
 	}
 
+	@GetMapping("/{submissionId}/source")
+	public ResponseEntity<SubmissionSourceResponse> findSource(@PathVariable("submissionId") Long submissionId, @CurrentUsername String username,
+		WebRequest webRequest) {
+		String eTag = "\"submission-source-" + submissionId + "\"";
+
+		// 제출 코드는 바뀌지 않으므로 본인 제출임만 확인되면 코드를 읽지 않고 304 로 응답한다
+		if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+			&& submissionFinder.isSubmittedBy(submissionId, username)
+			&& webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(SOURCE_CACHE_CONTROL).build();
+		}
+
+		SubmissionSourceResponse response = submissionFinder.findSource(submissionId, username);
+
+		return ResponseEntity.ok().eTag(eTag).cacheControl(SOURCE_CACHE_CONTROL).body(response);
+	}
+
 	@GetMapping("/history/{problemId}")
 	public ResponseEntity<Page<SubmissionHistoryForProblemResponse>> findHistory(@PathVariable("problemId") Long problemId,
 		@RequestParam Integer page, @RequestParam Integer size, @CurrentUsername String username) {
@@ -54,6 +84,22 @@ public class SubmissionApi {
 		return ResponseEntity.ok(responses);
 	}
 
+	@GetMapping("/history/{problemId}/cursor")
+	public ResponseEntity<CursorPageResponse<SubmissionHistoryForProblemResponse>> findHistoryByCursor(@PathVariable("problemId") Long problemId,
+		@RequestParam(required = false) String cursor, @RequestParam Integer size, @CurrentUsername String username) {
+		CursorPageResponse<SubmissionHistoryForProblemResponse> responses = submissionFinder.findSubmittedForProblemBefore(cursor, size, problemId, username);
+
+		return ResponseEntity.ok(responses);
+	}
+
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageResponse<SubmissionHistoryForProblemResponse>> findByCursor(@RequestParam(required = false) String cursor,
+		@RequestParam Integer size, @CurrentUsername String username) {
+		CursorPageResponse<SubmissionHistoryForProblemResponse> responses = submissionFinder.findAllBefore(cursor, size, username);
+
+		return ResponseEntity.ok(responses);
+	}
+
 	@GetMapping
 	public ResponseEntity<Page<SubmissionHistoryForProblemResponse>> find(@RequestParam Integer page, @RequestParam Integer size, @CurrentUsername String username) {
 		Page<SubmissionHistoryForProblemResponse> responses = submissionFinder.findAll(page, size, username);
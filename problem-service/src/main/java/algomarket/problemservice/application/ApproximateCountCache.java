@@ -0,0 +1,28 @@
+package algomarket.problemservice.application;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 커서 목록 조회에서 페이지마다 COUNT 쿼리를 날리지 않도록 전체 개수를 잠시 보관한다. 값은 TTL 만큼 어긋날 수 있다
+@Component
+public class ApproximateCountCache {
+
+	private final Cache<String, Long> counts;
+
+	public ApproximateCountCache(@Value("${listing.count-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.counts = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	public long get(String key, LongSupplier counter) {
+		return counts.get(key, k -> counter.getAsLong());
+	}
+}
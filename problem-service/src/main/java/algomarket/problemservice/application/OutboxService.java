@@ -1,9 +1,13 @@
 package algomarket.problemservice.application;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
@@ -15,7 +19,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import algomarket.problemservice.application.event.SubmittedEvent;
 import algomarket.problemservice.application.provided.OutboxCleanupHandler;
 import algomarket.problemservice.application.provided.OutboxRetryHandler;
+import algomarket.problemservice.application.provided.SubmissionTracer;
 import algomarket.problemservice.application.required.OutboxRepository;
+import algomarket.problemservice.application.required.SubmittedEventSender;
 import algomarket.problemservice.domain.outbox.Outbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,31 +31,66 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OutboxService implements OutboxRetryHandler, OutboxCleanupHandler {
 
+	@Value("${outbox.relay.batch-size:100}")
+	private int relayBatchSize;
+
 	private final OutboxRepository outboxRepository;
-	private final ApplicationEventPublisher eventPublisher;
+	private final SubmittedEventSender submittedEventSender;
 	private final ObjectMapper objectMapper;
+	private final SubmissionTracer submissionTracer;
 
 	@Override
 	@Transactional
-	public void retryPendingEvents() {
+	public int retryPendingEvents() {
 		int retryThresholdMinutes = 1;
 		LocalDateTime threshold = LocalDateTime.now().minusMinutes(retryThresholdMinutes);
-		
-		List<Outbox> publishFailedMessages = outboxRepository.findTop100ByTimeStampBeforeOrderByTimeStampAsc(threshold);
 
-		if (publishFailedMessages.isEmpty()) {
-			return;
+		List<Outbox> claimedMessages = outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(threshold, Limit.of(relayBatchSize));
+
+		if (claimedMessages.isEmpty()) {
+			return 0;
 		}
 
-		log.info("Found {} publish failed outbox messages older than {} minutes", publishFailedMessages.size(), retryThresholdMinutes);
+		log.info("Claimed {} publish failed outbox messages older than {} minutes", claimedMessages.size(), retryThresholdMinutes);
 
-		for (Outbox message : publishFailedMessages) {
+		List<SubmittedEvent> submittedEvents = new ArrayList<>(claimedMessages.size());
+		List<Outbox> parsedMessages = new ArrayList<>(claimedMessages.size());
+		List<Long> unreadableAggregateIds = new ArrayList<>();
+		long dispatchedAt = System.currentTimeMillis();
+		for (Outbox message : claimedMessages) {
 			try {
-				retryMessage(message);
-			} catch (Exception e) {
-				log.error("Failed to retry outbox message: {}", message.getId(), e);
+				submittedEvents.add(objectMapper.readValue(message.getPayload(), SubmittedEvent.class).withDispatchedAt(dispatchedAt));
+				parsedMessages.add(message);
+			} catch (JsonProcessingException e) {
+				log.error("Failed to read outbox message, dropping it: {} (aggregateId: {})", message.getId(), message.getAggregateId(), e);
+				unreadableAggregateIds.add(message.getAggregateId());
 			}
 		}
+
+		// 읽을 수 없는 메시지는 몇 번을 다시 시도해도 보낼 수 없고, 남겨두면 뒤에 쌓인 메시지를 계속 가로막는다
+		if (!unreadableAggregateIds.isEmpty()) {
+			outboxRepository.deleteByAggregateIdIn(unreadableAggregateIds);
+		}
+
+		Set<Long> sentSubmissionIds = submittedEvents.isEmpty() ? Set.of() : new HashSet<>(submittedEventSender.sendBatch(submittedEvents));
+
+		if (!sentSubmissionIds.isEmpty()) {
+			outboxRepository.deleteByAggregateIdIn(sentSubmissionIds);
+			submittedEvents.stream()
+				.filter(submittedEvent -> sentSubmissionIds.contains(submittedEvent.submissionId()))
+				.forEach(submissionTracer::dispatched);
+		}
+
+		// 전송에 실패한 메시지는 재시도 시각을 뒤로 미뤄 같은 실행 안에서 다시 가져오지 않게 한다
+		LocalDateTime now = LocalDateTime.now();
+		parsedMessages.stream()
+			.filter(message -> !sentSubmissionIds.contains(message.getAggregateId()))
+			.forEach(message -> message.postponeRetry(now));
+
+		log.info("Relayed {}/{} outbox messages", sentSubmissionIds.size(), claimedMessages.size());
+
+		// 한 건도 보내지 못했다면(SQS 장애 등) 스케줄러가 이번 실행에서 더 가져오지 않도록 0 을 돌려준다
+		return sentSubmissionIds.size();
 	}
 
 	@Override
@@ -67,14 +108,8 @@ public class OutboxService implements OutboxRetryHandler, OutboxCleanupHandler {
 
 		Outbox outbox = Outbox.create(submittedEvent.submissionId(), "Submission", submittedEvent, objectMapper);
 		Outbox savedOutBox = outboxRepository.save(outbox);
+		submissionTracer.outboxSaved(submittedEvent);
 
 		log.info("SubmittedEvent saved to outbox with eventId: {}", savedOutBox.getId());
 	}
-
-	private void retryMessage(Outbox message) throws JsonProcessingException {
-		SubmittedEvent submittedEvent = objectMapper.readValue(message.getPayload(), SubmittedEvent.class);
-
-		log.info("Retrying SubmittedEvent: submissionId={}, eventId={}", submittedEvent.submissionId(), message.getId());
-		eventPublisher.publishEvent(submittedEvent);
-	}
 }
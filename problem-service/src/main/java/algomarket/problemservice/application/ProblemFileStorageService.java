@@ -35,11 +35,20 @@ public class ProblemFileStorageService implements ProblemFileManager {
 		return new InitiateUploadResponse(key, presignedUrl);
 	}
 
+	// URL 을 발급한 시점에는 아직 이전 파일로 채점될 수 있으므로, 업로드가 끝난 뒤에 리비전을 올려야 새 리비전에 이전 채점 결과가 남지 않는다
+	@Override
+	public void completeUpload(Long problemId, String username) {
+		validateProblem(problemId, username);
+
+		problemRepository.increaseRevision(problemId);
+	}
+
 	@Override
 	public void deleteAllProblemFiles(Long problemId, String username) {
 		validateProblem(problemId, username);
 
 		fileStorage.deleteAllProblemFiles(problemId);
+		problemRepository.increaseRevision(problemId);
 	}
 
 	private void validateProblem(Long problemId, String username) {
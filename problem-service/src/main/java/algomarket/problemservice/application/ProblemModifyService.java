@@ -6,15 +6,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import algomarket.problemservice.adapter.lock.DistributedLock;
+import algomarket.problemservice.adapter.lock.FencingToken;
+import algomarket.problemservice.adapter.lock.StaleFencingTokenException;
 import algomarket.problemservice.application.provided.ProblemCreator;
 import algomarket.problemservice.application.provided.ProblemRemover;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.ProblemNumberSequenceRepository;
 import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
 import algomarket.problemservice.application.required.SubmissionRepository;
 import algomarket.problemservice.domain.problem.DuplicateTitleException;
 import algomarket.problemservice.domain.problem.Problem;
 import algomarket.problemservice.domain.problem.ProblemCreateRequest;
 import algomarket.problemservice.domain.problem.ProblemDraftModifyRequest;
 import algomarket.problemservice.domain.problem.ProblemInfoResponse;
+import algomarket.problemservice.domain.problem.ProblemNumberSequence;
 import algomarket.problemservice.domain.service.ProblemPublisher;
 import algomarket.problemservice.domain.submission.Submission;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +31,9 @@ public class ProblemModifyService implements ProblemCreator, ProblemRemover {
 
 	private final ProblemRepository problemRepository;
 	private final SubmissionRepository submissionRepository;
+	private final ProblemNumberSequenceRepository problemNumberSequenceRepository;
+	private final ProblemInfoCache problemInfoCache;
+	private final SolvedProblemStore solvedProblemStore;
 	private final ProblemPublisher problemPublisher = new ProblemPublisher();
 
 	@Override
@@ -45,28 +54,29 @@ public class ProblemModifyService implements ProblemCreator, ProblemRemover {
 		Problem problem = problemRepository.findByIdAndAuthorUsername(draftModifyRequest.problemId(), username)
 			.orElseThrow(() -> new NotFoundException("존재하지 않는 문제입니다. - ID: " + draftModifyRequest.problemId()));
 
-		List<Submission> submissions = submissionRepository.findAllByProblemIdAndUsername(draftModifyRequest.problemId(), username);
-		submissions.forEach(submission -> submission.updateProblemTitle(draftModifyRequest.title()));
-
 		problem.modifyDraft(draftModifyRequest);
 
-		submissionRepository.saveAll(submissions);
+		// 제출 기록을 엔티티로 읽어오지 않고 UPDATE 한 번으로 제목을 맞춘다
+		submissionRepository.updateProblemTitle(problem.getId(), username, problem.getTitle());
 
 		return ProblemInfoResponse.from(problemRepository.save(problem));
 	}
 
 	@Override
-	@DistributedLock(key = "'makePublic'", waitTime = 10, leaseTime = 5)
+	@DistributedLock(key = "'makePublic:' + #problemId", waitTime = 10, watchdog = true)
 	public void makePublic(Long problemId, String username) {
+		checkFencingToken(problemId, username);
+
 		Problem problem = problemRepository.findByIdAndAuthorUsername(problemId, username)
 			.orElseThrow(() -> new NotFoundException("문제 제작자의 문제가 존재하지 않습니다 - ID:" + problemId));
 
-		Long maxProblemNumber = problemRepository.findMaxProblemNumber();
-
 		List<Submission> submissions = submissionRepository.findAllByProblemIdAndUsername(problemId, username);
-		
-		problemPublisher.publish(username, problem, submissions, maxProblemNumber);
+
+		problemPublisher.publish(username, problem, submissions, this::allocateProblemNumber);
 		problemRepository.save(problem);
+
+		problemInfoCache.evict(problem.getNumber(), problem.getTitle());
+		solvedProblemStore.markSolved(username, problem.getNumber());
 	}
 
 	@Override
@@ -75,6 +85,26 @@ public class ProblemModifyService implements ProblemCreator, ProblemRemover {
 		problemRepository.deleteDraftProblem(problemId, username);
 	}
 
+	// 문제를 읽기 전에 토큰부터 기록한다. 락을 잃은 이전 보유자는 여기서 거절되고, 먼저 커밋한 쪽의 변경은 이후 조회에서 보인다
+	// 문제가 없으면 그대로 넘겨 아래 조회에서 NotFoundException 이 나게 한다
+	private void checkFencingToken(Long problemId, String username) {
+		Long fencingToken = FencingToken.current();
+
+		if (fencingToken != null && problemRepository.advanceFencingToken(problemId, username, fencingToken) == 0
+			&& problemRepository.existsByIdAndAuthorUsername(problemId, username)) {
+			throw new StaleFencingTokenException("만료된 락으로 문제를 공개하려 했습니다 - ID: " + problemId + ", token: " + fencingToken);
+		}
+	}
+
+	// 카운터 행의 원자적 증가로 번호를 받는다. 행 잠금은 커밋까지만 유지되고, 롤백되면 번호도 되돌아가 빈 번호가 생기지 않는다
+	private long allocateProblemNumber() {
+		if (problemNumberSequenceRepository.increment(ProblemNumberSequence.PROBLEM_NUMBER) == 0) {
+			throw new IllegalStateException("문제 번호 카운터가 초기화되지 않았습니다: " + ProblemNumberSequence.PROBLEM_NUMBER);
+		}
+
+		return problemNumberSequenceRepository.findLastNumber(ProblemNumberSequence.PROBLEM_NUMBER);
+	}
+
 	private void checkDuplicateTitle(String title, Long problemIdNotToContain) {
 		if (title != null && problemRepository.existsByTitleAndIdNot(title, problemIdNotToContain)) {
 			throw new DuplicateTitleException("이미 존재하는 제목입니다: " + title);
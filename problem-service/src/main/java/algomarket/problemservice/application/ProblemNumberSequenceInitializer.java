@@ -0,0 +1,38 @@
+package algomarket.problemservice.application;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.required.ProblemNumberSequenceRepository;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.domain.problem.ProblemNumberSequence;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProblemNumberSequenceInitializer {
+
+	private final ProblemNumberSequenceRepository problemNumberSequenceRepository;
+	private final ProblemRepository problemRepository;
+
+	// 카운터 행이 없으면 기존 공개 문제의 최대 번호로 한 번만 만든다
+	// 요청을 받기 전에 만들어 두어야 첫 공개 요청이 빈 카운터를 만나지 않는다
+	@PostConstruct
+	public void initialize() {
+		if (problemNumberSequenceRepository.existsByName(ProblemNumberSequence.PROBLEM_NUMBER)) {
+			return;
+		}
+
+		Long maxProblemNumber = problemRepository.findMaxProblemNumber();
+
+		try {
+			problemNumberSequenceRepository.save(ProblemNumberSequence.create(ProblemNumberSequence.PROBLEM_NUMBER, maxProblemNumber));
+			log.info("Initialized problem number sequence from max problem number: {}", maxProblemNumber);
+		} catch (DataIntegrityViolationException e) {
+			log.info("Problem number sequence already initialized by another node");
+		}
+	}
+}
@@ -9,13 +9,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import algomarket.problemservice.application.dto.CursorPageResponse;
 import algomarket.problemservice.application.dto.MyProblemInfoResponse;
 import algomarket.problemservice.application.dto.ProblemListResponse;
 import algomarket.problemservice.application.provided.ProblemFinder;
+import algomarket.problemservice.application.required.ProblemInfoCache;
 import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
 import algomarket.problemservice.application.required.SubmissionRepository;
 import algomarket.problemservice.domain.problem.Problem;
 import algomarket.problemservice.domain.problem.ProblemInfoResponse;
@@ -30,31 +34,57 @@ public class ProblemQueryService implements ProblemFinder {
 
 	private final ProblemRepository problemRepository;
 	private final SubmissionRepository submissionRepository;
+	private final SubmitCountService submitCountService;
+	private final ProblemInfoCache problemInfoCache;
+	private final ApproximateCountCache approximateCountCache;
+	private final SolvedProblemStore solvedProblemStore;
 
 	@Override
 	public ProblemInfoResponse find(Long problemNumber) {
-		Problem problem = problemRepository.findByNumber(problemNumber)
-			.orElseThrow(() -> new NotFoundException("존재하지 않는 문제 번호입니다 - Number:" + problemNumber));
+		ProblemInfoResponse response = problemInfoCache.getByNumber(problemNumber, () -> problemRepository.findByNumber(problemNumber)
+			.map(ProblemInfoResponse::from)
+			.orElseThrow(() -> new NotFoundException("존재하지 않는 문제 번호입니다 - Number:" + problemNumber)));
 
-		return ProblemInfoResponse.from(problem);
+		return submitCountService.withPendingCount(response);
 	}
 
 	@Override
 	public ProblemInfoResponse findByTitle(String title) {
-		Problem problem = problemRepository.findByTitle(title)
-			.orElseThrow(() -> new NotFoundException("존재하지 않는 문제 제목입니다 - Title:" + title));
+		ProblemInfoResponse response = problemInfoCache.getByTitle(title, () -> problemRepository.findByTitle(title)
+			.map(ProblemInfoResponse::from)
+			.orElseThrow(() -> new NotFoundException("존재하지 않는 문제 제목입니다 - Title:" + title)));
 
-		return ProblemInfoResponse.from(problem);
+		return submitCountService.withPendingCount(response);
 	}
 
 	@Override
 	public Page<ProblemListResponse> listProblems(Integer pageNumber) {
-		return problemRepository.findAll(PageRequest.of(pageNumber, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "number")));
+		return problemRepository.findAll(PageRequest.of(pageNumber, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "number")))
+			.map(submitCountService::withPendingCount);
 	}
 
 	@Override
 	public Page<ProblemListResponse> listProblemsWithSolvedStatus(Integer pageNumber, String username) {
-		return problemRepository.findAllWithSolvedStatus(PageRequest.of(pageNumber, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "number")), username);
+		Page<ProblemListResponse> page = problemRepository.findAll(PageRequest.of(pageNumber, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "number")));
+		Set<Long> solved = solvedProblemNumbers(username, page.getContent());
+
+		return page.map(response -> withSolvedStatus(submitCountService.withPendingCount(response), solved));
+	}
+
+	@Override
+	public CursorPageResponse<ProblemListResponse> listProblemsAfter(Long afterNumber) {
+		Slice<ProblemListResponse> slice = problemRepository.findAllAfter(afterNumber == null ? 0L : afterNumber, PageRequest.ofSize(PAGE_SIZE))
+			.map(submitCountService::withPendingCount);
+
+		return toCursorPage(slice);
+	}
+
+	@Override
+	public CursorPageResponse<ProblemListResponse> listProblemsWithSolvedStatusAfter(Long afterNumber, String username) {
+		Slice<ProblemListResponse> slice = problemRepository.findAllAfter(afterNumber == null ? 0L : afterNumber, PageRequest.ofSize(PAGE_SIZE));
+		Set<Long> solved = solvedProblemNumbers(username, slice.getContent());
+
+		return toCursorPage(slice.map(response -> withSolvedStatus(submitCountService.withPendingCount(response), solved)));
 	}
 
 	@Override
@@ -89,4 +119,28 @@ public class ProblemQueryService implements ProblemFinder {
 
 		return new PageImpl<>(responses, pageable, myProblems.getTotalElements());
 	}
+
+	// 페이지의 문제 번호를 사용자별 해결 목록과 메모리에서 맞춰본다. 목록이 아직 없으면 DB에서 한 번 채운다
+	private Set<Long> solvedProblemNumbers(String username, List<ProblemListResponse> problems) {
+		List<Long> problemNumbers = problems.stream().map(ProblemListResponse::problemNumber).toList();
+
+		return solvedProblemStore.findSolvedAmong(username, problemNumbers).orElseGet(() -> {
+			Set<Long> allSolved = Set.copyOf(submissionRepository.findSolvedProblemNumbers(username));
+			solvedProblemStore.initialize(username, allSolved);
+
+			return problemNumbers.stream().filter(allSolved::contains).collect(Collectors.toSet());
+		});
+	}
+
+	private ProblemListResponse withSolvedStatus(ProblemListResponse response, Set<Long> solved) {
+		return new ProblemListResponse(response.problemNumber(), response.title(), response.submitCount(), solved.contains(response.problemNumber()));
+	}
+
+	private CursorPageResponse<ProblemListResponse> toCursorPage(Slice<ProblemListResponse> slice) {
+		List<ProblemListResponse> content = slice.getContent();
+		String nextCursor = slice.hasNext() ? String.valueOf(content.getLast().problemNumber()) : null;
+		long approximateTotal = approximateCountCache.get("problems:public", problemRepository::countPublic);
+
+		return new CursorPageResponse<>(content, nextCursor, slice.hasNext(), approximateTotal);
+	}
 }
@@ -23,10 +23,15 @@ public class ProgressService implements ProgressStreamer {
 	private final SubmissionRepository submissionRepository;
 
 	@Override
-	public SseEmitter subscribeSubmissionProgress(String username, Long submissionId) {
-		validateSubmission(username, submissionId);
+	public SseEmitter subscribeSubmissionProgress(String username, Long submissionId, Long lastEventId) {
+		SubmitStatus submitStatus = findSubmitStatus(username, submissionId);
 
-		SseEmitter emitter = progressNotifier.saveSubscription(username, submissionId);
+		if (submitStatus.isCompleted()) {
+			log.info("Submission already judged, sending final status: {}", submissionId);
+			return progressNotifier.sendFinalStatus(username, submissionId, submitStatus);
+		}
+
+		SseEmitter emitter = progressNotifier.saveSubscription(username, submissionId, lastEventId);
 
 		log.info("Starting subscription for submission: {}", submissionId);
 
@@ -53,9 +58,8 @@ public class ProgressService implements ProgressStreamer {
 		}
 	}
 
-	private void validateSubmission(String username, Long submissionId) {
-		if (!submissionRepository.existsByUsernameAndIdAndSubmitStatus(username, submissionId, SubmitStatus.JUDGING)) {
-			throw new IllegalArgumentException("존재하지 않는 제출이거나, 이미 채점 완료 혹은 올바른 사용자의 제출이 아닙니다. SubmissionId: " + submissionId);
-		}
+	private SubmitStatus findSubmitStatus(String username, Long submissionId) {
+		return submissionRepository.findSubmitStatusByIdAndUsername(submissionId, username)
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 제출이거나, 올바른 사용자의 제출이 아닙니다. SubmissionId: " + submissionId));
 	}
 }
@@ -0,0 +1,114 @@
+package algomarket.problemservice.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.required.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SourceCodeClaimCheck {
+
+	private static final String SOURCE_KEY_FORMAT = "submissions/%d/source";
+	private static final String SOURCE_CONTENT_TYPE = "text/plain; charset=utf-8";
+
+	private final FileStorage fileStorage;
+	private final boolean enabled;
+	// SQS 는 64KB 단위로 요청 비용을 매기므로 JSON 필드 여유를 두고 한 청크 안에 들어오게 한다
+	private final int thresholdBytes;
+
+	public SourceCodeClaimCheck(
+		FileStorage fileStorage,
+		@Value("${submission.claim-check.enabled:false}") boolean enabled,
+		@Value("${submission.claim-check.threshold-bytes:61440}") int thresholdBytes
+	) {
+		this.fileStorage = fileStorage;
+		this.enabled = enabled;
+		this.thresholdBytes = thresholdBytes;
+	}
+
+	// 임계값을 넘는 코드는 저장소에 올리고 메시지에는 키와 해시만 남긴다
+	public SubmittedEvent apply(SubmittedEvent submittedEvent) {
+		if (!enabled) {
+			return submittedEvent;
+		}
+
+		byte[] sourceCode = submittedEvent.sourceCode().getBytes(StandardCharsets.UTF_8);
+		if (sourceCode.length <= thresholdBytes) {
+			return submittedEvent;
+		}
+
+		String key = SOURCE_KEY_FORMAT.formatted(submittedEvent.submissionId());
+		// 아웃박스 메시지가 커밋 직후 나가므로 커밋 전에 올리고, 제출이 롤백되면 지운다
+		fileStorage.putObject(key, sourceCode, SOURCE_CONTENT_TYPE);
+		deleteOnRollback(key);
+
+		log.info("Offloaded source code of submission {} ({} bytes) to {}", submittedEvent.submissionId(), sourceCode.length, key);
+
+		return submittedEvent.withSourceCodeRef(key, sha256Hex(sourceCode));
+	}
+
+	// 채점 결과가 반영되면 채점 서버가 더 이상 코드를 읽지 않으므로 커밋 후에 지운다
+	public void release(Collection<Long> submissionIds) {
+		if (!enabled || submissionIds.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = submissionIds.stream().map(SOURCE_KEY_FORMAT::formatted).toList();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			delete(keys);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				delete(keys);
+			}
+		});
+	}
+
+	private void deleteOnRollback(String key) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					delete(List.of(key));
+				}
+			}
+		});
+	}
+
+	// 지우지 못해도 제출이나 채점 결과 처리를 실패시키지 않는다
+	private void delete(List<String> keys) {
+		try {
+			fileStorage.deleteObjects(keys);
+		} catch (Exception e) {
+			log.warn("Failed to delete {} offloaded source objects", keys.size(), e);
+		}
+	}
+
+	private static String sha256Hex(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
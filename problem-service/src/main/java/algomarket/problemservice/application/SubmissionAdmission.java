@@ -0,0 +1,172 @@
+package algomarket.problemservice.application;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import algomarket.problemservice.application.provided.SubmissionAdmissionSampler;
+import algomarket.problemservice.application.required.JudgeCompletionCounter;
+import algomarket.problemservice.application.required.JudgeQueue;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 채점 대기열 깊이를 주기적으로 샘플링해 두고, 기준을 넘으면 요청마다 SQS 나 DB 를 보지 않고 바로 제출을 거절한다.
+// 샘플이 오래됐거나 아직 없으면 막지 않는다. 대기열 깊이와 채점 완료 수는 모든 노드가 공유하는 값이므로 노드 수와 관계없이 같은 판단을 한다
+@Slf4j
+@Component
+public class SubmissionAdmission implements SubmissionAdmissionSampler {
+
+	private static final double DRAIN_RATE_SMOOTHING = 0.3;
+	private static final long MAX_RETRY_AFTER_SECONDS = 300;
+
+	private final JudgeQueue judgeQueue;
+	private final SubmissionRepository submissionRepository;
+	private final JudgeCompletionCounter judgeCompletionCounter;
+	private final boolean enabled;
+	private final long maxBacklog;
+	private final long staleAfterNanos;
+	private final long judgingWindowMinutes;
+	private final long defaultRetryAfterSeconds;
+	private final Counter rejectedCounter;
+	private volatile Snapshot snapshot = Snapshot.NONE;
+
+	public SubmissionAdmission(
+		JudgeQueue judgeQueue,
+		SubmissionRepository submissionRepository,
+		JudgeCompletionCounter judgeCompletionCounter,
+		MeterRegistry meterRegistry,
+		@Value("${submission.admission.enabled:true}") boolean enabled,
+		@Value("${submission.admission.max-backlog:1000}") long maxBacklog,
+		@Value("${submission.admission.sample-interval-ms:5000}") long sampleIntervalMs,
+		@Value("${submission.admission.judging-window-minutes:30}") long judgingWindowMinutes,
+		@Value("${submission.admission.default-retry-after-seconds:30}") long defaultRetryAfterSeconds
+	) {
+		this.judgeQueue = judgeQueue;
+		this.submissionRepository = submissionRepository;
+		this.judgeCompletionCounter = judgeCompletionCounter;
+		this.enabled = enabled;
+		this.maxBacklog = maxBacklog;
+		this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(sampleIntervalMs * 3);
+		this.judgingWindowMinutes = judgingWindowMinutes;
+		this.defaultRetryAfterSeconds = defaultRetryAfterSeconds;
+
+		this.rejectedCounter = Counter.builder("submission.admission.rejected")
+			.description("채점 대기열이 밀려 거절한 제출 수")
+			.register(meterRegistry);
+		Gauge.builder("submission.admission.backlog", this, admission -> admission.snapshot.backlog())
+			.description("마지막으로 샘플링한 채점 대기 건수")
+			.register(meterRegistry);
+	}
+
+	public void admit() {
+		admit(System.nanoTime());
+	}
+
+	void admit(long nowNanos) {
+		Snapshot current = snapshot;
+
+		if (!enabled || current.isStale(nowNanos, staleAfterNanos) || current.backlog() < maxBacklog) {
+			return;
+		}
+
+		rejectedCounter.increment();
+
+		throw new SubmissionOverloadedException(retryAfterSeconds(current), estimatedWaitSeconds(current));
+	}
+
+	// 채점 결과를 반영한 만큼 공유 완료 수를 늘린다. 처리 속도는 이 값의 증가량으로 추정한다
+	public void judged(int count) {
+		if (enabled) {
+			judgeCompletionCounter.add(count);
+		}
+	}
+
+	@Override
+	public void sampleJudgeBacklog() {
+		sample(System.nanoTime());
+	}
+
+	void sample(long nowNanos) {
+		if (!enabled) {
+			return;
+		}
+
+		// 아직 채점되지 않은 제출(큐 대기 + 채점 중)과 SQS 대기 메시지 중 큰 쪽을 쓴다. 오래 멈춘 JUDGING 행은 빼고 센다
+		long judgingCount = submissionRepository.countBySubmitStatusAndSubmitTimeAfter(
+			SubmitStatus.JUDGING, LocalDateTime.now().minusMinutes(judgingWindowMinutes));
+		long backlog = Math.max(judgingCount, queueDepth());
+
+		snapshot = snapshot.next(nowNanos, backlog, judgeCompletionCounter.total());
+	}
+
+	long backlog() {
+		return snapshot.backlog();
+	}
+
+	double drainPerSecond() {
+		return snapshot.drainPerSecond();
+	}
+
+	private long queueDepth() {
+		try {
+			return judgeQueue.approximateDepth();
+		} catch (RuntimeException e) {
+			log.warn("Failed to read judge queue depth, using submission status only", e);
+			return 0;
+		}
+	}
+
+	// 대기열이 기준 아래로 내려갈 때까지 걸릴 시간
+	private long retryAfterSeconds(Snapshot current) {
+		if (current.drainPerSecond() <= 0) {
+			return defaultRetryAfterSeconds;
+		}
+
+		long seconds = (long) Math.ceil((current.backlog() - maxBacklog + 1) / current.drainPerSecond());
+
+		return Math.clamp(seconds, 1, MAX_RETRY_AFTER_SECONDS);
+	}
+
+	// 지금 대기열 맨 뒤에 선 제출이 채점되기까지 걸릴 시간. 처리 속도를 모르면 -1
+	private long estimatedWaitSeconds(Snapshot current) {
+		if (current.drainPerSecond() <= 0) {
+			return -1;
+		}
+
+		return (long) Math.ceil(current.backlog() / current.drainPerSecond());
+	}
+
+	private record Snapshot(long sampledAtNanos, long backlog, OptionalLong completedTotal, double drainPerSecond) {
+
+		static final Snapshot NONE = new Snapshot(0, 0, OptionalLong.empty(), 0);
+
+		boolean isStale(long nowNanos, long staleAfterNanos) {
+			return this == NONE || nowNanos - sampledAtNanos > staleAfterNanos;
+		}
+
+		// 직전 샘플 이후 모든 노드에서 채점이 끝난 수로 처리 속도를 추정한다. 완료 수를 읽지 못했으면 이전 추정치를 유지한다
+		Snapshot next(long nowNanos, long currentBacklog, OptionalLong currentCompletedTotal) {
+			if (this == NONE || completedTotal.isEmpty() || currentCompletedTotal.isEmpty()) {
+				return new Snapshot(nowNanos, currentBacklog, currentCompletedTotal, drainPerSecond);
+			}
+
+			double elapsedSeconds = (nowNanos - sampledAtNanos) / 1_000_000_000.0;
+			long completed = currentCompletedTotal.getAsLong() - completedTotal.getAsLong();
+			if (elapsedSeconds <= 0 || completed < 0) {
+				return new Snapshot(nowNanos, currentBacklog, currentCompletedTotal, drainPerSecond);
+			}
+
+			double rate = completed / elapsedSeconds;
+			double smoothed = drainPerSecond == 0 ? rate : DRAIN_RATE_SMOOTHING * rate + (1 - DRAIN_RATE_SMOOTHING) * drainPerSecond;
+
+			return new Snapshot(nowNanos, currentBacklog, currentCompletedTotal, smoothed);
+		}
+	}
+}
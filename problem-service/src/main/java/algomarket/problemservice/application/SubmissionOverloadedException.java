@@ -0,0 +1,16 @@
+package algomarket.problemservice.application;
+
+import lombok.Getter;
+
+@Getter
+public class SubmissionOverloadedException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+	private final long estimatedWaitSeconds;
+
+	public SubmissionOverloadedException(long retryAfterSeconds, long estimatedWaitSeconds) {
+		super("채점 대기열이 가득 찼습니다. " + retryAfterSeconds + "초 후 다시 제출해주세요.");
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.estimatedWaitSeconds = estimatedWaitSeconds;
+	}
+}
@@ -2,10 +2,14 @@ package algomarket.problemservice.application;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import algomarket.problemservice.application.dto.CursorPageResponse;
+import algomarket.problemservice.application.dto.SubmissionCursor;
 import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.dto.SubmissionSourceResponse;
 import algomarket.problemservice.application.provided.SubmissionFinder;
 import algomarket.problemservice.application.required.SubmissionRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class SubmissionQueryService implements SubmissionFinder {
 
 	private final SubmissionRepository submissionRepository;
+	private final ApproximateCountCache approximateCountCache;
 
 	@Override
 	public Page<SubmissionHistoryForProblemResponse> findSubmittedForProblem(Integer pageNumber, Integer pageSize, Long problemId, String username) {
@@ -26,4 +31,45 @@ public class SubmissionQueryService implements SubmissionFinder {
 	public Page<SubmissionHistoryForProblemResponse> findAll(Integer pageNumber, Integer pageSize, String username) {
 		return submissionRepository.findAllForHistory(PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "submitTime")), username);
 	}
+
+	@Override
+	public CursorPageResponse<SubmissionHistoryForProblemResponse> findSubmittedForProblemBefore(String cursor, Integer pageSize, Long problemId, String username) {
+		SubmissionCursor position = SubmissionCursor.decode(cursor);
+
+		Slice<SubmissionHistoryForProblemResponse> slice = submissionRepository.findHistoryForProblemBefore(
+			problemId, username, position.submitTime(), position.submissionId(), PageRequest.ofSize(pageSize));
+		long approximateTotal = approximateCountCache.get("submissions:" + username + ":" + problemId,
+			() -> submissionRepository.countByProblemIdAndUsername(problemId, username));
+
+		return toCursorPage(slice, approximateTotal);
+	}
+
+	@Override
+	public CursorPageResponse<SubmissionHistoryForProblemResponse> findAllBefore(String cursor, Integer pageSize, String username) {
+		SubmissionCursor position = SubmissionCursor.decode(cursor);
+
+		Slice<SubmissionHistoryForProblemResponse> slice = submissionRepository.findAllForHistoryBefore(
+			username, position.submitTime(), position.submissionId(), PageRequest.ofSize(pageSize));
+		long approximateTotal = approximateCountCache.get("submissions:" + username,
+			() -> submissionRepository.countByUsername(username));
+
+		return toCursorPage(slice, approximateTotal);
+	}
+
+	@Override
+	public SubmissionSourceResponse findSource(Long submissionId, String username) {
+		return submissionRepository.findSourceByIdAndUsername(submissionId, username)
+			.orElseThrow(() -> new NotFoundException("존재하지 않는 제출입니다: " + submissionId));
+	}
+
+	@Override
+	public boolean isSubmittedBy(Long submissionId, String username) {
+		return submissionRepository.existsByIdAndUsername(submissionId, username);
+	}
+
+	private CursorPageResponse<SubmissionHistoryForProblemResponse> toCursorPage(Slice<SubmissionHistoryForProblemResponse> slice, long approximateTotal) {
+		String nextCursor = slice.hasNext() ? SubmissionCursor.encode(slice.getContent().getLast()) : null;
+
+		return new CursorPageResponse<>(slice.getContent(), nextCursor, slice.hasNext(), approximateTotal);
+	}
 }
@@ -1,5 +1,8 @@
 package algomarket.problemservice.application;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,12 +12,19 @@ import algomarket.problemservice.application.event.JudgedEvent;
 import algomarket.problemservice.application.event.SubmittedEvent;
 import algomarket.problemservice.application.provided.SubmissionHandler;
 import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
 import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.application.required.SubmissionVerdictRepository;
+import algomarket.problemservice.application.required.VerdictCache;
 import algomarket.problemservice.domain.problem.Problem;
 import algomarket.problemservice.domain.submission.Submission;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
 import algomarket.problemservice.domain.submission.SubmitRequest;
+import algomarket.problemservice.domain.submission.VerdictKey;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubmissionService implements SubmissionHandler {
@@ -22,6 +32,12 @@ public class SubmissionService implements SubmissionHandler {
 	private final SubmissionRepository submissionRepository;
 	private final ProblemRepository problemRepository;
 	private final ApplicationEventPublisher eventPublisher;
+	private final SubmitCountService submitCountService;
+	private final SolvedProblemStore solvedProblemStore;
+	private final SourceCodeClaimCheck sourceCodeClaimCheck;
+	private final SubmissionVerdictRepository submissionVerdictRepository;
+	private final SubmissionAdmission submissionAdmission;
+	private final VerdictCache verdictCache;
 
 	@Override
 	@Transactional
@@ -31,15 +47,36 @@ public class SubmissionService implements SubmissionHandler {
 
 		problem.submit();
 
+		// 같은 코드가 이미 채점됐으면 채점 서버를 거치지 않으므로 대기열 상태와 관계없이 받는다
+		VerdictKey verdictKey = VerdictKey.of(problem.getId(), submitRequest.language(), problem.getRevision(), submitRequest.sourceCode());
+		Optional<SubmissionVerdict> cachedVerdict = verdictCache.find(verdictKey);
+
+		if (cachedVerdict.isEmpty()) {
+			submissionAdmission.admit();
+		}
+
 		Submission submission = Submission.submit(submitRequest, username, problem.getTitle());
-		submission = submissionRepository.save(submission);
+		cachedVerdict.ifPresent(verdict -> submission.updateStatus(verdict.submitStatus(), verdict.runtimeMs(), verdict.memoryKb()));
+		Submission saved = submissionRepository.save(submission);
+
+		if (cachedVerdict.isPresent()) {
+			if (saved.isSolved() && problem.getNumber() != null) {
+				solvedProblemStore.markSolved(username, problem.getNumber());
+			}
+		} else {
+			verdictCache.reserve(saved.getId(), verdictKey);
 
-		SubmittedEvent submittedEvent = SubmittedEvent.of(submitRequest, username, submission.getId(), problem.getTimeLimitSec(), problem.getMemoryLimitMb());
+			SubmittedEvent submittedEvent = sourceCodeClaimCheck.apply(
+				SubmittedEvent.of(submitRequest, username, saved.getId(), problem.getTimeLimitSec(), problem.getMemoryLimitMb()));
 
-		eventPublisher.publishEvent(submittedEvent);
-		problemRepository.save(problem);
+			eventPublisher.publishEvent(submittedEvent);
+		}
 
-		return SubmitResponse.from(submission);
+		if (problem.isPublic()) {
+			submitCountService.increment(problem.getNumber());
+		}
+
+		return SubmitResponse.from(saved);
 	}
 
 	@Override
@@ -48,8 +85,53 @@ public class SubmissionService implements SubmissionHandler {
 		Submission submission = submissionRepository.findById(judgedEvent.submissionId())
 			.orElseThrow(() -> new NotFoundException("존재하지 않는 제출입니다: " + judgedEvent.submissionId()));
 
+		// 재전달된 결과는 이미 반영됐으므로 덮어쓰거나 해결 기록을 다시 남기지 않고 처리된 것으로 본다
+		if (submission.getSubmitStatus().isCompleted()) {
+			log.info("Ignoring duplicate verdict for finished submission: {}", submission.getId());
+			return;
+		}
+
 		submission.updateStatus(judgedEvent.submitStatus(), judgedEvent.runtimeMs(), judgedEvent.memoryKb());
 
 		submissionRepository.save(submission);
+		submissionAdmission.judged(1);
+		sourceCodeClaimCheck.release(List.of(submission.getId()));
+		verdictCache.complete(List.of(SubmissionVerdict.of(submission.getId(), submission.getSubmitStatus(), submission.getRuntimeMs(),
+			submission.getMemoryKb())));
+
+		// 임시저장 문제는 번호가 없으므로 공개될 때 출제자 기록이 채워진다
+		if (submission.isSolved()) {
+			problemRepository.findNumberById(submission.getProblemId())
+				.ifPresent(problemNumber -> solvedProblemStore.markSolved(submission.getUsername(), problemNumber));
+		}
+	}
+
+	@Override
+	@Transactional
+	public List<Long> finishSubmissions(List<JudgedEvent> judgedEvents) {
+		List<SubmissionVerdict> verdicts = judgedEvents.stream()
+			.map(judgedEvent -> SubmissionVerdict.of(judgedEvent.submissionId(), judgedEvent.submitStatus(), judgedEvent.runtimeMs(), judgedEvent.memoryKb()))
+			.toList();
+
+		List<Long> finishedIds = submissionVerdictRepository.updateVerdicts(verdicts);
+		submissionAdmission.judged(finishedIds.size());
+		sourceCodeClaimCheck.release(finishedIds);
+		verdictCache.complete(verdicts.stream()
+			.filter(verdict -> finishedIds.contains(verdict.submissionId()))
+			.toList());
+
+		List<Long> solvedIds = verdicts.stream()
+			.filter(SubmissionVerdict::isSolved)
+			.map(SubmissionVerdict::submissionId)
+			.filter(finishedIds::contains)
+			.toList();
+
+		if (!solvedIds.isEmpty()) {
+			for (Object[] row : submissionRepository.findUsernameAndProblemNumberByIdIn(solvedIds)) {
+				solvedProblemStore.markSolved((String) row[0], (Long) row[1]);
+			}
+		}
+
+		return finishedIds;
 	}
 }
@@ -0,0 +1,110 @@
+package algomarket.problemservice.application;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.provided.SubmissionTraceFinder;
+import algomarket.problemservice.application.provided.SubmissionTracer;
+import algomarket.problemservice.application.required.SubmissionTraceStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 제출 구간별 시각을 모아 두고, 노드와 채점 서버를 가로지르는 구간은 히스토그램으로 남긴다.
+// 채점 서버 시계와 비교하는 구간(queue.wait, result.ingest.lag)은 두 서버의 시계 차이만큼 어긋날 수 있고, 음수는 버린다
+@Service
+public class SubmissionTraceService implements SubmissionTracer, SubmissionTraceFinder {
+
+	private final SubmissionTraceStore submissionTraceStore;
+	private final Timer dispatchTimer;
+	private final Timer queueWaitTimer;
+	private final Timer judgeTimer;
+	private final Timer progressLagTimer;
+	private final Timer resultIngestLagTimer;
+	private final Timer totalTimer;
+
+	public SubmissionTraceService(SubmissionTraceStore submissionTraceStore, MeterRegistry meterRegistry) {
+		this.submissionTraceStore = submissionTraceStore;
+		this.dispatchTimer = histogram(meterRegistry, "dispatch", "제출 커밋부터 채점 큐에 넣기까지");
+		this.queueWaitTimer = histogram(meterRegistry, "queue.wait", "채점 큐에서 기다린 시간");
+		this.judgeTimer = histogram(meterRegistry, "judge", "컴파일과 채점에 걸린 시간");
+		this.progressLagTimer = histogram(meterRegistry, "progress.lag", "채점 서버가 보낸 진행 상황이 이 노드에 닿기까지");
+		this.resultIngestLagTimer = histogram(meterRegistry, "result.ingest.lag", "채점 결과 전송부터 수신까지");
+		this.totalTimer = histogram(meterRegistry, "total", "제출부터 결과 반영까지");
+	}
+
+	@EventListener
+	public void submitted(SubmittedEvent submittedEvent) {
+		record(submittedEvent.submissionId(), submittedEvent.traceId(), SubmissionStage.SUBMITTED, submittedEvent.submittedAt());
+	}
+
+	@Override
+	public void outboxSaved(SubmittedEvent submittedEvent) {
+		record(submittedEvent.submissionId(), submittedEvent.traceId(), SubmissionStage.OUTBOX_SAVED, System.currentTimeMillis());
+	}
+
+	@Override
+	public void dispatched(SubmittedEvent submittedEvent) {
+		record(submittedEvent.submissionId(), submittedEvent.traceId(), SubmissionStage.DISPATCHED, submittedEvent.dispatchedAt());
+		recordBetween(dispatchTimer, submittedEvent.submittedAt(), submittedEvent.dispatchedAt());
+	}
+
+	@EventListener
+	public void progressed(ProgressEvent progressEvent) {
+		record(progressEvent.submissionId(), progressEvent.traceId(), SubmissionStage.FIRST_PROGRESS, progressEvent.publishedAt());
+		recordBetween(progressLagTimer, progressEvent.publishedAt(), System.currentTimeMillis());
+	}
+
+	@Override
+	public void judged(JudgedEvent judgedEvent, long ingestedAt) {
+		Long submissionId = judgedEvent.submissionId();
+		String traceId = judgedEvent.traceId();
+		long finishedAt = System.currentTimeMillis();
+
+		// 제출을 받은 노드와 결과를 받은 노드가 다를 수 있어 앞 구간도 이벤트 값으로 채운다
+		record(submissionId, traceId, SubmissionStage.SUBMITTED, judgedEvent.submittedAt());
+		record(submissionId, traceId, SubmissionStage.DISPATCHED, judgedEvent.dispatchedAt());
+		record(submissionId, traceId, SubmissionStage.JUDGE_RECEIVED, judgedEvent.receivedAt());
+		record(submissionId, traceId, SubmissionStage.JUDGE_STARTED, judgedEvent.judgeStartedAt());
+		record(submissionId, traceId, SubmissionStage.JUDGE_FINISHED, judgedEvent.judgeFinishedAt());
+		record(submissionId, traceId, SubmissionStage.RESULT_SENT, judgedEvent.resultSentAt());
+		record(submissionId, traceId, SubmissionStage.RESULT_INGESTED, ingestedAt);
+		record(submissionId, traceId, SubmissionStage.FINISHED, finishedAt);
+
+		recordBetween(queueWaitTimer, judgedEvent.dispatchedAt(), judgedEvent.receivedAt());
+		recordBetween(judgeTimer, judgedEvent.judgeStartedAt(), judgedEvent.judgeFinishedAt());
+		recordBetween(resultIngestLagTimer, judgedEvent.resultSentAt(), ingestedAt);
+		recordBetween(totalTimer, judgedEvent.submittedAt(), finishedAt);
+	}
+
+	@Override
+	public Optional<SubmissionTraceResponse> findTrace(Long submissionId) {
+		return submissionTraceStore.find(submissionId);
+	}
+
+	private void record(Long submissionId, String traceId, SubmissionStage stage, Long epochMillis) {
+		if (submissionId != null && epochMillis != null) {
+			submissionTraceStore.record(submissionId, traceId, stage, epochMillis);
+		}
+	}
+
+	private static void recordBetween(Timer timer, Long from, Long to) {
+		if (from != null && to != null && to >= from) {
+			timer.record(Duration.ofMillis(to - from));
+		}
+	}
+
+	private static Timer histogram(MeterRegistry meterRegistry, String name, String description) {
+		return Timer.builder("submission.lifecycle." + name)
+			.description(description)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
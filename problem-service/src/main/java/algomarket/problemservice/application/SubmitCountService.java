@@ -0,0 +1,108 @@
+package algomarket.problemservice.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.dto.ProblemListResponse;
+import algomarket.problemservice.application.provided.SubmitCountFlusher;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.SubmitCountRepository;
+import algomarket.problemservice.domain.problem.ProblemInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmitCountService implements SubmitCountFlusher {
+
+	// 문제 번호별로 아직 DB에 반영되지 않은 제출 수. 제출마다 Problem 행을 갱신하지 않도록 노드 메모리에 모아둔다
+	private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final SubmitCountRepository submitCountRepository;
+	private final ProblemInfoCache problemInfoCache;
+
+	public void increment(Long problemNumber) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			counterOf(problemNumber).increment();
+			return;
+		}
+
+		// 제출 트랜잭션이 롤백되면 세지 않는다
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				counterOf(problemNumber).increment();
+			}
+		});
+	}
+
+	public int pendingCount(Long problemNumber) {
+		LongAdder counter = pendingCounts.get(problemNumber);
+
+		return counter == null ? 0 : counter.intValue();
+	}
+
+	public ProblemListResponse withPendingCount(ProblemListResponse response) {
+		int pendingCount = pendingCount(response.problemNumber());
+		if (pendingCount == 0) {
+			return response;
+		}
+
+		return new ProblemListResponse(response.problemNumber(), response.title(), response.submitCount() + pendingCount, response.isSolved());
+	}
+
+	public ProblemInfoResponse withPendingCount(ProblemInfoResponse response) {
+		int pendingCount = pendingCount(response.problemNumber());
+		if (pendingCount == 0) {
+			return response;
+		}
+
+		return new ProblemInfoResponse(response.problemId(), response.problemNumber(), response.title(), response.description(),
+			response.submitCount() + pendingCount, response.timeLimit(), response.memoryLimit(), response.exampleTestCases());
+	}
+
+	// 조회 값(캐시된 DB 값 + 미반영 수)이 줄어들지 않도록 DB 반영과 캐시 제거가 끝난 뒤에 미반영 수를 뺀다
+	@Override
+	public void flushSubmitCounts() {
+		flushLock.lock();
+		try {
+			// sumThenReset 은 동시 증가분을 잃을 수 있으므로 읽은 만큼만 빼서 그 사이 증가분은 다음 주기로 넘긴다
+			Map<Long, Integer> deltas = new HashMap<>();
+			pendingCounts.forEach((problemNumber, counter) -> {
+				int delta = counter.intValue();
+				if (delta != 0) {
+					deltas.put(problemNumber, delta);
+				}
+			});
+
+			if (deltas.isEmpty()) {
+				return;
+			}
+
+			try {
+				submitCountRepository.addSubmitCounts(deltas);
+			} catch (Exception e) {
+				log.error("Failed to flush submit counts for {} problems", deltas.size(), e);
+				return;
+			}
+
+			problemInfoCache.evictNumbers(deltas.keySet());
+			deltas.forEach((problemNumber, delta) -> counterOf(problemNumber).add(-delta));
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private LongAdder counterOf(Long problemNumber) {
+		return pendingCounts.computeIfAbsent(problemNumber, key -> new LongAdder());
+	}
+}
@@ -0,0 +1,14 @@
+package algomarket.problemservice.application.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+	List<T> content,
+
+	String nextCursor,
+
+	boolean hasNext,
+
+	long approximateTotalElements
+) {
+}
@@ -0,0 +1,37 @@
+package algomarket.problemservice.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (submitTime, id) 내림차순 탐색 위치. 클라이언트에는 불투명한 토큰으로 전달한다
+public record SubmissionCursor(
+	LocalDateTime submitTime,
+
+	Long submissionId
+) {
+	private static final SubmissionCursor FIRST = new SubmissionCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+	private static final String DELIMITER = "_";
+
+	public static SubmissionCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return FIRST;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(DELIMITER, 2);
+
+			return new SubmissionCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+		}
+	}
+
+	public static String encode(SubmissionHistoryForProblemResponse last) {
+		String raw = last.submitTime() + DELIMITER + last.submissionId();
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
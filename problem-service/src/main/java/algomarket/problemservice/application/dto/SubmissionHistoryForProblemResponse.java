@@ -14,8 +14,6 @@ public record SubmissionHistoryForProblemResponse(
 
 	SubmitStatus submitStatus,
 
-	String sourceCode,
-
 	Language language,
 
 	Integer runtimeMs,
@@ -0,0 +1,16 @@
+package algomarket.problemservice.application.dto;
+
+import algomarket.problemservice.domain.shared.CompressedText;
+import algomarket.problemservice.domain.shared.Language;
+
+public record SubmissionSourceResponse(
+	Long submissionId,
+
+	Language language,
+
+	String sourceCode
+) {
+	public SubmissionSourceResponse(Long submissionId, Language language, CompressedText sourceCode) {
+		this(submissionId, language, sourceCode.text());
+	}
+}
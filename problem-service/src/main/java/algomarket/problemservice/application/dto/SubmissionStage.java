@@ -0,0 +1,15 @@
+package algomarket.problemservice.application.dto;
+
+// 제출 한 건이 거치는 구간. 선언 순서가 정상 흐름의 순서다
+public enum SubmissionStage {
+	SUBMITTED,
+	OUTBOX_SAVED,
+	DISPATCHED,
+	JUDGE_RECEIVED,
+	JUDGE_STARTED,
+	FIRST_PROGRESS,
+	JUDGE_FINISHED,
+	RESULT_SENT,
+	RESULT_INGESTED,
+	FINISHED
+}
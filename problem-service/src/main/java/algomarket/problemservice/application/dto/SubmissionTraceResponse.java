@@ -0,0 +1,37 @@
+package algomarket.problemservice.application.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record SubmissionTraceResponse(
+	Long submissionId,
+
+	String traceId,
+
+	List<StageTimestamp> stages,
+
+	Long totalMs
+) {
+
+	public static SubmissionTraceResponse of(Long submissionId, String traceId, Map<SubmissionStage, Long> timestamps) {
+		List<Map.Entry<SubmissionStage, Long>> ordered = timestamps.entrySet().stream()
+			.sorted(Map.Entry.<SubmissionStage, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+			.toList();
+
+		List<StageTimestamp> stages = new ArrayList<>(ordered.size());
+		Long previous = null;
+		for (Map.Entry<SubmissionStage, Long> entry : ordered) {
+			stages.add(new StageTimestamp(entry.getKey(), entry.getValue(), previous == null ? null : entry.getValue() - previous));
+			previous = entry.getValue();
+		}
+
+		Long totalMs = ordered.isEmpty() ? null : ordered.getLast().getValue() - ordered.getFirst().getValue();
+
+		return new SubmissionTraceResponse(submissionId, traceId, stages, totalMs);
+	}
+
+	// at 은 epoch millis, sincePreviousMs 는 바로 앞 구간과의 차이
+	public record StageTimestamp(SubmissionStage stage, Long at, Long sincePreviousMs) {
+	}
+}
@@ -2,12 +2,20 @@ package algomarket.problemservice.application.event;
 
 import algomarket.problemservice.domain.submission.SubmitStatus;
 
+// 시각 필드는 모두 epoch millis. submittedAt, dispatchedAt 은 SubmittedEvent 값을 채점 서버가 그대로 돌려준 것이고 나머지는 채점 서버 시계 기준이다
 public record JudgedEvent(
 	Long submissionId,
 	Long problemId,
 	String username,
 	SubmitStatus submitStatus,
 	Integer runtimeMs,
-	Integer memoryKb
+	Integer memoryKb,
+	String traceId,
+	Long submittedAt,
+	Long dispatchedAt,
+	Long receivedAt,
+	Long judgeStartedAt,
+	Long judgeFinishedAt,
+	Long resultSentAt
 ) {
 }
@@ -13,7 +13,9 @@ public record ProgressEvent(
 	Integer totalTest,
 	LocalDateTime timeStamp,
 	Integer runtimeMs,
-	Integer memoryKb
+	Integer memoryKb,
+	String traceId,
+	Long publishedAt
 ) {
 
 }
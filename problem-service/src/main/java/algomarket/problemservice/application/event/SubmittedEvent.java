@@ -1,16 +1,24 @@
 package algomarket.problemservice.application.event;
 
+import java.util.UUID;
+
 import algomarket.problemservice.domain.shared.Language;
 import algomarket.problemservice.domain.submission.SubmitRequest;
 
+// traceId 와 *At(epoch millis) 필드는 제출부터 채점 결과 반영까지의 구간을 잇는 데 쓰이고, 채점 서버가 JudgedEvent 로 되돌려준다
 public record SubmittedEvent(
 	Long submissionId,
 	Long problemId,
 	String username,
 	String sourceCode,
+	String sourceCodeRef,
+	String sourceCodeSha256,
 	Language language,
 	Double timeLimitSec,
-	Integer memoryLimitMb
+	Integer memoryLimitMb,
+	String traceId,
+	Long submittedAt,
+	Long dispatchedAt
 ) {
 	public static SubmittedEvent of(SubmitRequest submitRequest, String username, Long submissionId, Double timeLimitSec, Integer memoryLimitMb) {
 		return new SubmittedEvent(
@@ -18,9 +26,25 @@ public record SubmittedEvent(
 			submitRequest.problemId(),
 			username,
 			submitRequest.sourceCode(),
+			null,
+			null,
 			submitRequest.language(),
 			timeLimitSec,
-			memoryLimitMb
+			memoryLimitMb,
+			UUID.randomUUID().toString().replace("-", ""),
+			System.currentTimeMillis(),
+			null
 		);
 	}
+
+	public SubmittedEvent withSourceCodeRef(String sourceCodeRef, String sourceCodeSha256) {
+		return new SubmittedEvent(submissionId, problemId, username, null, sourceCodeRef, sourceCodeSha256, language, timeLimitSec, memoryLimitMb,
+			traceId, submittedAt, dispatchedAt);
+	}
+
+	// 큐에 넣기 직전에 찍는다. outbox 재전송이면 재전송 시각이 된다
+	public SubmittedEvent withDispatchedAt(long dispatchedAt) {
+		return new SubmittedEvent(submissionId, problemId, username, sourceCode, sourceCodeRef, sourceCodeSha256, language, timeLimitSec, memoryLimitMb,
+			traceId, submittedAt, dispatchedAt);
+	}
 }
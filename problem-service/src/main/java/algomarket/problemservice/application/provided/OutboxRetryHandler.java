@@ -2,5 +2,5 @@ package algomarket.problemservice.application.provided;
 
 public interface OutboxRetryHandler {
 	
-	void retryPendingEvents();
+	int retryPendingEvents();
 }
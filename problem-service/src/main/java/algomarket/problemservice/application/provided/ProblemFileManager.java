@@ -7,5 +7,7 @@ public interface ProblemFileManager {
 
 	InitiateUploadResponse initiateUpload(InitiateUploadRequest request, String username);
 
+	void completeUpload(Long problemId, String username);
+
 	void deleteAllProblemFiles(Long problemId, String username);
 }
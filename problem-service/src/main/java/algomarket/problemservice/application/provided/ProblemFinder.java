@@ -2,6 +2,7 @@ package algomarket.problemservice.application.provided;
 
 import org.springframework.data.domain.Page;
 
+import algomarket.problemservice.application.dto.CursorPageResponse;
 import algomarket.problemservice.application.dto.MyProblemInfoResponse;
 import algomarket.problemservice.application.dto.ProblemListResponse;
 import algomarket.problemservice.domain.problem.ProblemInfoResponse;
@@ -16,6 +17,10 @@ public interface ProblemFinder {
 
 	Page<ProblemListResponse> listProblemsWithSolvedStatus(Integer pageNumber, String username);
 
+	CursorPageResponse<ProblemListResponse> listProblemsAfter(Long afterNumber);
+
+	CursorPageResponse<ProblemListResponse> listProblemsWithSolvedStatusAfter(Long afterNumber, String username);
+
 	MyProblemInfoResponse findMyProblem(Long problemId, String username);
 
 	Page<MyProblemInfoResponse> listMyProblems(Integer pageNumber, String username);
@@ -4,5 +4,5 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface ProgressStreamer {
 
-	SseEmitter subscribeSubmissionProgress(String username, Long submissionId);
+	SseEmitter subscribeSubmissionProgress(String username, Long submissionId, Long lastEventId);
 }
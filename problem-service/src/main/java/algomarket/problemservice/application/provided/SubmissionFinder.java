@@ -2,11 +2,21 @@ package algomarket.problemservice.application.provided;
 
 import org.springframework.data.domain.Page;
 
+import algomarket.problemservice.application.dto.CursorPageResponse;
 import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.dto.SubmissionSourceResponse;
 
 public interface SubmissionFinder {
 
 	Page<SubmissionHistoryForProblemResponse> findSubmittedForProblem(Integer pageNumber, Integer pageSize, Long problemId, String username);
 
 	Page<SubmissionHistoryForProblemResponse> findAll(Integer pageNumber, Integer pageSize, String username);
+
+	CursorPageResponse<SubmissionHistoryForProblemResponse> findSubmittedForProblemBefore(String cursor, Integer pageSize, Long problemId, String username);
+
+	CursorPageResponse<SubmissionHistoryForProblemResponse> findAllBefore(String cursor, Integer pageSize, String username);
+
+	SubmissionSourceResponse findSource(Long submissionId, String username);
+
+	boolean isSubmittedBy(Long submissionId, String username);
 }
@@ -1,5 +1,7 @@
 package algomarket.problemservice.application.provided;
 
+import java.util.List;
+
 import algomarket.problemservice.application.dto.SubmitResponse;
 import algomarket.problemservice.application.event.JudgedEvent;
 import algomarket.problemservice.domain.submission.SubmitRequest;
@@ -9,4 +11,7 @@ public interface SubmissionHandler {
 	SubmitResponse submit(SubmitRequest submitRequest, String username);
 
 	void finishSubmission(JudgedEvent judgedEvent);
+
+	// 한 트랜잭션으로 반영하고, 반영된 제출 id 를 돌려준다
+	List<Long> finishSubmissions(List<JudgedEvent> judgedEvents);
 }
@@ -0,0 +1,10 @@
+package algomarket.problemservice.application.provided;
+
+import java.util.Optional;
+
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+
+public interface SubmissionTraceFinder {
+
+	Optional<SubmissionTraceResponse> findTrace(Long submissionId);
+}
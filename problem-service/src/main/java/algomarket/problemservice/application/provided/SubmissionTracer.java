@@ -0,0 +1,13 @@
+package algomarket.problemservice.application.provided;
+
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.event.SubmittedEvent;
+
+public interface SubmissionTracer {
+
+	void outboxSaved(SubmittedEvent submittedEvent);
+
+	void dispatched(SubmittedEvent submittedEvent);
+
+	void judged(JudgedEvent judgedEvent, long ingestedAt);
+}
@@ -0,0 +1,6 @@
+package algomarket.problemservice.application.provided;
+
+public interface SubmitCountFlusher {
+
+	void flushSubmitCounts();
+}
@@ -1,5 +1,6 @@
 package algomarket.problemservice.application.required;
 
+import java.util.Collection;
 import java.util.Map;
 
 public interface FileStorage {
@@ -9,4 +10,9 @@ public interface FileStorage {
 	String createPresignedUrl(String key,  Map<String, String> metadata);
 
 	void deleteAllProblemFiles(Long problemId);
+
+	void putObject(String key, byte[] content, String contentType);
+
+	// 없는 키는 무시한다
+	void deleteObjects(Collection<String> keys);
 }
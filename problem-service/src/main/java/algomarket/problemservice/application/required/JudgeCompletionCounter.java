@@ -0,0 +1,12 @@
+package algomarket.problemservice.application.required;
+
+import java.util.OptionalLong;
+
+// 모든 노드가 공유하는 채점 완료 누적 건수. 채점 처리 속도는 두 샘플 사이의 증가량으로 구한다
+public interface JudgeCompletionCounter {
+
+	void add(int count);
+
+	// 읽지 못하면 비어 있다
+	OptionalLong total();
+}
@@ -0,0 +1,7 @@
+package algomarket.problemservice.application.required;
+
+public interface JudgeQueue {
+
+	// 채점 서버가 아직 가져가지 않은 메시지 수. 근사값이다
+	long approximateDepth();
+}
@@ -1,11 +1,20 @@
 package algomarket.problemservice.application.required;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 import algomarket.problemservice.domain.outbox.Outbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface OutboxRepository extends Repository<Outbox, Long> {
 
@@ -13,7 +22,14 @@ public interface OutboxRepository extends Repository<Outbox, Long> {
 
 	void deleteByAggregateId(Long aggregateId);
 
-	List<Outbox> findTop100ByTimeStampBeforeOrderByTimeStampAsc(LocalDateTime threshold);
+	// lock.timeout -2 = SKIP LOCKED. 다른 노드가 잡고 있는 행은 건너뛰어 노드마다 서로 다른 배치를 가져간다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	List<Outbox> findByTimeStampBeforeOrderByTimeStampAsc(LocalDateTime threshold, Limit limit);
+
+	@Modifying
+	@Query("DELETE FROM Outbox o WHERE o.aggregateId IN :aggregateIds")
+	int deleteByAggregateIdIn(@Param("aggregateIds") Collection<Long> aggregateIds);
 
 	boolean existsByAggregateId(Long aggregateId);
 }
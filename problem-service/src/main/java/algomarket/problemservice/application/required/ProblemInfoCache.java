@@ -0,0 +1,17 @@
+package algomarket.problemservice.application.required;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import algomarket.problemservice.domain.problem.ProblemInfoResponse;
+
+public interface ProblemInfoCache {
+
+	ProblemInfoResponse getByNumber(Long problemNumber, Supplier<ProblemInfoResponse> loader);
+
+	ProblemInfoResponse getByTitle(String title, Supplier<ProblemInfoResponse> loader);
+
+	void evict(Long problemNumber, String title);
+
+	void evictNumbers(Collection<Long> problemNumbers);
+}
@@ -0,0 +1,21 @@
+package algomarket.problemservice.application.required;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import algomarket.problemservice.domain.problem.ProblemNumberSequence;
+
+public interface ProblemNumberSequenceRepository extends Repository<ProblemNumberSequence, String> {
+
+	ProblemNumberSequence save(ProblemNumberSequence sequence);
+
+	boolean existsByName(String name);
+
+	@Modifying
+	@Query("UPDATE ProblemNumberSequence s SET s.lastNumber = s.lastNumber + 1 WHERE s.name = :name")
+	int increment(String name);
+
+	@Query("SELECT s.lastNumber FROM ProblemNumberSequence s WHERE s.name = :name")
+	Long findLastNumber(String name);
+}
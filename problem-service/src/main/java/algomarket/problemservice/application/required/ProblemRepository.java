@@ -4,9 +4,11 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import algomarket.problemservice.application.dto.ProblemListResponse;
 import algomarket.problemservice.domain.problem.Problem;
@@ -27,19 +29,18 @@ public interface ProblemRepository extends Repository<Problem, Long> {
 	Page<ProblemListResponse> findAll(Pageable pageable);
 
 	@Query("""
-      SELECT new algomarket.problemservice.application.dto.ProblemListResponse(
-          p.number, p.title, p.submitCount,
-          CASE WHEN EXISTS (
-              SELECT 1 FROM Submission s2
-              WHERE s2.problemId = p.id
-                  AND s2.username = :username
-                  AND s2.submitStatus = 'ACCEPTED'
-          ) THEN true ELSE false END
-      )
+      SELECT new algomarket.problemservice.application.dto.ProblemListResponse(p.number, p.title, p.submitCount, null)
       FROM Problem p
-      WHERE p.problemStatus = 'PUBLIC'
+      WHERE p.problemStatus = 'PUBLIC' AND p.number > :afterNumber
+      ORDER BY p.number ASC
       """)
-	Page<ProblemListResponse> findAllWithSolvedStatus(Pageable pageable, String username);
+	Slice<ProblemListResponse> findAllAfter(Long afterNumber, Pageable pageable);
+
+	@Query("SELECT p.number FROM Problem p WHERE p.id = :problemId")
+	Optional<Long> findNumberById(Long problemId);
+
+	@Query("SELECT COUNT(p) FROM Problem p WHERE p.problemStatus = algomarket.problemservice.domain.problem.ProblemStatus.PUBLIC")
+	long countPublic();
 
 	@Query("SELECT p from Problem p WHERE p.authorUsername = :authorUsername")
 	Page<Problem> findAllMyProblems(Pageable pageable, String authorUsername);
@@ -47,6 +48,20 @@ public interface ProblemRepository extends Repository<Problem, Long> {
 	@Query("SELECT MAX(p.number) FROM Problem p WHERE p.problemStatus = algomarket.problemservice.domain.problem.ProblemStatus.PUBLIC")
 	Long findMaxProblemNumber();
 
+	// 더 큰 토큰이 이미 기록돼 있으면 0 을 돌려준다. 행 잠금을 잡으므로 같은 문제에 대한 쓰기는 커밋 순서대로 줄을 선다
+	@Modifying
+	@Query("""
+      UPDATE Problem p SET p.fencingToken = :fencingToken
+      WHERE p.id = :problemId AND p.authorUsername = :username AND (p.fencingToken IS NULL OR p.fencingToken < :fencingToken)
+      """)
+	int advanceFencingToken(Long problemId, String username, Long fencingToken);
+
+	// 채점 데이터 파일이 바뀌었으므로 이전 채점 결과 캐시를 쓰지 않게 한다
+	@Transactional
+	@Modifying
+	@Query("UPDATE Problem p SET p.revision = p.revision + 1 WHERE p.id = :problemId")
+	int increaseRevision(Long problemId);
+
 	boolean existsByTitleAndIdNot(String title, Long problemId);
 
 	boolean existsByIdAndAuthorUsername(Long problemId, String username);
@@ -7,7 +7,9 @@ import algomarket.problemservice.domain.submission.SubmitStatus;
 
 public interface ProgressNotifier {
 
-	SseEmitter saveSubscription(String username, Long submissionId);
+	SseEmitter saveSubscription(String username, Long submissionId, Long lastEventId);
+
+	SseEmitter sendFinalStatus(String username, Long submissionId, SubmitStatus status);
 	
 	void notifyProgressUpdate(String username, Long submissionId, ProgressEvent progressEvent);
 	
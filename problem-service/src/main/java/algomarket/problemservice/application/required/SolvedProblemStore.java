@@ -0,0 +1,15 @@
+package algomarket.problemservice.application.required;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface SolvedProblemStore {
+
+	// 사용자의 해결 목록이 아직 만들어지지 않았으면 빈 값을 반환한다
+	Optional<Set<Long>> findSolvedAmong(String username, Collection<Long> problemNumbers);
+
+	void initialize(String username, Collection<Long> solvedProblemNumbers);
+
+	void markSolved(String username, Long problemNumber);
+}
@@ -1,14 +1,18 @@
 package algomarket.problemservice.application.required;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 
 import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.dto.SubmissionSourceResponse;
 import algomarket.problemservice.domain.submission.Submission;
 import algomarket.problemservice.domain.submission.SubmitStatus;
 
@@ -20,18 +24,55 @@ public interface SubmissionRepository extends Repository<Submission, Long> {
 
 	Optional<Submission> findById(Long id);
 
-	Boolean existsByUsernameAndIdAndSubmitStatus(String username, Long id,  SubmitStatus status);
+	@Query("SELECT s.submitStatus FROM Submission s WHERE s.id = :id AND s.username = :username")
+	Optional<SubmitStatus> findSubmitStatusByIdAndUsername(Long id, String username);
+
+	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionSourceResponse(s.id, s.language, s.sourceCode) "
+		+ "FROM Submission s WHERE s.id = :id AND s.username = :username")
+	Optional<SubmissionSourceResponse> findSourceByIdAndUsername(Long id, String username);
+
+	boolean existsByIdAndUsername(Long id, String username);
 
 	List<Submission> findAllByProblemIdAndUsername(Long problemId, String username);
 
+	@Modifying
+	@Query("UPDATE Submission s SET s.problemTitle = :problemTitle WHERE s.problemId = :problemId AND s.username = :username")
+	int updateProblemTitle(Long problemId, String username, String problemTitle);
+
 	@Query("SELECT s.problemId, s.language FROM Submission s WHERE s.problemId IN :problemId AND s.submitStatus = algomarket.problemservice.domain.submission.SubmitStatus.ACCEPTED")
 	List<Object[]> findSolvedLanguagesForDraftByProblemId(List<Long> problemId);
 
-	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.sourceCode, s.language, s.runtimeMs, s.memoryKb, s.submitTime, null) "
+	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.language, s.runtimeMs, s.memoryKb, s.submitTime, null) "
 		+ "FROM Submission s WHERE s.problemId = :problemId AND s.username = :username")
 	Page<SubmissionHistoryForProblemResponse> findHistoryForProblem(Pageable pageable, Long problemId, String username);
 
-	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.sourceCode, s.language, s.runtimeMs, s.memoryKb, s.submitTime, s.problemTitle) "
+	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.language, s.runtimeMs, s.memoryKb, s.submitTime, s.problemTitle) "
 		+ "FROM Submission s WHERE s.username = :username")
 	Page<SubmissionHistoryForProblemResponse> findAllForHistory(Pageable pageable, String username);
+
+	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.language, s.runtimeMs, s.memoryKb, s.submitTime, null) "
+		+ "FROM Submission s WHERE s.problemId = :problemId AND s.username = :username "
+		+ "AND (s.submitTime < :submitTime OR (s.submitTime = :submitTime AND s.id < :submissionId)) "
+		+ "ORDER BY s.submitTime DESC, s.id DESC")
+	Slice<SubmissionHistoryForProblemResponse> findHistoryForProblemBefore(Long problemId, String username, LocalDateTime submitTime, Long submissionId, Pageable pageable);
+
+	@Query("SELECT new algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse(s.id, s.problemId, s.username, s.submitStatus, s.language, s.runtimeMs, s.memoryKb, s.submitTime, s.problemTitle) "
+		+ "FROM Submission s WHERE s.username = :username "
+		+ "AND (s.submitTime < :submitTime OR (s.submitTime = :submitTime AND s.id < :submissionId)) "
+		+ "ORDER BY s.submitTime DESC, s.id DESC")
+	Slice<SubmissionHistoryForProblemResponse> findAllForHistoryBefore(String username, LocalDateTime submitTime, Long submissionId, Pageable pageable);
+
+	@Query("SELECT DISTINCT p.number FROM Submission s JOIN Problem p ON p.id = s.problemId "
+		+ "WHERE s.username = :username AND s.submitStatus = algomarket.problemservice.domain.submission.SubmitStatus.ACCEPTED AND p.number IS NOT NULL")
+	List<Long> findSolvedProblemNumbers(String username);
+
+	@Query("SELECT s.username, p.number FROM Submission s JOIN Problem p ON p.id = s.problemId "
+		+ "WHERE s.id IN :ids AND p.number IS NOT NULL")
+	List<Object[]> findUsernameAndProblemNumberByIdIn(List<Long> ids);
+
+	long countByUsername(String username);
+
+	long countBySubmitStatusAndSubmitTimeAfter(SubmitStatus submitStatus, LocalDateTime submitTime);
+
+	long countByProblemIdAndUsername(Long problemId, String username);
 }
@@ -0,0 +1,14 @@
+package algomarket.problemservice.application.required;
+
+import java.util.Optional;
+
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+
+public interface SubmissionTraceStore {
+
+	// 같은 구간이 다시 기록되면(재전송, 재수신) 처음 값을 유지한다
+	void record(Long submissionId, String traceId, SubmissionStage stage, long epochMillis);
+
+	Optional<SubmissionTraceResponse> find(Long submissionId);
+}
@@ -0,0 +1,11 @@
+package algomarket.problemservice.application.required;
+
+import java.util.List;
+
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+
+public interface SubmissionVerdictRepository {
+
+	// 채점 중이던 제출에 실제로 반영된 id 만 돌려준다. 존재하지 않거나 이미 채점이 끝난 제출은 빠진다
+	List<Long> updateVerdicts(List<SubmissionVerdict> verdicts);
+}
@@ -0,0 +1,9 @@
+package algomarket.problemservice.application.required;
+
+import java.util.Map;
+
+public interface SubmitCountRepository {
+
+	// 문제 번호별 증가분을 한 번에 반영한다. 일부만 반영되는 일은 없다
+	void addSubmitCounts(Map<Long, Integer> deltas);
+}
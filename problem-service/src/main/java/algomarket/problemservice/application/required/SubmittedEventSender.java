@@ -0,0 +1,11 @@
+package algomarket.problemservice.application.required;
+
+import java.util.List;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+
+public interface SubmittedEventSender {
+
+	// 전송에 성공한 제출 ID 목록을 반환한다
+	List<Long> sendBatch(List<SubmittedEvent> submittedEvents);
+}
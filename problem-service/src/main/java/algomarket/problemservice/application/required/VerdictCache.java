@@ -0,0 +1,18 @@
+package algomarket.problemservice.application.required;
+
+import java.util.List;
+import java.util.Optional;
+
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import algomarket.problemservice.domain.submission.VerdictKey;
+
+public interface VerdictCache {
+
+	// 돌려주는 결과의 submissionId 는 실제로 채점된 제출이다. 캐시를 쓸 수 없으면 빈 값을 반환한다
+	Optional<SubmissionVerdict> find(VerdictKey verdictKey);
+
+	// 채점 결과가 돌아오면 이 키로 저장할 수 있게 제출과 키를 묶어 둔다
+	void reserve(Long submissionId, VerdictKey verdictKey);
+
+	void complete(List<SubmissionVerdict> verdicts);
+}
@@ -5,12 +5,16 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import algomarket.problemservice.domain.shared.CompressedText;
+import algomarket.problemservice.domain.shared.CompressedTextConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -28,7 +32,9 @@ import lombok.NoArgsConstructor;
 public class Outbox {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_id")
+	@TableGenerator(name = "outbox_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+		pkColumnValue = "outbox", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -37,8 +43,9 @@ public class Outbox {
 	@Column(nullable = false)
 	private String aggregateType;
 
-	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
-	private String payload;
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+	private CompressedText payload;
 
 	@Column(nullable = false)
 	private LocalDateTime timeStamp;
@@ -50,7 +57,7 @@ public class Outbox {
 
 			outbox.aggregateId =  aggregateId;
 			outbox.aggregateType = aggregateType;
-			outbox.payload = payloadJson;
+			outbox.payload = CompressedText.of(payloadJson);
 			outbox.timeStamp = LocalDateTime.now();
 
 			return outbox;
@@ -58,4 +65,12 @@ public class Outbox {
 			throw new RuntimeException("Failed to serialize event data", e);
 		}
 	}
+
+	public void postponeRetry(LocalDateTime retryFrom) {
+		this.timeStamp = retryFrom;
+	}
+
+	public String getPayload() {
+		return payload.text();
+	}
 }
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -16,6 +17,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,7 +28,9 @@ import lombok.NoArgsConstructor;
 public class Problem {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "problem_id")
+	@TableGenerator(name = "problem_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+		pkColumnValue = "problem", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = true, unique = true)
@@ -65,6 +69,15 @@ public class Problem {
 	@Column(nullable = true)
 	private LocalDateTime lastModified;
 
+	// 마지막으로 이 문제를 쓴 분산 락 보유자의 펜싱 토큰
+	@Column(nullable = true)
+	private Long fencingToken;
+
+	// 채점 결과에 영향을 주는 제한이나 채점 데이터가 바뀔 때마다 올라간다. 채점 결과 캐시 키에 들어간다
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long revision;
+
 	public static Problem create(ProblemCreateRequest createRequest, String authorUsername) {
 		Problem problem = new Problem();
 
@@ -80,16 +93,14 @@ public class Problem {
 		problem.submitCount = 0;
 		problem.problemStatus = ProblemStatus.DRAFT;
 		problem.lastModified = LocalDateTime.now();
+		problem.revision = 0L;
 
 		return problem;
 	}
 
+	// 제출 수는 SubmitCountService 에서 모아 두었다가 한꺼번에 반영한다
 	public void submit() {
 		validateTestCaseCount();
-
-		if (problemStatus == ProblemStatus.PUBLIC) {
-			submitCount += 1;
-		}
 	}
 
 	public void makePublic(Long problemNumber) {
@@ -116,6 +127,10 @@ public class Problem {
 			throw new IllegalStateException("임시저장 상태가 아닌 문제입니다.");
 		}
 
+		boolean judgingChanged = !Objects.equals(timeLimitSec, modifyDraftRequest.timeLimitSec())
+			|| !Objects.equals(memoryLimitMb, modifyDraftRequest.memoryLimitMb())
+			|| !Objects.equals(testCaseUrls, modifyDraftRequest.testCaseUrls());
+
 		title = Objects.requireNonNull(modifyDraftRequest.title());
 		description = Objects.requireNonNull(modifyDraftRequest.description());
 		timeLimitSec = validateTimeLimit(modifyDraftRequest.timeLimitSec());
@@ -123,6 +138,9 @@ public class Problem {
 		exampleTestCases = modifyDraftRequest.exampleTestCases();
 		testCaseUrls = modifyDraftRequest.testCaseUrls();
 
+		if (judgingChanged) {
+			revision++;
+		}
 		lastModified = LocalDateTime.now();
 	}
 
@@ -130,6 +148,10 @@ public class Problem {
 		return problemStatus == ProblemStatus.DRAFT;
 	}
 
+	public boolean isPublic() {
+		return problemStatus == ProblemStatus.PUBLIC;
+	}
+
 	private static Double validateTimeLimit(Double timeLimit) {
 		state(timeLimit > 0.0 && timeLimit <= 10.0, "시간 제한은 0초 초과, 10초 이하로 설정 가능합니다.");
 
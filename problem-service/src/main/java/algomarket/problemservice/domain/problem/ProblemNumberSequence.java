@@ -0,0 +1,32 @@
+package algomarket.problemservice.domain.problem;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProblemNumberSequence {
+
+	public static final String PROBLEM_NUMBER = "problem_number";
+
+	@Id
+	@Column(length = 30)
+	private String name;
+
+	@Column(nullable = false)
+	private Long lastNumber;
+
+	public static ProblemNumberSequence create(String name, Long lastNumber) {
+		ProblemNumberSequence sequence = new ProblemNumberSequence();
+
+		sequence.name = name;
+		sequence.lastNumber = lastNumber == null ? 0L : lastNumber;
+
+		return sequence;
+	}
+}
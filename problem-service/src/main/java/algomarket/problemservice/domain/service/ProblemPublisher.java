@@ -3,6 +3,7 @@ package algomarket.problemservice.domain.service;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.LongSupplier;
 
 import algomarket.problemservice.domain.problem.Problem;
 import algomarket.problemservice.domain.shared.Language;
@@ -10,14 +11,10 @@ import algomarket.problemservice.domain.submission.Submission;
 
 public class ProblemPublisher {
 
-	public void publish(String authorUsername, Problem problem, List<Submission> submissions, Long maxProblemNumber) {
-		if (maxProblemNumber == null) {
-			maxProblemNumber = 0L;
-		}
-
+	public void publish(String authorUsername, Problem problem, List<Submission> submissions, LongSupplier problemNumberAllocator) {
 		validateAuthorSolve(authorUsername, submissions);
 
-		problem.makePublic(maxProblemNumber + 1);
+		problem.makePublic(problemNumberAllocator.getAsLong());
 	}
 
 	private void validateAuthorSolve(String authorUsername, List<Submission> submissions) {
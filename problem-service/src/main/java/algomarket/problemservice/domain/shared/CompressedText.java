@@ -0,0 +1,120 @@
+package algomarket.problemservice.domain.shared;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+// 저장 형식은 [0xFF][버전][코덱] 헤더 + 본문이다. 0xFF 는 UTF-8 에 나올 수 없으므로 헤더가 없는 값은
+// 압축 도입 전의 평문 행으로 읽고, 압축 해제는 text() 를 처음 호출할 때만 일어난다
+public final class CompressedText {
+
+	private static final byte MAGIC = (byte)0xFF;
+	private static final byte VERSION = 1;
+	private static final byte CODEC_DEFLATE = 1;
+	private static final int HEADER_SIZE = 3;
+
+	// 이보다 작은 값은 압축 이득보다 헤더/CPU 비용이 커서 평문으로 둔다
+	static final int COMPRESSION_THRESHOLD_BYTES = 256;
+
+	private final byte[] stored;
+	private String text;
+
+	private CompressedText(byte[] stored, String text) {
+		this.stored = stored;
+		this.text = text;
+	}
+
+	public static CompressedText of(String text) {
+		byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+		if (plain.length < COMPRESSION_THRESHOLD_BYTES) {
+			return new CompressedText(plain, text);
+		}
+
+		byte[] compressed = deflate(plain);
+
+		return new CompressedText(compressed != null ? compressed : plain, text);
+	}
+
+	public static CompressedText fromStored(byte[] stored) {
+		return new CompressedText(stored, null);
+	}
+
+	public String text() {
+		if (text == null) {
+			text = decode();
+		}
+
+		return text;
+	}
+
+	public byte[] stored() {
+		return stored;
+	}
+
+	public boolean isCompressed() {
+		return stored.length >= HEADER_SIZE && stored[0] == MAGIC;
+	}
+
+	private String decode() {
+		if (!isCompressed()) {
+			return new String(stored, StandardCharsets.UTF_8);
+		}
+
+		if (stored[1] != VERSION || stored[2] != CODEC_DEFLATE) {
+			throw new IllegalStateException("지원하지 않는 압축 형식입니다: version=" + stored[1] + ", codec=" + stored[2]);
+		}
+
+		try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(stored, HEADER_SIZE, stored.length - HEADER_SIZE))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 압축 결과가 평문보다 크면 null 을 돌려준다
+	private static byte[] deflate(byte[] plain) {
+		byte[] out = new byte[plain.length];
+		out[0] = MAGIC;
+		out[1] = VERSION;
+		out[2] = CODEC_DEFLATE;
+
+		// 제출 경로는 쓰기 위주이므로 압축률보다 속도를 우선한다
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(plain);
+			deflater.finish();
+			int length = HEADER_SIZE + deflater.deflate(out, HEADER_SIZE, out.length - HEADER_SIZE);
+
+			return deflater.finished() ? Arrays.copyOf(out, length) : null;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof CompressedText that)) {
+			return false;
+		}
+
+		return Arrays.equals(stored, that.stored);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(stored);
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedText[" + stored.length + " bytes" + (isCompressed() ? ", deflate" : "") + "]";
+	}
+}
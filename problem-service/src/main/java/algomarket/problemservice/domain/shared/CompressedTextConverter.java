@@ -0,0 +1,22 @@
+package algomarket.problemservice.domain.shared;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// 값이 바뀌지 않으므로 Hibernate 가 스냅샷을 위해 압축/해제를 반복하지 않도록 불변으로 표시한다
+@Immutable
+@Converter
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+	@Override
+	public byte[] convertToDatabaseColumn(CompressedText attribute) {
+		return attribute == null ? null : attribute.stored();
+	}
+
+	@Override
+	public CompressedText convertToEntityAttribute(byte[] dbData) {
+		return dbData == null ? null : CompressedText.fromStored(dbData);
+	}
+}
@@ -2,25 +2,40 @@ package algomarket.problemservice.domain.submission;
 
 import java.time.LocalDateTime;
 
+import algomarket.problemservice.domain.shared.CompressedText;
+import algomarket.problemservice.domain.shared.CompressedTextConverter;
 import algomarket.problemservice.domain.shared.Language;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(
+	indexes = {
+		@Index(name = "idx_submission_username_time_id", columnList = "username, submit_time, id"),
+		@Index(name = "idx_submission_problem_username_time_id", columnList = "problem_id, username, submit_time, id"),
+		@Index(name = "idx_submission_status_time", columnList = "submit_status, submit_time")
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Submission {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "submission_id")
+	@TableGenerator(name = "submission_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+		pkColumnValue = "submission", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -31,8 +46,9 @@ public class Submission {
 	@Column(nullable = false, length = 20)
 	private String username;
 
-	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
-	private String sourceCode;
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+	private CompressedText sourceCode;
 
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
@@ -55,7 +71,7 @@ public class Submission {
 		submission.problemTitle = problemTitle;
 		submission.username = username;
 		submission.problemId = submitRequest.problemId();
-		submission.sourceCode = submitRequest.sourceCode();
+		submission.sourceCode = CompressedText.of(submitRequest.sourceCode());
 		submission.language = submitRequest.language();
 
 		submission.submitStatus = SubmitStatus.JUDGING;
@@ -67,22 +83,18 @@ public class Submission {
 	}
 
 	public void updateStatus(SubmitStatus submitStatus, Integer runtimeMs, Integer memoryKb) {
-		this.submitStatus = submitStatus;
-
-		if (submitStatus == SubmitStatus.ACCEPTED) {
-			this.runtimeMs = runtimeMs;
-			this.memoryKb = memoryKb;
-		} else {
-			this.runtimeMs = null;
-			this.memoryKb = null;
-		}
+		SubmissionVerdict verdict = SubmissionVerdict.of(id, submitStatus, runtimeMs, memoryKb);
+
+		this.submitStatus = verdict.submitStatus();
+		this.runtimeMs = verdict.runtimeMs();
+		this.memoryKb = verdict.memoryKb();
 	}
 
-	public boolean isSolved() {
-		return submitStatus == SubmitStatus.ACCEPTED;
+	public String getSourceCode() {
+		return sourceCode.text();
 	}
 
-	public void updateProblemTitle(String problemTitle) {
-		this.problemTitle = problemTitle;
+	public boolean isSolved() {
+		return submitStatus == SubmitStatus.ACCEPTED;
 	}
 }
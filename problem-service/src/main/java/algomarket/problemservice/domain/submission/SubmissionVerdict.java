@@ -0,0 +1,33 @@
+package algomarket.problemservice.domain.submission;
+
+public record SubmissionVerdict(
+	Long submissionId,
+
+	SubmitStatus submitStatus,
+
+	Integer runtimeMs,
+
+	Integer memoryKb
+) {
+
+	// 실행 시간과 메모리는 맞은 제출에만 남긴다
+	public static SubmissionVerdict of(Long submissionId, SubmitStatus submitStatus, Integer runtimeMs, Integer memoryKb) {
+		if (submitStatus != SubmitStatus.ACCEPTED) {
+			return new SubmissionVerdict(submissionId, submitStatus, null, null);
+		}
+
+		return new SubmissionVerdict(submissionId, submitStatus, runtimeMs, memoryKb);
+	}
+
+	public boolean isSolved() {
+		return submitStatus == SubmitStatus.ACCEPTED;
+	}
+
+	// 시간, 메모리 초과는 채점 서버 상태에 따라 경계에서 갈릴 수 있고 서버 오류는 다시 채점해야 하므로 재사용하지 않는다
+	public boolean isReusable() {
+		return switch (submitStatus) {
+			case ACCEPTED, WRONG_ANSWER, COMPILE_ERROR, RUNTIME_ERROR -> true;
+			default -> false;
+		};
+	}
+}
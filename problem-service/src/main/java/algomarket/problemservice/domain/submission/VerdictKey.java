@@ -0,0 +1,37 @@
+package algomarket.problemservice.domain.submission;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import algomarket.problemservice.domain.shared.Language;
+
+// 같은 문제, 같은 채점 기준(revision), 같은 언어, 같은 코드면 채점 결과도 같다
+public record VerdictKey(
+	Long problemId,
+
+	Language language,
+
+	Long revision,
+
+	String sourceHash
+) {
+
+	public static VerdictKey of(Long problemId, Language language, Long revision, String sourceCode) {
+		return new VerdictKey(problemId, language, revision, sha256Hex(normalize(sourceCode)));
+	}
+
+	// 줄바꿈 문자와 파일 끝 공백만 맞춘다. 줄 안의 공백은 문자열 리터럴일 수 있어 건드리지 않는다
+	static String normalize(String sourceCode) {
+		return sourceCode.replace("\r\n", "\n").replace('\r', '\n').stripTrailing();
+	}
+
+	private static String sha256Hex(String sourceCode) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(sourceCode.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
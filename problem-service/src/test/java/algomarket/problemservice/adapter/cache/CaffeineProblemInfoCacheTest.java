@@ -0,0 +1,129 @@
+package algomarket.problemservice.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.domain.problem.ProblemInfoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CaffeineProblemInfoCacheTest {
+
+	RedisTemplate<String, Object> redisTemplate;
+	SimpleMeterRegistry meterRegistry;
+	CaffeineProblemInfoCache problemInfoCache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		problemInfoCache = new CaffeineProblemInfoCache(redisTemplate, mock(RedisMessageListenerContainer.class),
+			new ObjectMapper(), meterRegistry, 100, 60);
+	}
+
+	@Test
+	void getByNumber_loadsOnceAndServesFromCache() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			problemInfoCache.getByNumber(1L, () -> {
+				loads.incrementAndGet();
+				return publicProblem(1L, "A+B");
+			});
+		}
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "problemInfo").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "problemInfo").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void getByNumber_alsoCachesByTitle() {
+		// given
+		problemInfoCache.getByNumber(1L, () -> publicProblem(1L, "A+B"));
+
+		// when
+		var response = problemInfoCache.getByTitle("A+B", () -> {
+			throw new AssertionError("should be served from cache");
+		});
+
+		// then
+		assertThat(response.problemNumber()).isEqualTo(1L);
+	}
+
+	@Test
+	void getByTitle_draftProblem_isNotCached() {
+		// when
+		problemInfoCache.getByTitle("draft", () -> draftProblem("draft"));
+
+		// then
+		assertThat(problemInfoCache.estimatedSize()).isZero();
+	}
+
+	@Test
+	void evict_invalidatesLocallyAndBroadcasts() {
+		// given
+		problemInfoCache.getByNumber(1L, () -> publicProblem(1L, "A+B"));
+
+		// when
+		problemInfoCache.evict(1L, "A+B");
+
+		// then
+		assertThat(problemInfoCache.estimatedSize()).isZero();
+		verify(redisTemplate).convertAndSend(eq(CaffeineProblemInfoCache.INVALIDATION_TOPIC.getTopic()), eq("[\"number:1\",\"title:A+B\"]"));
+	}
+
+	@Test
+	void evictNumbers_alsoInvalidatesTitleKeyAndBroadcastsNumbers() {
+		// given
+		problemInfoCache.getByNumber(1L, () -> publicProblem(1L, "A+B"));
+		problemInfoCache.getByNumber(2L, () -> publicProblem(2L, "A-B"));
+
+		// when
+		problemInfoCache.evictNumbers(List.of(1L));
+
+		// then
+		assertThat(problemInfoCache.estimatedSize()).isEqualTo(2);
+		assertThat(problemInfoCache.getByTitle("A+B", () -> publicProblem(1L, "reloaded")).title()).isEqualTo("reloaded");
+		verify(redisTemplate).convertAndSend(eq(CaffeineProblemInfoCache.INVALIDATION_TOPIC.getTopic()), eq("[\"number:1\"]"));
+	}
+
+	@Test
+	void onMessage_fromOtherNode_invalidatesKeys() throws Exception {
+		// given
+		problemInfoCache.getByNumber(1L, () -> publicProblem(1L, "A+B"));
+		byte[] body = new ObjectMapper().writeValueAsBytes(List.of("number:1", "title:A+B"));
+
+		// when
+		problemInfoCache.onMessage(new DefaultMessage(
+			CaffeineProblemInfoCache.INVALIDATION_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8), body), null);
+
+		// then
+		assertThat(problemInfoCache.estimatedSize()).isZero();
+	}
+
+	private ProblemInfoResponse publicProblem(Long number, String title) {
+		return new ProblemInfoResponse(number + 100, number, title, "description", 0, 1.0, 256, List.of());
+	}
+
+	private ProblemInfoResponse draftProblem(String title) {
+		return new ProblemInfoResponse(1L, null, title, "description", 0, 1.0, 256, List.of());
+	}
+}
@@ -0,0 +1,103 @@
+package algomarket.problemservice.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import redis.embedded.RedisServer;
+
+class RedisJudgeCompletionCounterTest {
+
+	static RedisServer redisServer;
+	static int port;
+
+	LettuceConnectionFactory connectionFactory;
+	RedisJudgeCompletionCounter judgeCompletionCounter;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory("localhost", port);
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		judgeCompletionCounter = new RedisJudgeCompletionCounter(redisTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void add_shouldAccumulateAcrossCalls() {
+		// given
+		assertThat(judgeCompletionCounter.total()).hasValue(0);
+
+		// when
+		judgeCompletionCounter.add(3);
+		judgeCompletionCounter.add(0);
+		judgeCompletionCounter.add(4);
+
+		// then
+		assertThat(judgeCompletionCounter.total()).hasValue(7);
+	}
+
+	@Test
+	void add_insideTransaction_countsOnlyAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			judgeCompletionCounter.add(5);
+
+			// then
+			assertThat(judgeCompletionCounter.total()).hasValue(0);
+			TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+			assertThat(judgeCompletionCounter.total()).hasValue(5);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void total_whenRedisIsDown_shouldBeEmpty() {
+		// given
+		connectionFactory.destroy();
+
+		// when & then
+		assertThat(judgeCompletionCounter.total()).isEmpty();
+	}
+}
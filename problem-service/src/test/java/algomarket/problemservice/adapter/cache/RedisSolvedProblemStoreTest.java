@@ -0,0 +1,65 @@
+package algomarket.problemservice.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class RedisSolvedProblemStoreTest {
+
+	RedisTemplate<String, Object> redisTemplate;
+	RedisSolvedProblemStore solvedProblemStore;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		solvedProblemStore = new RedisSolvedProblemStore(redisTemplate);
+	}
+
+	@Test
+	void findSolvedAmong_readsRedisBitOrder() {
+		// given - 0번(초기화 표시), 3번, 9번 비트가 켜진 비트맵
+		byte[] bitmap = {(byte) 0b1001_0000, (byte) 0b0100_0000};
+		given(redisTemplate.execute(ArgumentMatchers.<RedisCallback<byte[]>>any())).willReturn(bitmap);
+
+		// when
+		var solved = solvedProblemStore.findSolvedAmong("user", List.of(1L, 3L, 9L, 100L));
+
+		// then
+		assertThat(solved).contains(Set.of(3L, 9L));
+	}
+
+	@Test
+	void findSolvedAmong_withoutInitializedBit_returnsEmpty() {
+		// given
+		byte[] bitmap = {(byte) 0b0001_0000};
+		given(redisTemplate.execute(ArgumentMatchers.<RedisCallback<byte[]>>any())).willReturn(bitmap);
+
+		// when
+		var solved = solvedProblemStore.findSolvedAmong("user", List.of(3L));
+
+		// then
+		assertThat(solved).isEmpty();
+	}
+
+	@Test
+	void findSolvedAmong_whenRedisFails_returnsEmpty() {
+		// given
+		given(redisTemplate.execute(ArgumentMatchers.<RedisCallback<byte[]>>any())).willThrow(new RuntimeException("redis down"));
+
+		// when
+		var solved = solvedProblemStore.findSolvedAmong("user", List.of(3L));
+
+		// then
+		assertThat(solved).isEmpty();
+	}
+}
@@ -0,0 +1,116 @@
+package algomarket.problemservice.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import algomarket.problemservice.domain.submission.VerdictKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+class RedisVerdictCacheTest {
+
+	static RedisServer redisServer;
+	static int port;
+
+	LettuceConnectionFactory connectionFactory;
+	SimpleMeterRegistry meterRegistry;
+	RedisVerdictCache verdictCache;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory("localhost", port);
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		meterRegistry = new SimpleMeterRegistry();
+		verdictCache = new RedisVerdictCache(redisTemplate, meterRegistry, true, 24, 30);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void complete_afterReserve_shouldServeSameCodeOnSameRevision() {
+		// given
+		VerdictKey verdictKey = VerdictKey.of(1L, Language.JAVA, 0L, "class Main {}");
+		verdictCache.reserve(10L, verdictKey);
+
+		// when
+		verdictCache.complete(List.of(SubmissionVerdict.of(10L, SubmitStatus.ACCEPTED, 120, 14_336)));
+
+		// then
+		assertThat(verdictCache.find(VerdictKey.of(1L, Language.JAVA, 0L, "class Main {}\r\n")))
+			.contains(new SubmissionVerdict(10L, SubmitStatus.ACCEPTED, 120, 14_336));
+		assertThat(verdictCache.find(VerdictKey.of(1L, Language.JAVA, 1L, "class Main {}"))).isEmpty();
+		assertThat(meterRegistry.get("submission.verdict.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("submission.verdict.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("submission.verdict.cache.hit.ratio").gauge().value()).isCloseTo(0.5, offset(0.001));
+	}
+
+	@Test
+	void complete_withUnreusableVerdictOrWithoutReserve_shouldNotStore() {
+		// given
+		VerdictKey timeLimitKey = VerdictKey.of(1L, Language.PYTHON, 0L, "while True: pass");
+		VerdictKey wrongAnswerKey = VerdictKey.of(1L, Language.PYTHON, 0L, "print(0)");
+		verdictCache.reserve(20L, timeLimitKey);
+
+		// when - 21번은 예약하지 않았다
+		verdictCache.complete(List.of(
+			SubmissionVerdict.of(20L, SubmitStatus.TIME_LIMIT_EXCEEDED, null, null),
+			SubmissionVerdict.of(21L, SubmitStatus.WRONG_ANSWER, null, null)));
+
+		// then
+		assertThat(verdictCache.find(timeLimitKey)).isEmpty();
+		assertThat(verdictCache.find(wrongAnswerKey)).isEmpty();
+	}
+
+	@Test
+	void find_whenRedisIsDown_shouldMissQuietly() {
+		// given
+		connectionFactory.destroy();
+
+		// when & then
+		assertThat(verdictCache.find(VerdictKey.of(1L, Language.JAVA, 0L, "class Main {}"))).isEmpty();
+		assertThat(meterRegistry.get("submission.verdict.cache").tag("result", "error").counter().count()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,127 @@
+package algomarket.problemservice.adapter.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DistributedLockAopTest {
+
+	static final String PATTERN = "'makePublic:' + #problemId";
+
+	SimpleMeterRegistry meterRegistry;
+	LockMetrics lockMetrics;
+	RedissonClient redissonClient;
+	RLock rLock;
+	ProceedingJoinPoint joinPoint;
+	DistributedLockAop distributedLockAop;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		meterRegistry = new SimpleMeterRegistry();
+		lockMetrics = new LockMetrics(meterRegistry);
+		redissonClient = mock(RedissonClient.class);
+		rLock = mock(RLock.class);
+		joinPoint = mock(ProceedingJoinPoint.class);
+
+		MethodSignature signature = mock(MethodSignature.class);
+		given(signature.getMethod()).willReturn(Locked.class.getDeclaredMethod("makePublic", Long.class));
+		given(signature.getParameterNames()).willReturn(new String[] {"problemId"});
+		given(joinPoint.getSignature()).willReturn(signature);
+		given(joinPoint.getArgs()).willReturn(new Object[] {1000L});
+		given(redissonClient.getLock("LOCK:makePublic:1000")).willReturn(rLock);
+
+		distributedLockAop = new DistributedLockAop(redissonClient, new AopForTransaction(), lockMetrics);
+	}
+
+	@Test
+	void lock_whenTransactionOutlivesLease_countsLeaseOverrun() throws Throwable {
+		// given - lease(50ms) 보다 오래 걸리는 트랜잭션, 그 사이 Redis 에서 락이 풀려 unlock 이 실패한다
+		List<LockMetrics.HeldLockView> heldDuringProceed = new ArrayList<>();
+		given(rLock.tryLock(0L, 50L, TimeUnit.MILLISECONDS)).willReturn(true);
+		given(joinPoint.proceed()).willAnswer(invocation -> {
+			Thread.sleep(120);
+			heldDuringProceed.addAll(lockMetrics.heldLocks());
+			return "published";
+		});
+		doThrow(new IllegalMonitorStateException("attempt to unlock lock, not locked by current thread")).when(rLock).unlock();
+
+		// when
+		Object result = distributedLockAop.lock(joinPoint);
+
+		// then
+		assertThat(result).isEqualTo("published");
+		assertThat(heldDuringProceed).singleElement().satisfies(heldLock -> {
+			assertThat(heldLock.key()).isEqualTo("LOCK:makePublic:1000");
+			assertThat(heldLock.pattern()).isEqualTo(PATTERN);
+			assertThat(heldLock.leaseMs()).isEqualTo(50);
+			assertThat(heldLock.overLease()).isTrue();
+		});
+		assertThat(lockMetrics.heldLocks()).isEmpty();
+		assertThat(meterRegistry.get("distributed.lock.lease.overruns").tag("pattern", PATTERN).counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("distributed.lock.hold").tag("pattern", PATTERN).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("distributed.lock.wait").tags("pattern", PATTERN, "outcome", "acquired").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void lock_whenLockIsBusy_countsTimeout() throws Throwable {
+		// given
+		given(rLock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MILLISECONDS))).willReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> distributedLockAop.lock(joinPoint))
+			.isInstanceOf(DistributedLockException.class);
+
+		assertThat(meterRegistry.get("distributed.lock.timeouts").tag("pattern", PATTERN).counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("distributed.lock.wait").tags("pattern", PATTERN, "outcome", "timeout").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find("distributed.lock.hold").timer()).isNull();
+	}
+
+	@Test
+	void lock_withWatchdog_renewsLeaseAndExposesFencingToken() throws Throwable {
+		// given
+		MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+		given(signature.getMethod()).willReturn(Locked.class.getDeclaredMethod("publishWithWatchdog", Long.class));
+		RAtomicLong fencingTokens = mock(RAtomicLong.class);
+		given(redissonClient.getAtomicLong("FENCE:LOCK:makePublic:1000")).willReturn(fencingTokens);
+		given(fencingTokens.incrementAndGet()).willReturn(42L);
+		given(rLock.tryLock(0L, -1L, TimeUnit.MILLISECONDS)).willReturn(true);
+		given(joinPoint.proceed()).willAnswer(invocation -> FencingToken.current());
+
+		// when
+		Object tokenSeenByMethod = distributedLockAop.lock(joinPoint);
+
+		// then
+		assertThat(tokenSeenByMethod).isEqualTo(42L);
+		assertThat(FencingToken.current()).isNull();
+		assertThat(meterRegistry.find("distributed.lock.lease.overruns").counter()).isNull();
+	}
+
+	static class Locked {
+
+		@DistributedLock(key = PATTERN, waitTime = 0, leaseTime = 50, timeUnit = TimeUnit.MILLISECONDS)
+		void makePublic(Long problemId) {
+		}
+
+		@DistributedLock(key = PATTERN, waitTime = 0, timeUnit = TimeUnit.MILLISECONDS, watchdog = true)
+		void publishWithWatchdog(Long problemId) {
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package algomarket.problemservice.adapter.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class LockMetadataTest {
+
+	@Test
+	void resolveKey_evaluatesExpressionWithArguments() throws NoSuchMethodException {
+		// given
+		LockMetadata lockMetadata = LockMetadata.of(method("byProblem"), new String[] {"problemId", "username"});
+
+		// when
+		String first = lockMetadata.resolveKey(new Object[] {1000L, "user"});
+		String second = lockMetadata.resolveKey(new Object[] {1001L, "user"});
+
+		// then
+		assertThat(first).isEqualTo("makePublic:1000");
+		assertThat(second).isEqualTo("makePublic:1001");
+		assertThat(lockMetadata.distributedLock().waitTime()).isEqualTo(10);
+	}
+
+	@Test
+	void resolveKey_withConstantKey_skipsExpression() throws NoSuchMethodException {
+		// given
+		LockMetadata lockMetadata = LockMetadata.of(method("constant"), new String[] {"problemId", "username"});
+
+		// when
+		String key = lockMetadata.resolveKey(new Object[] {1000L, "user"});
+
+		// then
+		assertThat(key).isEqualTo("makePublic");
+		assertThat(lockMetadata.keyExpression()).isNull();
+	}
+
+	private static Method method(String name) throws NoSuchMethodException {
+		return Locked.class.getDeclaredMethod(name, Long.class, String.class);
+	}
+
+	static class Locked {
+
+		@DistributedLock(key = "'makePublic:' + #problemId", waitTime = 10)
+		void byProblem(Long problemId, String username) {
+		}
+
+		@DistributedLock(key = "'makePublic'")
+		void constant(Long problemId, String username) {
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package algomarket.problemservice.adapter.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class AsyncConfigTest {
+
+	AsyncConfig asyncConfig = new AsyncConfig();
+
+	@Test
+	void threadPoolExecutor_withVirtualThreadsEnabled_shouldUseVirtualThreadExecutor() throws Exception {
+		// given
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.threads.virtual.enabled", "true")
+			.withProperty("async.virtual.concurrency-limit", "300");
+
+		// when
+		Executor executor = asyncConfig.threadPoolExecutor(environment);
+
+		// then
+		assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+		try (SimpleAsyncTaskExecutor virtualExecutor = (SimpleAsyncTaskExecutor) executor) {
+			assertThat(virtualExecutor.getConcurrencyLimit()).isEqualTo(300);
+			assertThat(virtualExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
+	@Test
+	void threadPoolExecutor_withVirtualThreadsDisabled_shouldUsePlatformThreadPool() {
+		// given
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.threads.virtual.enabled", "false");
+
+		// when
+		Executor executor = asyncConfig.threadPoolExecutor(environment);
+
+		// then
+		assertThat(executor).isInstanceOfSatisfying(ThreadPoolTaskExecutor.class, platformExecutor -> {
+			assertThat(platformExecutor.getCorePoolSize()).isEqualTo(2);
+			assertThat(platformExecutor.getMaxPoolSize()).isEqualTo(5);
+			assertThat(platformExecutor.getQueueCapacity()).isEqualTo(100);
+			platformExecutor.shutdown();
+		});
+	}
+
+	@Test
+	void progressTimeoutScheduler_shouldFollowVirtualThreadSetting() throws Exception {
+		assertThat(runsOnVirtualThread(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"))).isTrue();
+		assertThat(runsOnVirtualThread(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "false"))).isFalse();
+	}
+
+	private boolean runsOnVirtualThread(MockEnvironment environment) throws Exception {
+		ScheduledExecutorService scheduler = asyncConfig.progressTimeoutScheduler(environment);
+		try {
+			return scheduler.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+}
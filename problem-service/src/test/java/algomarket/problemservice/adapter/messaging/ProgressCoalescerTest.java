@@ -0,0 +1,154 @@
+package algomarket.problemservice.adapter.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProgressCoalescerTest {
+
+	ScheduledExecutorService scheduler;
+	ExecutorService flushExecutor;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("flush-scheduler").factory());
+		flushExecutor = Executors.newFixedThreadPool(2, Thread.ofPlatform().name("flush-writer-", 0).factory());
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdownNow();
+		flushExecutor.shutdownNow();
+	}
+
+	@Test
+	void offer_burstWithinInterval_shouldEmitFirstAndLatestThenTerminal() throws InterruptedException {
+		// given
+		List<ProgressEvent> frames = Collections.synchronizedList(new ArrayList<>());
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(event -> frames.add((ProgressEvent) event), scheduler, flushExecutor,
+			new SimpleMeterRegistry(), 100);
+
+		// when
+		for (int test = 1; test <= 10; test++) {
+			progressCoalescer.offer(progressEvent(1L, test, 10));
+		}
+		Thread.sleep(300);
+		for (int test = 1; test <= 5; test++) {
+			progressCoalescer.offer(progressEvent(2L, test, 10));
+		}
+		progressCoalescer.offer(completedEvent(2L, 10));
+
+		// then - 1번 제출은 첫 이벤트와 간격 끝의 최신 이벤트만, 2번 제출은 남은 최신 진행 이벤트 후 완료 이벤트가 바로 나간다
+		assertThat(frames).extracting(ProgressEvent::submissionId, ProgressEvent::currentTest, ProgressEvent::submitStatus)
+			.containsExactly(
+				tuple(1L, 1, SubmitStatus.JUDGING),
+				tuple(1L, 10, SubmitStatus.JUDGING),
+				tuple(2L, 1, SubmitStatus.JUDGING),
+				tuple(2L, 5, SubmitStatus.JUDGING),
+				tuple(2L, 10, SubmitStatus.ACCEPTED));
+		assertThat(progressCoalescer.pendingWindowCount()).isEqualTo(1);
+	}
+
+	@Test
+	void offer_lateProgressAfterCompletion_shouldBeDroppedWithoutOpeningWindow() throws InterruptedException {
+		// given
+		List<ProgressEvent> frames = Collections.synchronizedList(new ArrayList<>());
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(event -> frames.add((ProgressEvent) event), scheduler, flushExecutor,
+			new SimpleMeterRegistry(), 100);
+		progressCoalescer.offer(progressEvent(1L, 1, 10));
+		progressCoalescer.offer(completedEvent(1L, 10));
+
+		// when - 재전송 등으로 완료 뒤에 진행 이벤트가 늦게 도착한다
+		progressCoalescer.offer(progressEvent(1L, 9, 10));
+		progressCoalescer.offer(progressEvent(1L, 10, 10));
+		Thread.sleep(200);
+
+		// then
+		assertThat(frames).extracting(ProgressEvent::currentTest, ProgressEvent::submitStatus)
+			.containsExactly(
+				tuple(1, SubmitStatus.JUDGING),
+				tuple(10, SubmitStatus.ACCEPTED));
+		assertThat(progressCoalescer.pendingWindowCount()).isZero();
+	}
+
+	@Test
+	void discard_shouldDropPendingEvent() throws InterruptedException {
+		// given
+		List<ProgressEvent> frames = Collections.synchronizedList(new ArrayList<>());
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(event -> frames.add((ProgressEvent) event), scheduler, flushExecutor,
+			new SimpleMeterRegistry(), 100);
+		progressCoalescer.offer(progressEvent(1L, 1, 10));
+		progressCoalescer.offer(progressEvent(1L, 2, 10));
+
+		// when
+		progressCoalescer.discard(1L);
+		Thread.sleep(200);
+
+		// then
+		assertThat(frames).extracting(ProgressEvent::currentTest).containsExactly(1);
+		assertThat(progressCoalescer.pendingWindowCount()).isZero();
+	}
+
+	@Test
+	void flush_withBlockedSseWrite_shouldNotHoldSchedulerThread() throws InterruptedException {
+		// given - 1번 제출의 flush 쓰기가 막혀 있다
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> flushThreads = Collections.synchronizedList(new ArrayList<>());
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(event -> {
+			ProgressEvent progressEvent = (ProgressEvent) event;
+			if (progressEvent.currentTest() != 1) {
+				flushThreads.add(Thread.currentThread().getName());
+			}
+			if (progressEvent.submissionId() == 1L && progressEvent.currentTest() == 2) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, scheduler, flushExecutor, new SimpleMeterRegistry(), 50);
+
+		progressCoalescer.offer(progressEvent(1L, 1, 10));
+		progressCoalescer.offer(progressEvent(1L, 2, 10));
+		progressCoalescer.offer(progressEvent(2L, 1, 10));
+		progressCoalescer.offer(progressEvent(2L, 2, 10));
+
+		try {
+			// when & then - 막힌 쓰기와 관계없이 2번 제출의 flush 가 예정대로 나가고, 쓰기는 스케줄러 스레드에서 하지 않는다
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (flushThreads.size() < 2 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(flushThreads).hasSize(2).allSatisfy(name -> assertThat(name).startsWith("flush-writer-"));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private static ProgressEvent progressEvent(Long submissionId, int currentTest, int totalTest) {
+		return new ProgressEvent(submissionId, "user" + submissionId, SubmitStatus.JUDGING, currentTest * 100 / totalTest, currentTest, totalTest,
+			LocalDateTime.now(), null, null, null, null);
+	}
+
+	private static ProgressEvent completedEvent(Long submissionId, int totalTest) {
+		return new ProgressEvent(submissionId, "user" + submissionId, SubmitStatus.ACCEPTED, 100, totalTest, totalTest,
+			LocalDateTime.now(), 120, 14_336, null, null);
+	}
+}
@@ -0,0 +1,141 @@
+package algomarket.problemservice.adapter.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RedisProgressSubscriberLoadTest {
+
+	static final byte[] PATTERN = "progress:*".getBytes(StandardCharsets.UTF_8);
+
+	RedisMessageListenerContainer container;
+	ApplicationEventPublisher eventPublisher;
+	ObjectMapper objectMapper;
+	ScheduledExecutorService scheduler;
+	RedisProgressSubscriber subscriber;
+
+	@BeforeEach
+	void setUp() {
+		container = mock(RedisMessageListenerContainer.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+
+		// 간격 0 은 합치지 않고 그대로 내보낸다
+		ProgressCoalescer progressCoalescer = new ProgressCoalescer(eventPublisher, scheduler, Runnable::run, new SimpleMeterRegistry(), 0);
+		subscriber = new RedisProgressSubscriber(new RedisTemplate<>(), container, progressCoalescer, objectMapper, scheduler);
+		subscriber.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		subscriber.shutdown();
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	void subscribeAndUnsubscribe_shouldNeverTouchRedisContainer() throws Exception {
+		// given
+		int watcherCount = 10_000;
+
+		// when
+		for (long id = 1; id <= watcherCount; id++) {
+			subscriber.subscribeToProgress(id);
+		}
+		for (long id = 1; id <= watcherCount; id++) {
+			subscriber.onMessage(progressMessage(id), PATTERN);
+		}
+		for (long id = 1; id <= watcherCount; id++) {
+			subscriber.unsubscribeFromProgress(id);
+		}
+
+		// then - 패턴 리스너 등록 1회 외에는 컨테이너 호출이 없어야 한다
+		verify(container).addMessageListener(any(), any(PatternTopic.class));
+		verifyNoMoreInteractions(container);
+		verify(eventPublisher, times(watcherCount)).publishEvent(any(ProgressEvent.class));
+		assertThat(subscriber.activeSubscriptionCount()).isZero();
+	}
+
+	@Test
+	void onMessage_forUnwatchedSubmission_shouldBeDropped() throws Exception {
+		// given
+		subscriber.subscribeToProgress(1L);
+
+		// when
+		subscriber.onMessage(progressMessage(2L), PATTERN);
+
+		// then
+		verifyNoMoreInteractions(eventPublisher);
+	}
+
+	@Test
+	void onMessage_forUnwatchedSubmission_shouldBeDroppedBeforeParsing() throws Exception {
+		// given
+		ObjectMapper parser = spy(objectMapper);
+		RedisProgressSubscriber droppingSubscriber = new RedisProgressSubscriber(new RedisTemplate<>(), container,
+			new ProgressCoalescer(eventPublisher, scheduler, Runnable::run, new SimpleMeterRegistry(), 0), parser, scheduler);
+		droppingSubscriber.subscribeToProgress(1L);
+
+		// when
+		for (long id = 2; id <= 1_000; id++) {
+			droppingSubscriber.onMessage(progressMessage(id), PATTERN);
+		}
+
+		// then
+		verify(parser, never()).readValue(any(String.class), eq(ProgressEvent.class));
+		verifyNoMoreInteractions(eventPublisher);
+
+		droppingSubscriber.unsubscribeFromProgress(1L);
+	}
+
+	@Test
+	void init_shouldRegisterExactlyOnePatternTopic() {
+		// given
+		ArgumentCaptor<PatternTopic> topic = ArgumentCaptor.forClass(PatternTopic.class);
+
+		// when
+		for (long id = 1; id <= 1_000; id++) {
+			subscriber.subscribeToProgress(id);
+		}
+
+		// then
+		verify(container, times(1)).addMessageListener(any(), topic.capture());
+		assertThat(topic.getAllValues()).extracting(PatternTopic::getTopic).containsExactly("progress:*");
+	}
+
+	private DefaultMessage progressMessage(Long submissionId) throws Exception {
+		var event = new ProgressEvent(submissionId, "testUser", SubmitStatus.JUDGING, 50, 5, 10, LocalDateTime.now(), null, null, null, null);
+
+		return new DefaultMessage(
+			("progress:" + submissionId).getBytes(StandardCharsets.UTF_8),
+			objectMapper.writeValueAsBytes(event));
+	}
+}
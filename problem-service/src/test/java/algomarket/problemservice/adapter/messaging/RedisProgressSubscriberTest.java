@@ -72,6 +72,8 @@ class RedisProgressSubscriberTest {
 			10,
 			LocalDateTime.now(),
 			null,
+			null,
+			null,
 			null
 		);
 
@@ -124,6 +126,8 @@ class RedisProgressSubscriberTest {
 			10,
 			LocalDateTime.now(),
 			null,
+			null,
+			null,
 			null
 		);
 
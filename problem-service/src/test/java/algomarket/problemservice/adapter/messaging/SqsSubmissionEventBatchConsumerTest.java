@@ -0,0 +1,118 @@
+package algomarket.problemservice.adapter.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import algomarket.problemservice.application.NotFoundException;
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.provided.SubmissionHandler;
+import algomarket.problemservice.application.provided.SubmissionTracer;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+
+@ExtendWith(MockitoExtension.class)
+class SqsSubmissionEventBatchConsumerTest {
+
+	@Mock
+	SubmissionHandler submissionHandler;
+
+	@Mock
+	SubmissionTracer submissionTracer;
+
+	@Mock
+	BatchAcknowledgement<JudgedEvent> acknowledgement;
+
+	SqsSubmissionEventBatchConsumer consumer;
+
+	@BeforeEach
+	void setUp() {
+		consumer = new SqsSubmissionEventBatchConsumer(submissionHandler, submissionTracer);
+	}
+
+	@Test
+	void consume_appliesBatchOnceAndAcknowledgesTogether() {
+		// given
+		List<Message<JudgedEvent>> messages = List.of(message(1L), message(2L), message(3L));
+		given(submissionHandler.finishSubmissions(anyList())).willReturn(List.of(1L, 2L, 3L));
+
+		// when
+		consumer.consume(messages, acknowledgement);
+
+		// then
+		verify(submissionHandler, never()).finishSubmission(any());
+		verify(submissionTracer, times(3)).judged(any(), anyLong());
+		assertThat(acknowledged()).containsExactlyElementsOf(messages);
+	}
+
+	@Test
+	void consume_whenBatchFails_fallsBackPerMessageAndLeavesFailuresUnacknowledged() {
+		// given
+		List<Message<JudgedEvent>> messages = List.of(message(1L), message(2L), message(3L));
+		given(submissionHandler.finishSubmissions(anyList())).willThrow(new IllegalStateException("deadlock"));
+		failToFind(2L);
+
+		// when
+		consumer.consume(messages, acknowledgement);
+
+		// then
+		verify(submissionHandler, times(3)).finishSubmission(any());
+		assertThat(acknowledged()).containsExactly(messages.get(0), messages.get(2));
+	}
+
+	@Test
+	void consume_retriesOnlyMessagesTheBatchDidNotApply() {
+		// given
+		List<Message<JudgedEvent>> messages = List.of(message(1L), message(2L));
+		given(submissionHandler.finishSubmissions(anyList())).willReturn(List.of(1L));
+		failToFind(2L);
+
+		// when
+		consumer.consume(messages, acknowledgement);
+
+		// then
+		verify(submissionHandler, times(1)).finishSubmission(any());
+		assertThat(acknowledged()).containsExactly(messages.get(0));
+	}
+
+	private void failToFind(Long missingSubmissionId) {
+		willAnswer(invocation -> {
+			JudgedEvent judgedEvent = invocation.getArgument(0);
+			if (judgedEvent.submissionId().equals(missingSubmissionId)) {
+				throw new NotFoundException("존재하지 않는 제출입니다: " + missingSubmissionId);
+			}
+			return null;
+		}).given(submissionHandler).finishSubmission(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Collection<Message<JudgedEvent>> acknowledged() {
+		ArgumentCaptor<Collection<Message<JudgedEvent>>> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(acknowledgement).acknowledge(captor.capture());
+
+		return captor.getValue();
+	}
+
+	private Message<JudgedEvent> message(Long submissionId) {
+		return MessageBuilder.withPayload(new JudgedEvent(submissionId, 10L, "user", SubmitStatus.ACCEPTED, 100, 5400,
+			null, null, null, null, null, null, null)).build();
+	}
+}
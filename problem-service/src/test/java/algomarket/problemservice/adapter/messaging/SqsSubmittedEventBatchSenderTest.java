@@ -0,0 +1,91 @@
+package algomarket.problemservice.adapter.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.domain.shared.Language;
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SqsSubmittedEventBatchSenderTest {
+
+	static final String QUEUE = "submission-queue.fifo";
+
+	@Mock
+	SqsTemplate sqsTemplate;
+
+	SqsSubmittedEventBatchSender sender;
+
+	@BeforeEach
+	void setUp() {
+		sender = new SqsSubmittedEventBatchSender(sqsTemplate, new ObjectMapper());
+		ReflectionTestUtils.setField(sender, "queueName", QUEUE);
+	}
+
+	@Test
+	void sendBatch_splitsIntoChunksOfTen() {
+		// given
+		List<SubmittedEvent> events = LongStream.rangeClosed(1, 25).mapToObj(this::event).toList();
+		given(sqsTemplate.<String>sendMany(eq(QUEUE), anyCollection()))
+			.willAnswer(invocation -> new SendResult.Batch<>(succeeded(invocation.getArgument(1)), List.of()));
+
+		// when
+		List<Long> sentIds = sender.sendBatch(events);
+
+		// then
+		verify(sqsTemplate, times(3)).sendMany(eq(QUEUE), anyCollection());
+		assertThat(sentIds).containsExactlyElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+	}
+
+	@Test
+	void sendBatch_whenPartiallyFailed_returnsOnlySuccessfulIds() {
+		// given
+		given(sqsTemplate.<String>sendMany(eq(QUEUE), anyCollection())).willAnswer(invocation -> {
+			List<Message<String>> messages = new ArrayList<>(invocation.getArgument(1));
+			var batch = new SendResult.Batch<>(
+				succeeded(messages.subList(0, 1)),
+				List.of(new SendResult.Failed<>("throttled", QUEUE, messages.get(1), Map.of())));
+			throw new SendBatchOperationFailedException("failed", QUEUE, batch);
+		});
+
+		// when
+		List<Long> sentIds = sender.sendBatch(List.of(event(1L), event(2L)));
+
+		// then
+		assertThat(sentIds).containsExactly(1L);
+	}
+
+	private List<SendResult<String>> succeeded(Collection<Message<String>> messages) {
+		return messages.stream()
+			.map(message -> new SendResult<>(UUID.randomUUID(), QUEUE, message, Map.<String, Object>of()))
+			.toList();
+	}
+
+	private SubmittedEvent event(long submissionId) {
+		return new SubmittedEvent(submissionId, 10L, "user" + submissionId, "print(1)", null, null, Language.PYTHON, 1.0, 256, null, null, null);
+	}
+}
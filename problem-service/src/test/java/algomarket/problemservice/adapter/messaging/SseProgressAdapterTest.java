@@ -8,11 +8,18 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import algomarket.problemservice.application.event.ProgressEvent;
@@ -21,11 +28,13 @@ import algomarket.problemservice.domain.submission.SubmitStatus;
 @SuppressWarnings("unchecked")
 class SseProgressAdapterTest {
 
+	static final Pattern SSE_ID = Pattern.compile("(?m)^id:(\\d+)$");
+
 	SseProgressAdapter sseProgressAdapter;
 
 	@BeforeEach
 	void setUp() {
-		sseProgressAdapter = new SseProgressAdapter();
+		sseProgressAdapter = new SseProgressAdapter(new ProgressReplayBuffer(100, 60_000L, 600_000L));
 		ReflectionTestUtils.setField(sseProgressAdapter, "sseTimeoutMs", 60 * 10000L);
 	}
 
@@ -36,7 +45,7 @@ class SseProgressAdapterTest {
 		Long submissionId = 1L;
 
 		// when
-		var emitter = sseProgressAdapter.saveSubscription(username, submissionId);
+		var emitter = sseProgressAdapter.saveSubscription(username, submissionId, null);
 
 		// then
 		assertThat(emitter).isNotNull();
@@ -55,8 +64,8 @@ class SseProgressAdapterTest {
 		Long submissionId = 1L;
 
 		// when
-		var emitter1 = sseProgressAdapter.saveSubscription(username1, submissionId);
-		var emitter2 = sseProgressAdapter.saveSubscription(username2, submissionId);
+		var emitter1 = sseProgressAdapter.saveSubscription(username1, submissionId, null);
+		var emitter2 = sseProgressAdapter.saveSubscription(username2, submissionId, null);
 
 		// then
 		assertThat(emitter1).isNotEqualTo(emitter2);
@@ -73,7 +82,7 @@ class SseProgressAdapterTest {
 		String username = "testUser";
 		Long submissionId = 1L;
 
-		sseProgressAdapter.saveSubscription(username, submissionId);
+		sseProgressAdapter.saveSubscription(username, submissionId, null);
 
 		var progressEvent = new ProgressEvent(
 			submissionId,
@@ -84,6 +93,8 @@ class SseProgressAdapterTest {
 			10,
 			LocalDateTime.now(),
 			null,
+			null,
+			null,
 			null
 		);
 
@@ -101,7 +112,7 @@ class SseProgressAdapterTest {
 		String username = "testUser";
 		Long submissionId = 1L;
 
-		sseProgressAdapter.saveSubscription(username, submissionId);
+		sseProgressAdapter.saveSubscription(username, submissionId, null);
 
 		// when
 		sseProgressAdapter.completeProgress(username, submissionId, SubmitStatus.ACCEPTED);
@@ -134,6 +145,8 @@ class SseProgressAdapterTest {
 			10,
 			LocalDateTime.now(),
 			null,
+			null,
+			null,
 			null
 		);
 
@@ -144,4 +157,111 @@ class SseProgressAdapterTest {
 		assertThat(emitters).isEmpty();
 		verify(mockEmitter).completeWithError(testException);
 	}
+
+	@Test
+	void saveSubscription_withLastEventId_shouldReplayMissedEvents() throws IOException {
+		// given
+		String username = "testUser";
+		Long submissionId = 1L;
+
+		for (int i = 1; i <= 5; i++) {
+			sseProgressAdapter.notifyProgressUpdate(username, submissionId, progressEvent(username, submissionId, i * 10));
+		}
+
+		var emitters = (Map<String, SseEmitter>) ReflectionTestUtils.getField(sseProgressAdapter, "emitters");
+		var replayBuffer = (ProgressReplayBuffer) ReflectionTestUtils.getField(sseProgressAdapter, "replayBuffer");
+
+		// when - 재연결 후 새 진행 이벤트가 하나 더 온다
+		var emitter = sseProgressAdapter.saveSubscription(username, submissionId, 3L);
+		sseProgressAdapter.notifyProgressUpdate(username, submissionId, progressEvent(username, submissionId, 60));
+
+		// then - 새 연결에는 놓친 이벤트가 순서대로 한 번씩만 간다
+		assertThat(emitters).containsEntry("testUser:1", emitter);
+		assertThat(replayBuffer.forSubmission(submissionId).eventsAfter(3L))
+			.extracting(ProgressReplayBuffer.BufferedEvent::id)
+			.containsExactly(4L, 5L, 6L);
+		assertThat(sentEvents(emitter)).containsExactly("connected", "4", "5", "6");
+	}
+
+	@Test
+	void saveSubscription_afterCompletedEvent_shouldCompleteImmediately() {
+		// given
+		String username = "testUser";
+		Long submissionId = 1L;
+
+		sseProgressAdapter.notifyProgressUpdate(username, submissionId, progressEvent(username, submissionId, 100));
+		sseProgressAdapter.completeProgress(username, submissionId, SubmitStatus.ACCEPTED);
+
+		// when
+		sseProgressAdapter.saveSubscription(username, submissionId, 1L);
+
+		// then
+		var emitters = (Map<String, SseEmitter>) ReflectionTestUtils.getField(sseProgressAdapter, "emitters");
+		assertThat(emitters).isEmpty();
+	}
+
+	@Test
+	void replayBuffer_shouldKeepOnlyRecentEvents() {
+		// given
+		var replayBuffer = new ProgressReplayBuffer(3, 60_000L, 600_000L);
+		var submissionEvents = replayBuffer.forSubmission(1L);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			submissionEvents.append("progress", i, false);
+		}
+
+		// then
+		assertThat(submissionEvents.eventsAfter(null))
+			.extracting(ProgressReplayBuffer.BufferedEvent::id)
+			.containsExactly(3L, 4L, 5L);
+	}
+
+	@Test
+	void replayBuffer_appendShouldWaitForCallerHoldingLock() throws InterruptedException {
+		// given - 다른 호출자가 기록과 전송을 위해 잠금을 잡고 있다
+		var submissionEvents = new ProgressReplayBuffer(3, 60_000L, 600_000L).forSubmission(1L);
+		submissionEvents.lock();
+
+		Thread appender = Thread.ofVirtual().start(() -> submissionEvents.append("progress", 1, false));
+		try {
+			// when
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (appender.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+
+			// then - 같은 잠금을 쓰므로 잠금이 풀릴 때까지 기록되지 않는다
+			assertThat(appender.getState()).isEqualTo(Thread.State.WAITING);
+			assertThat(submissionEvents.eventsAfter(null)).isEmpty();
+		} finally {
+			submissionEvents.unlock();
+		}
+
+		appender.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(submissionEvents.eventsAfter(null)).hasSize(1);
+	}
+
+	// 응답에 연결되기 전의 SseEmitter 는 보낸 내용을 earlySendAttempts 에 순서대로 쌓아 둔다. 이벤트 id(없으면 이름)만 꺼낸다
+	private List<String> sentEvents(SseEmitter emitter) {
+		var sent = (Set<ResponseBodyEmitter.DataWithMediaType>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+		List<String> events = new ArrayList<>();
+
+		for (var data : sent) {
+			if (data.getData() instanceof String text) {
+				Matcher id = SSE_ID.matcher(text);
+				if (id.find()) {
+					events.add(id.group(1));
+				} else if (text.contains("event:connected")) {
+					events.add("connected");
+				}
+			}
+		}
+
+		return events;
+	}
+
+	private ProgressEvent progressEvent(String username, Long submissionId, int percent) {
+		return new ProgressEvent(submissionId, username, SubmitStatus.JUDGING, percent, percent / 10, 10, LocalDateTime.now(), null, null, null, null);
+	}
 }
@@ -0,0 +1,54 @@
+package algomarket.problemservice.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import(JdbcSubmitCountRepository.class)
+class JdbcSubmitCountRepositoryTest {
+
+	@Autowired
+	JdbcSubmitCountRepository submitCountRepository;
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Test
+	void addSubmitCounts_shouldAddDeltaToEachProblem() {
+		// given
+		Long firstId = savePublicProblem("first", 1L);
+		Long secondId = savePublicProblem("second", 2L);
+		Long untouchedId = savePublicProblem("third", 3L);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		submitCountRepository.addSubmitCounts(Map.of(1L, 5, 2L, 3, 99L, 7));
+
+		// then
+		assertThat(problemRepository.findById(firstId).orElseThrow().getSubmitCount()).isEqualTo(5);
+		assertThat(problemRepository.findById(secondId).orElseThrow().getSubmitCount()).isEqualTo(3);
+		assertThat(problemRepository.findById(untouchedId).orElseThrow().getSubmitCount()).isZero();
+	}
+
+	private Long savePublicProblem(String title, Long problemNumber) {
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest(title, 1.0, 256), "author");
+		problem.makePublic(problemNumber);
+
+		return problemRepository.save(problem).getId();
+	}
+}
@@ -0,0 +1,144 @@
+package algomarket.problemservice.adapter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+// 같은 Redis 를 쓰는 두 노드(각자 커넥션과 리미터를 가진다)가 한 사용자의 요청을 동시에 받는다
+class TokenBucketRateLimiterTest {
+
+	static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(20, 60);
+	static final int THREADS_PER_NODE = 8;
+	static final int REQUESTS_PER_THREAD = 50;
+
+	static RedisServer redisServer;
+	static int port;
+
+	List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		port = freePort();
+		redisServer = new RedisServer(port);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactories.forEach(LettuceConnectionFactory::destroy);
+	}
+
+	@Test
+	void tryAcquire_fromTwoNodesAtOnce_shouldShareOneBucket() throws InterruptedException {
+		// given
+		TokenBucketRateLimiter node1 = new TokenBucketRateLimiter(redisTemplate(port), new SimpleMeterRegistry());
+		TokenBucketRateLimiter node2 = new TokenBucketRateLimiter(redisTemplate(port), new SimpleMeterRegistry());
+
+		// when
+		long start = System.nanoTime();
+		int allowed = hammer(List.of(node1, node2), "submit:shared-user");
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		// then - 처음 가득 찬 20개 + 흐른 시간 동안 초당 1개씩 채워진 만큼만 통과한다
+		assertThat(allowed).isBetween((int) LIMIT.capacity(), (int) (LIMIT.capacity() + Math.ceil(elapsedSeconds) + 1));
+	}
+
+	@Test
+	void tryAcquire_whenRedisIsDown_shouldFallBackToLocalBucketPerNode() throws IOException, InterruptedException {
+		// given - 아무도 듣지 않는 포트
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TokenBucketRateLimiter node1 = new TokenBucketRateLimiter(redisTemplate(freePort()), meterRegistry);
+		TokenBucketRateLimiter node2 = new TokenBucketRateLimiter(redisTemplate(freePort()), meterRegistry);
+
+		// when
+		long start = System.nanoTime();
+		int allowed = hammer(List.of(node1, node2), "submit:offline-user");
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		// then - 노드마다 따로 세므로 한도와 채워지는 속도가 노드 수만큼 늘어난다
+		assertThat(allowed).isBetween(2 * (int) LIMIT.capacity(), (int) (2 * (LIMIT.capacity() + Math.ceil(elapsedSeconds) + 1)));
+		assertThat(meterRegistry.get("rate.limit.fallback").counter().count()).isEqualTo(2 * THREADS_PER_NODE * REQUESTS_PER_THREAD);
+	}
+
+	@Test
+	void tryAcquire_whenEmpty_shouldTellWhenNextTokenArrives() {
+		// given
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(redisTemplate(port), new SimpleMeterRegistry());
+		RateLimitProperties.Limit single = new RateLimitProperties.Limit(1, 6);
+
+		// when
+		TokenBucketRateLimiter.Decision first = limiter.tryAcquire("submit:slow-user", single);
+		TokenBucketRateLimiter.Decision second = limiter.tryAcquire("submit:slow-user", single);
+
+		// then - 분당 6개면 10초마다 하나씩 찬다
+		assertThat(first.allowed()).isTrue();
+		assertThat(second.allowed()).isFalse();
+		assertThat(second.retryAfterMillis()).isBetween(9_000L, 10_000L);
+	}
+
+	private int hammer(List<TokenBucketRateLimiter> nodes, String key) throws InterruptedException {
+		AtomicInteger allowed = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		try (ExecutorService executorService = Executors.newFixedThreadPool(nodes.size() * THREADS_PER_NODE)) {
+			for (TokenBucketRateLimiter node : nodes) {
+				for (int i = 0; i < THREADS_PER_NODE; i++) {
+					executorService.submit(() -> {
+						start.await();
+						for (int request = 0; request < REQUESTS_PER_THREAD; request++) {
+							if (node.tryAcquire(key, LIMIT).allowed()) {
+								allowed.incrementAndGet();
+							}
+						}
+						return null;
+					});
+				}
+			}
+			start.countDown();
+		}
+
+		return allowed.get();
+	}
+
+	private RedisTemplate<String, Object> redisTemplate(int redisPort) {
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+		connectionFactory.afterPropertiesSet();
+		connectionFactories.add(connectionFactory);
+
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		return redisTemplate;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
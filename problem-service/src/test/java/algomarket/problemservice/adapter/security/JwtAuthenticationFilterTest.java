@@ -1,15 +1,15 @@
 package algomarket.problemservice.adapter.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,7 +20,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -51,8 +53,7 @@ class JwtAuthenticationFilterTest {
         String token = "valid-jwt-token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        doNothing().when(jwtManager).authenticate(token);
-        given(jwtManager.extractUsername(token)).willReturn("testUser");
+        given(jwtManager.verify(token)).willReturn("testUser");
 
         // when
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -64,8 +65,9 @@ class JwtAuthenticationFilterTest {
         assertThat(resultAuth).isNotNull();
 		assertThat(userPrincipal.username()).isEqualTo("testUser");
 
-        verify(jwtManager).authenticate(token);
-        verify(jwtManager).extractUsername(token);
+        verify(jwtManager).verify(token);
+        verify(jwtManager, never()).authenticate(token);
+        verify(jwtManager, never()).extractUsername(token);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -80,7 +82,7 @@ class JwtAuthenticationFilterTest {
         String token = "invalid-jwt-token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        doThrow(new JwtException("Invalid Token")).when(jwtManager).authenticate(token);
+        doThrow(new JwtException("Invalid Token")).when(jwtManager).verify(token);
 
         // when
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -89,7 +91,32 @@ class JwtAuthenticationFilterTest {
         var resultAuth = SecurityContextHolder.getContext().getAuthentication();
 		assertThat(resultAuth).isNull();
 
-        verify(jwtManager, never()).extractUsername(anyString());
+        verify(jwtManager).verify(token);
         verify(filterChain).doFilter(request, response);
     }
+
+    @Test
+    @DisplayName("운영자로 지정된 사용자만 ADMIN 권한을 받는다")
+    void doFilterInternal_withAdminUsername_shouldGrantAdmin() throws ServletException, IOException {
+        // given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "adminUsernames", Set.of("operator"));
+        given(jwtManager.verify("admin-token")).willReturn("operator");
+        given(jwtManager.verify("user-token")).willReturn("testUser");
+
+        // when & then
+        assertThat(authoritiesOf("admin-token")).containsExactly("USER", "ADMIN");
+        assertThat(authoritiesOf("user-token")).containsExactly("USER");
+    }
+
+    private List<String> authoritiesOf(String token) throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), mock(FilterChain.class));
+
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .toList();
+    }
 }
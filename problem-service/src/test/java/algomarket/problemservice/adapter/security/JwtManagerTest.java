@@ -1,5 +1,6 @@
 package algomarket.problemservice.adapter.security;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Base64;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 
 class JwtManagerTest {
@@ -52,4 +54,50 @@ class JwtManagerTest {
 		assertThatThrownBy(() -> jwtManager.authenticate(expiredToken))
 		    .isInstanceOf(ExpiredJwtException.class);
 	}
+
+	@Test
+	void verify_returnsSubject() {
+		String token = jwtManager.createToken("testUser");
+
+		assertThat(jwtManager.verify(token)).isEqualTo("testUser");
+	}
+
+	@Test
+	void verify_withCache_servesRepeatedTokenAndRejectsTamperedOne() {
+		JwtManager cachingJwtManager = createJwtManager(true);
+		String token = cachingJwtManager.createToken("testUser");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(cachingJwtManager.verify(token)).isEqualTo("testUser");
+		assertThat(cachingJwtManager.verify(token)).isEqualTo("testUser");
+		assertThatThrownBy(() -> cachingJwtManager.verify(tampered))
+			.isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void verify_withCache_doesNotServeTokenPastExp() throws InterruptedException {
+		JwtManager cachingJwtManager = createJwtManager(true);
+		String token = Jwts.builder()
+			.subject("testUser")
+			.expiration(new Date(System.currentTimeMillis() + 1500))
+			.signWith(testSecretKey)
+			.compact();
+
+		assertThat(cachingJwtManager.verify(token)).isEqualTo("testUser");
+
+		Thread.sleep(2000);
+
+		assertThatThrownBy(() -> cachingJwtManager.verify(token))
+			.isInstanceOf(ExpiredJwtException.class);
+	}
+
+	private static JwtManager createJwtManager(boolean cacheEnabled) {
+		JwtManager manager = new JwtManager();
+		ReflectionTestUtils.setField(manager, "key", Base64.getEncoder().encodeToString(testSecretKey.getEncoded()));
+		ReflectionTestUtils.setField(manager, "cacheEnabled", cacheEnabled);
+		ReflectionTestUtils.setField(manager, "cacheMaximumSize", 100L);
+		manager.init();
+
+		return manager;
+	}
 }
@@ -0,0 +1,117 @@
+package algomarket.problemservice.adapter.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import redis.embedded.RedisServer;
+
+class RedisSubmissionTraceStoreTest {
+
+	static RedisServer redisServer;
+	static int port;
+
+	LettuceConnectionFactory connectionFactory;
+	RedisTemplate<String, Object> redisTemplate;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory("localhost", port);
+		connectionFactory.afterPropertiesSet();
+
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void record_onDifferentNodes_shouldBeStitchedIntoOneTrace() {
+		// given - 제출을 받은 노드와 결과를 받은 노드가 다르다
+		var submitNode = new RedisSubmissionTraceStore(redisTemplate, 100, 60);
+		var resultNode = new RedisSubmissionTraceStore(redisTemplate, 100, 60);
+
+		// when
+		submitNode.record(1L, "trace-1", SubmissionStage.SUBMITTED, 1_000L);
+		submitNode.record(1L, "trace-1", SubmissionStage.OUTBOX_SAVED, 1_010L);
+		resultNode.record(1L, "trace-1", SubmissionStage.SUBMITTED, 1_001L);
+		resultNode.record(1L, "trace-1", SubmissionStage.JUDGE_FINISHED, 1_500L);
+		resultNode.record(1L, "trace-1", SubmissionStage.FINISHED, 1_600L);
+
+		// then - 어느 노드에서 조회해도 모든 구간이 보이고, 먼저 기록된 값이 유지된다
+		for (var node : new RedisSubmissionTraceStore[] {submitNode, resultNode}) {
+			SubmissionTraceResponse trace = node.find(1L).orElseThrow();
+
+			assertThat(trace.traceId()).isEqualTo("trace-1");
+			assertThat(trace.stages())
+				.extracting(SubmissionTraceResponse.StageTimestamp::stage, SubmissionTraceResponse.StageTimestamp::at)
+				.containsExactly(
+					tuple(SubmissionStage.SUBMITTED, 1_000L),
+					tuple(SubmissionStage.OUTBOX_SAVED, 1_010L),
+					tuple(SubmissionStage.JUDGE_FINISHED, 1_500L),
+					tuple(SubmissionStage.FINISHED, 1_600L));
+			assertThat(trace.totalMs()).isEqualTo(600L);
+		}
+	}
+
+	@Test
+	void record_shouldExpireTrace() {
+		// given
+		var traceStore = new RedisSubmissionTraceStore(redisTemplate, 100, 60);
+
+		// when
+		traceStore.record(1L, "trace-1", SubmissionStage.SUBMITTED, 1_000L);
+
+		// then
+		Long ttlMillis = redisTemplate.execute((RedisCallback<Long>) connection ->
+			connection.keyCommands().pTtl("SUBMISSION-TRACE:1".getBytes(StandardCharsets.UTF_8)));
+		assertThat(ttlMillis).isPositive().isLessThanOrEqualTo(60 * 60 * 1000L);
+	}
+
+	@Test
+	void find_withoutTrace_shouldBeEmpty() {
+		// given
+		var traceStore = new RedisSubmissionTraceStore(redisTemplate, 100, 60);
+
+		// when & then
+		assertThat(traceStore.find(1L)).isEmpty();
+	}
+}
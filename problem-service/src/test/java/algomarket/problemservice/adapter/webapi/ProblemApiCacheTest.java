@@ -0,0 +1,136 @@
+package algomarket.problemservice.adapter.webapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.adapter.cache.CaffeineProblemInfoCache;
+import algomarket.problemservice.application.ApproximateCountCache;
+import algomarket.problemservice.application.ProblemQueryService;
+import algomarket.problemservice.application.SubmitCountService;
+import algomarket.problemservice.application.provided.ProblemCreator;
+import algomarket.problemservice.application.provided.ProblemFileManager;
+import algomarket.problemservice.application.provided.ProblemRemover;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.application.required.SubmitCountRepository;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.problem.ProblemStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProblemApiCacheTest {
+
+	static final int PROBLEM_COUNT = 50;
+
+	ProblemRepository problemRepository;
+	SubmitCountService submitCountService;
+	SimpleMeterRegistry meterRegistry;
+	Map<Long, Integer> storedSubmitCounts = new ConcurrentHashMap<>();
+	MockMvc mockMvc;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		problemRepository = mock(ProblemRepository.class);
+		given(problemRepository.findByNumber(anyLong())).willAnswer(invocation -> Optional.of(publicProblem(invocation.getArgument(0))));
+
+		// DB 의 submit_count 를 흉내 낸다
+		SubmitCountRepository submitCountRepository = mock(SubmitCountRepository.class);
+		willAnswer(invocation -> {
+			Map<Long, Integer> deltas = invocation.getArgument(0);
+			deltas.forEach((number, delta) -> storedSubmitCounts.merge(number, delta, Integer::sum));
+			return null;
+		}).given(submitCountRepository).addSubmitCounts(anyMap());
+
+		meterRegistry = new SimpleMeterRegistry();
+		var problemInfoCache = new CaffeineProblemInfoCache(mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class),
+			new ObjectMapper(), meterRegistry, 10_000, 300);
+		submitCountService = new SubmitCountService(submitCountRepository, problemInfoCache);
+		var problemQueryService = new ProblemQueryService(problemRepository, mock(SubmissionRepository.class),
+			submitCountService, problemInfoCache, new ApproximateCountCache(60), mock(SolvedProblemStore.class));
+
+		mockMvc = MockMvcBuilders.standaloneSetup(new ProblemApi(problemQueryService,
+			mock(ProblemCreator.class), mock(ProblemRemover.class), mock(ProblemFileManager.class))).build();
+	}
+
+	@Test
+	void findByNumber_repeatedRequests_shouldHitDatabaseOncePerProblem() throws Exception {
+		// when - 처음 조회하는 번호(cold) 이후 같은 번호를 두 번 더 조회(warm)
+		for (int round = 0; round < 3; round++) {
+			for (long number = 1; number <= PROBLEM_COUNT; number++) {
+				mockMvc.perform(get("/problems/{number}", number))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.title").value("title" + number));
+			}
+		}
+
+		// then
+		for (long number = 1; number <= PROBLEM_COUNT; number++) {
+			verify(problemRepository, times(1)).findByNumber(number);
+		}
+		assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(PROBLEM_COUNT);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(PROBLEM_COUNT * 2);
+	}
+
+	@Test
+	void findByNumber_acrossSubmitCountFlushes_shouldNeverDecrease() throws Exception {
+		// given
+		List<Integer> observed = new ArrayList<>();
+
+		// when - 제출, 조회, 반영(flush)을 번갈아 한다
+		for (int round = 0; round < 5; round++) {
+			submitCountService.increment(1L);
+			submitCountService.increment(1L);
+			observed.add(submitCount(1L));
+			submitCountService.flushSubmitCounts();
+			observed.add(submitCount(1L));
+		}
+
+		// then
+		assertThat(observed).isSorted().endsWith(10);
+		assertThat(storedSubmitCounts).containsEntry(1L, 10);
+	}
+
+	private int submitCount(Long number) throws Exception {
+		String body = mockMvc.perform(get("/problems/{number}", number))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+
+		return new ObjectMapper().readTree(body).get("submitCount").asInt();
+	}
+
+	private Problem publicProblem(Long number) {
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest("title" + number, 1.0, 256), "author");
+		ReflectionTestUtils.setField(problem, "number", number);
+		ReflectionTestUtils.setField(problem, "problemStatus", ProblemStatus.PUBLIC);
+		ReflectionTestUtils.setField(problem, "submitCount", storedSubmitCounts.getOrDefault(number, 0));
+
+		return problem;
+	}
+}
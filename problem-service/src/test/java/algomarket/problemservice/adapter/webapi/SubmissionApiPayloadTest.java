@@ -0,0 +1,127 @@
+package algomarket.problemservice.adapter.webapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import algomarket.problemservice.adapter.ApiControllerAdvice;
+import algomarket.problemservice.adapter.security.UserPrincipal;
+import algomarket.problemservice.application.NotFoundException;
+import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.dto.SubmissionSourceResponse;
+import algomarket.problemservice.application.provided.ProgressStreamer;
+import algomarket.problemservice.application.provided.SubmissionFinder;
+import algomarket.problemservice.application.provided.SubmissionHandler;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+
+class SubmissionApiPayloadTest {
+
+	static final int PAGE_SIZE = 20;
+	// 제출 코드 한 건의 크기 (MEDIUMTEXT 최대 256KB 중 흔한 풀이 크기)
+	static final int SOURCE_CODE_BYTES = 16 * 1024;
+	static final String SOURCE_CODE = "x".repeat(SOURCE_CODE_BYTES);
+	static final LocalDateTime SUBMIT_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	SubmissionFinder submissionFinder;
+	MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		submissionFinder = mock(SubmissionFinder.class);
+		given(submissionFinder.findAll(anyInt(), anyInt(), eq("user"))).willReturn(new PageImpl<>(
+			LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(this::history).toList(), PageRequest.of(0, PAGE_SIZE), 100));
+		given(submissionFinder.findSource(anyLong(), eq("user")))
+			.willAnswer(invocation -> new SubmissionSourceResponse(invocation.getArgument(0), Language.JAVA, SOURCE_CODE));
+		given(submissionFinder.isSubmittedBy(anyLong(), eq("user"))).willReturn(true);
+
+		mockMvc = MockMvcBuilders.standaloneSetup(
+				new SubmissionApi(mock(SubmissionHandler.class), mock(ProgressStreamer.class), submissionFinder))
+			.setControllerAdvice(new ApiControllerAdvice())
+			.setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+			.build();
+
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(new UserPrincipal("user"), null, List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void historyPage_shouldNotCarrySourceCode() throws Exception {
+		// when
+		var response = mockMvc.perform(get("/submissions").param("page", "0").param("size", String.valueOf(PAGE_SIZE)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(PAGE_SIZE))
+			.andExpect(jsonPath("$.content[0].sourceCode").doesNotExist())
+			.andReturn().getResponse();
+
+		// then - 한 페이지 전체가 제출 코드 한 건보다 작다
+		assertThat(response.getContentAsByteArray().length).isLessThan(SOURCE_CODE_BYTES);
+		verify(submissionFinder, never()).findSource(anyLong(), any());
+	}
+
+	@Test
+	void findSource_withMatchingETag_shouldReturnNotModifiedWithoutLoadingSource() throws Exception {
+		// given
+		String eTag = mockMvc.perform(get("/submissions/{submissionId}/source", 7L))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// when
+		var response = mockMvc.perform(get("/submissions/{submissionId}/source", 8L).header(HttpHeaders.IF_NONE_MATCH, "\"submission-source-8\""))
+			.andExpect(status().isNotModified())
+			.andReturn().getResponse();
+
+		// then
+		assertThat(eTag).isEqualTo("\"submission-source-7\"");
+		assertThat(response.getContentLength()).isZero();
+		verify(submissionFinder, never()).findSource(eq(8L), any());
+	}
+
+	@Test
+	void findSource_withETagOfOtherUsersSubmission_shouldNotReturnNotModified() throws Exception {
+		// given
+		given(submissionFinder.isSubmittedBy(9L, "user")).willReturn(false);
+		given(submissionFinder.findSource(9L, "user")).willThrow(new NotFoundException("존재하지 않는 제출입니다: 9"));
+
+		// when & then
+		mockMvc.perform(get("/submissions/{submissionId}/source", 9L).header(HttpHeaders.IF_NONE_MATCH, "\"submission-source-9\""))
+			.andExpect(status().isNotFound());
+	}
+
+	private SubmissionHistoryForProblemResponse history(long submissionId) {
+		return new SubmissionHistoryForProblemResponse(submissionId, 1L, "user", SubmitStatus.ACCEPTED, Language.JAVA, 10, 1024,
+			SUBMIT_TIME, "title");
+	}
+}
@@ -0,0 +1,99 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.ProblemNumberSequenceRepository;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemDraftModifyRequest;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DraftTitlePropagationTest {
+
+	static final int SUBMISSION_COUNT = 500;
+	// 한 건에 수 KB 인 제출 코드가 영속성 컨텍스트로 올라오지 않는지 본다
+	static final byte[] SOURCE_CODE = "x".repeat(4 * 1024).getBytes(StandardCharsets.UTF_8);
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	@Autowired
+	ProblemNumberSequenceRepository problemNumberSequenceRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void saveDraftChanges_shouldRenameAllSubmissionsWithoutLoadingThem() {
+		// given
+		Problem problem = problemRepository.save(Problem.create(ProblemFixture.createProblemCreateRequest("before", 1.0, 256), "author"));
+		insertSubmissions(problem.getId(), "author", SUBMISSION_COUNT);
+		insertSubmissions(problem.getId(), "other", 1);
+		entityManager.flush();
+		entityManager.clear();
+
+		var problemModifyService = new ProblemModifyService(problemRepository, submissionRepository, problemNumberSequenceRepository,
+			mock(ProblemInfoCache.class), mock(SolvedProblemStore.class));
+		var request = new ProblemDraftModifyRequest(problem.getId(), "after", "Description", 1.0, 256, null, null);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		problemModifyService.saveDraftChanges(request, "author");
+		entityManager.flush();
+
+		// then - 제출 수와 관계없이 문제 한 건만 읽고, 제출 기록은 UPDATE 한 문장으로 바뀐다
+		// 제목 중복 확인, 문제 조회, 제출 기록 UPDATE, 문제 UPDATE
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+		assertThat(countByTitle(problem.getId(), "after")).isEqualTo(SUBMISSION_COUNT);
+		assertThat(countByTitle(problem.getId(), "before")).isEqualTo(1);
+	}
+
+	private void insertSubmissions(Long problemId, String username, int count) {
+		Long offset = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM submission", Long.class);
+		Timestamp submitTime = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(count);
+
+		for (int i = 1; i <= count; i++) {
+			rows.add(new Object[] {offset + i, problemId, "before", username, SOURCE_CODE, "JAVA", "ACCEPTED", submitTime});
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO submission (id, problem_id, problem_title, username, source_code, language, submit_status, submit_time) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+	}
+
+	private Integer countByTitle(Long problemId, String problemTitle) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM submission WHERE problem_id = ? AND problem_title = ?",
+			Integer.class, problemId, problemTitle);
+	}
+}
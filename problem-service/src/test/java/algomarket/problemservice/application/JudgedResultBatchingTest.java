@@ -0,0 +1,226 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import algomarket.problemservice.adapter.persistence.JdbcSubmissionVerdictRepository;
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.application.required.VerdictCache;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import jakarta.persistence.EntityManager;
+
+// 채점 결과를 한 건씩 반영할 때(findById + 전체 컬럼 UPDATE)와 폴링 단위로 모아 반영할 때 같은 결과가 남는지 비교한다
+@DataJpaTest
+class JudgedResultBatchingTest {
+
+	static final int SUBMISSION_COUNT = 40;
+	static final int BATCH_SIZE = 10;
+	static final byte[] SOURCE_CODE = "x".repeat(4 * 1024).getBytes(StandardCharsets.UTF_8);
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Test
+	void finishSubmissions_shouldApplySameVerdictsAsOneByOne() {
+		// given
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest("judged", 1.0, 256), "author");
+		problem.makePublic(7L);
+		Long problemId = problemRepository.save(problem).getId();
+		SolvedProblemStore solvedProblemStore = mock(SolvedProblemStore.class);
+		SubmissionService submissionService = new SubmissionService(submissionRepository, problemRepository, mock(ApplicationEventPublisher.class),
+			mock(SubmitCountService.class), solvedProblemStore, mock(SourceCodeClaimCheck.class), new JdbcSubmissionVerdictRepository(jdbcTemplate),
+			mock(SubmissionAdmission.class), mock(VerdictCache.class));
+
+		List<JudgedEvent> oneByOne = judgedEvents(insertSubmissions(problemId, SUBMISSION_COUNT));
+		List<JudgedEvent> batched = judgedEvents(insertSubmissions(problemId, SUBMISSION_COUNT));
+
+		// when
+		oneByOne.forEach(submissionService::finishSubmission);
+		entityManager.flush();
+
+		List<Long> finishedIds = new ArrayList<>();
+		for (int from = 0; from < batched.size(); from += BATCH_SIZE) {
+			finishedIds.addAll(submissionService.finishSubmissions(batched.subList(from, Math.min(from + BATCH_SIZE, batched.size()))));
+		}
+
+		// then
+		assertThat(finishedIds).containsExactlyElementsOf(batched.stream().map(JudgedEvent::submissionId).toList());
+		assertThat(verdictsOf(batched)).isEqualTo(verdictsOf(oneByOne));
+		assertThat(countByStatus(SubmitStatus.JUDGING)).isZero();
+		assertThat(countByStatus(SubmitStatus.ACCEPTED)).isEqualTo(SUBMISSION_COUNT);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM submission WHERE submit_status = 'WRONG_ANSWER' AND runtime_ms IS NULL",
+			Integer.class)).isEqualTo(SUBMISSION_COUNT);
+		verify(solvedProblemStore, times(SUBMISSION_COUNT)).markSolved("user", 7L);
+	}
+
+	@Test
+	void finishSubmissions_withUnknownSubmission_shouldReturnOnlyUpdatedIds() {
+		// given
+		Long problemId = problemRepository.save(Problem.create(ProblemFixture.createProblemCreateRequest("unknown", 1.0, 256), "author")).getId();
+		List<Long> submissionIds = insertSubmissions(problemId, 2);
+		JdbcSubmissionVerdictRepository verdictRepository = new JdbcSubmissionVerdictRepository(jdbcTemplate);
+		SubmissionService submissionService = new SubmissionService(submissionRepository, problemRepository, mock(ApplicationEventPublisher.class),
+			mock(SubmitCountService.class), mock(SolvedProblemStore.class), mock(SourceCodeClaimCheck.class), verdictRepository, mock(SubmissionAdmission.class),
+			mock(VerdictCache.class));
+
+		// when
+		List<Long> finishedIds = submissionService.finishSubmissions(List.of(
+			judgedEvent(submissionIds.get(0), SubmitStatus.ACCEPTED),
+			judgedEvent(-1L, SubmitStatus.ACCEPTED),
+			judgedEvent(submissionIds.get(1), SubmitStatus.TIME_LIMIT_EXCEEDED)));
+
+		// then
+		assertThat(finishedIds).containsExactly(submissionIds.get(0), submissionIds.get(1));
+	}
+
+	@Test
+	void finishSubmissions_redeliveredVerdicts_shouldNotOverwriteFinalVerdicts() {
+		// given
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest("redelivered", 1.0, 256), "author");
+		problem.makePublic(8L);
+		Long problemId = problemRepository.save(problem).getId();
+		List<Long> submissionIds = insertSubmissions(problemId, 2);
+		SolvedProblemStore solvedProblemStore = mock(SolvedProblemStore.class);
+		SubmissionService submissionService = new SubmissionService(submissionRepository, problemRepository, mock(ApplicationEventPublisher.class),
+			mock(SubmitCountService.class), solvedProblemStore, mock(SourceCodeClaimCheck.class), new JdbcSubmissionVerdictRepository(jdbcTemplate),
+			mock(SubmissionAdmission.class), mock(VerdictCache.class));
+		submissionService.finishSubmissions(List.of(
+			judgedEvent(submissionIds.get(0), SubmitStatus.ACCEPTED),
+			judgedEvent(submissionIds.get(1), SubmitStatus.WRONG_ANSWER)));
+
+		// when - 같은 결과와 다른 결과가 다시 전달된다
+		List<Long> finishedIds = submissionService.finishSubmissions(List.of(
+			judgedEvent(submissionIds.get(0), SubmitStatus.WRONG_ANSWER),
+			judgedEvent(submissionIds.get(1), SubmitStatus.WRONG_ANSWER)));
+
+		// then
+		assertThat(finishedIds).isEmpty();
+		assertThat(jdbcTemplate.queryForObject("SELECT submit_status FROM submission WHERE id = ?", String.class, submissionIds.get(0)))
+			.isEqualTo(SubmitStatus.ACCEPTED.name());
+		verify(solvedProblemStore, times(1)).markSolved("user", 8L);
+	}
+
+	@Test
+	void finishSubmission_redeliveredVerdict_shouldBeIgnored() {
+		// given
+		Long problemId = problemRepository.save(Problem.create(ProblemFixture.createProblemCreateRequest("single", 1.0, 256), "author")).getId();
+		Long submissionId = insertSubmissions(problemId, 1).getFirst();
+		SubmissionAdmission submissionAdmission = mock(SubmissionAdmission.class);
+		SubmissionService submissionService = new SubmissionService(submissionRepository, problemRepository, mock(ApplicationEventPublisher.class),
+			mock(SubmitCountService.class), mock(SolvedProblemStore.class), mock(SourceCodeClaimCheck.class),
+			new JdbcSubmissionVerdictRepository(jdbcTemplate), submissionAdmission, mock(VerdictCache.class));
+		submissionService.finishSubmission(judgedEvent(submissionId, SubmitStatus.ACCEPTED));
+		entityManager.flush();
+
+		// when
+		submissionService.finishSubmission(judgedEvent(submissionId, SubmitStatus.WRONG_ANSWER));
+		entityManager.flush();
+
+		// then
+		assertThat(jdbcTemplate.queryForObject("SELECT submit_status FROM submission WHERE id = ?", String.class, submissionId))
+			.isEqualTo(SubmitStatus.ACCEPTED.name());
+		verify(submissionAdmission, times(1)).judged(1);
+	}
+
+	@Test
+	void updateVerdicts_whenDriverReturnsSuccessNoInfo_shouldReturnOnlyJudgingSubmissions() {
+		// given - rewriteBatchedStatements 처럼 행 수 대신 SUCCESS_NO_INFO 를 돌려주는 드라이버
+		JdbcTemplate noInfoJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+			@Override
+			public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+				int[][] updateCounts = super.batchUpdate(sql, batchArgs, batchSize, pss);
+				for (int[] batch : updateCounts) {
+					Arrays.fill(batch, Statement.SUCCESS_NO_INFO);
+				}
+				return updateCounts;
+			}
+		};
+		Long problemId = problemRepository.save(Problem.create(ProblemFixture.createProblemCreateRequest("no-info", 1.0, 256), "author")).getId();
+		List<Long> submissionIds = insertSubmissions(problemId, 2);
+		jdbcTemplate.update("UPDATE submission SET submit_status = 'ACCEPTED' WHERE id = ?", submissionIds.get(1));
+
+		// when
+		List<Long> updatedIds = new JdbcSubmissionVerdictRepository(noInfoJdbcTemplate).updateVerdicts(List.of(
+			SubmissionVerdict.of(submissionIds.get(0), SubmitStatus.ACCEPTED, 100, 1024),
+			SubmissionVerdict.of(submissionIds.get(1), SubmitStatus.WRONG_ANSWER, null, null),
+			SubmissionVerdict.of(-1L, SubmitStatus.ACCEPTED, 100, 1024)));
+
+		// then - 이미 끝난 제출과 없는 제출은 반영된 것으로 세지 않는다
+		assertThat(updatedIds).containsExactly(submissionIds.get(0));
+	}
+
+	// 절반은 맞았고 절반은 틀렸다
+	private List<JudgedEvent> judgedEvents(List<Long> submissionIds) {
+		List<JudgedEvent> judgedEvents = new ArrayList<>(submissionIds.size());
+		for (int i = 0; i < submissionIds.size(); i++) {
+			judgedEvents.add(judgedEvent(submissionIds.get(i), i % 2 == 0 ? SubmitStatus.ACCEPTED : SubmitStatus.WRONG_ANSWER));
+		}
+
+		return judgedEvents;
+	}
+
+	private JudgedEvent judgedEvent(Long submissionId, SubmitStatus submitStatus) {
+		return new JudgedEvent(submissionId, 10L, "user", submitStatus, 120, 14_336, null, null, null, null, null, null, null);
+	}
+
+	private List<Long> insertSubmissions(Long problemId, int count) {
+		Long offset = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM submission", Long.class);
+		Timestamp submitTime = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(count);
+		List<Long> submissionIds = new ArrayList<>(count);
+
+		for (int i = 1; i <= count; i++) {
+			rows.add(new Object[] {offset + i, problemId, "judged", "user", SOURCE_CODE, "JAVA", "JUDGING", submitTime});
+			submissionIds.add(offset + i);
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO submission (id, problem_id, problem_title, username, source_code, language, submit_status, submit_time) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+		return submissionIds;
+	}
+
+	private List<String> verdictsOf(List<JudgedEvent> judgedEvents) {
+		return judgedEvents.stream()
+			.map(judgedEvent -> jdbcTemplate.queryForObject("SELECT CONCAT(submit_status, '/', runtime_ms, '/', memory_kb) FROM submission WHERE id = ?",
+				String.class, judgedEvent.submissionId()))
+			.toList();
+	}
+
+	private Integer countByStatus(SubmitStatus submitStatus) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM submission WHERE submit_status = ?", Integer.class, submitStatus.name());
+	}
+}
@@ -0,0 +1,110 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import algomarket.problemservice.adapter.storage.LocalFileStorage;
+import algomarket.problemservice.application.dto.InitiateUploadResponse;
+import algomarket.problemservice.application.provided.ProblemFileManager;
+import algomarket.problemservice.application.required.FileStorage;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+
+@ExtendWith(MockitoExtension.class)
+class ProblemFileUploadRevisionTest {
+
+	static final Long PROBLEM_ID = 1L;
+	static final String USERNAME = "username";
+
+	@Mock
+	FileStorage fileStorage;
+
+	@Mock
+	ProblemRepository problemRepository;
+
+	ProblemFileManager problemFileManager;
+
+	@BeforeEach
+	void setUp() {
+		problemFileManager = new ProblemFileStorageService(fileStorage, problemRepository);
+	}
+
+	@Test
+	void revisionIncreasesOnlyAfterUploadCompletes() {
+		// given
+		given(problemRepository.existsByIdAndAuthorUsername(PROBLEM_ID, USERNAME)).willReturn(true);
+		given(fileStorage.createKeyForProblemUpload(anyLong(), anyString())).willReturn("key");
+		given(fileStorage.createPresignedUrl(anyString(), anyMap())).willReturn("url");
+
+		// when
+		problemFileManager.initiateUpload(ProblemFixture.createInitiateUploadRequest(PROBLEM_ID), USERNAME);
+
+		// then
+		verify(problemRepository, never()).increaseRevision(PROBLEM_ID);
+
+		// when
+		problemFileManager.completeUpload(PROBLEM_ID, USERNAME);
+
+		// then
+		InOrder inOrder = inOrder(fileStorage, problemRepository);
+		inOrder.verify(fileStorage).createPresignedUrl(anyString(), anyMap());
+		inOrder.verify(problemRepository).increaseRevision(PROBLEM_ID);
+	}
+
+	@Test
+	void uploadThroughStorage_revisionIncreasesAfterFileIsInPlace(@TempDir Path baseDir) throws IOException {
+		// given - 프론트엔드와 같은 순서로 URL 발급, 업로드(PUT), 완료 알림을 보낸다
+		ProblemFileManager localFileManager = new ProblemFileStorageService(new LocalFileStorage(baseDir), problemRepository);
+		given(problemRepository.existsByIdAndAuthorUsername(PROBLEM_ID, USERNAME)).willReturn(true);
+		Path[] uploaded = new Path[1];
+		boolean[] fileInPlaceAtBump = new boolean[1];
+		given(problemRepository.increaseRevision(PROBLEM_ID)).willAnswer(invocation -> {
+			fileInPlaceAtBump[0] = uploaded[0] != null && Files.exists(uploaded[0]);
+			return 1;
+		});
+
+		// when
+		InitiateUploadResponse response = localFileManager.initiateUpload(ProblemFixture.createInitiateUploadRequest("1.in", PROBLEM_ID), USERNAME);
+		verify(problemRepository, never()).increaseRevision(PROBLEM_ID);
+
+		uploaded[0] = Path.of(URI.create(response.presignedUrl()));
+		Files.createDirectories(uploaded[0].getParent());
+		Files.writeString(uploaded[0], "1 2\n");
+		localFileManager.completeUpload(PROBLEM_ID, USERNAME);
+
+		// then
+		verify(problemRepository).increaseRevision(PROBLEM_ID);
+		assertThat(fileInPlaceAtBump[0]).isTrue();
+	}
+
+	@Test
+	void completeUpload_withOthersProblem_fail() {
+		// given
+		given(problemRepository.existsByIdAndAuthorUsername(PROBLEM_ID, USERNAME)).willReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> problemFileManager.completeUpload(PROBLEM_ID, USERNAME))
+			.isInstanceOf(NotFoundException.class);
+		verify(problemRepository, never()).increaseRevision(PROBLEM_ID);
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -105,6 +106,52 @@ class ProblemModifyServiceConcurrencyTest {
 		}
 	}
 
+	@Test
+	void makePublic_with1000ConcurrentRequest_shouldNumberBeGapFree() throws Exception {
+		// given
+		String authorUsername = "loaduser";
+		int publishCount = 1_000;
+		int threadCount = 100;
+
+		List<Long> problemIds = new ArrayList<>();
+		for (int i = 0; i < publishCount; i++) {
+			Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest("load-title" + i, 1.0, 512), authorUsername);
+			Long problemId = problemRepository.save(problem).getId();
+			problemIds.add(problemId);
+
+			submissionRepository.save(createSuccessfulSubmission(problemId, authorUsername, Language.JAVA));
+			submissionRepository.save(createSuccessfulSubmission(problemId, authorUsername, Language.PYTHON));
+		}
+
+		List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when - 1000건의 공개 요청을 100개 스레드로 동시에 처리
+		for (Long problemId : problemIds) {
+			executorService.submit(() -> {
+				try {
+					problemModifyService.makePublic(problemId, authorUsername);
+				} catch (Exception e) {
+					exceptions.add(e);
+				}
+			});
+		}
+		executorService.shutdown();
+		boolean completed = executorService.awaitTermination(60, TimeUnit.SECONDS);
+
+		// then
+		assertThat(completed).isTrue();
+		assertThat(exceptions).isEmpty();
+
+		List<Long> problemNumbers = problemIds.stream()
+			.map(problemId -> problemRepository.findById(problemId).orElseThrow().getNumber())
+			.sorted()
+			.toList();
+
+		assertThat(new HashSet<>(problemNumbers)).hasSize(publishCount);
+		assertThat(problemNumbers.getLast() - problemNumbers.getFirst() + 1).isEqualTo(publishCount);
+	}
+
 	private Submission createSuccessfulSubmission(Long problemId, String username, Language language) {
 		SubmitRequest submitRequest = new SubmitRequest(problemId, "test code", language);
 		Submission submission = Submission.submit(submitRequest, username, "Title");
@@ -0,0 +1,211 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import algomarket.problemservice.adapter.lock.AopForTransaction;
+import algomarket.problemservice.adapter.lock.DistributedLockAop;
+import algomarket.problemservice.adapter.lock.LockMetrics;
+import algomarket.problemservice.adapter.lock.StaleFencingTokenException;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.ProblemNumberSequenceRepository;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.problem.ProblemNumberSequence;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.Submission;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 락이 만료돼 같은 문제의 makePublic 이 여러 노드에서 겹쳐 실행되는 상황을 만든다.
+// 모든 tryLock 이 성공하고 SQL 마다 지연이 끼어들어도 펜싱 토큰 덕분에 문제당 한 번만 공개되어야 한다
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:file:./build/h2/fencing-chaos;MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=30000",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=algomarket.problemservice.application.ProblemPublishFencingChaosTest$LatencyInjector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProblemModifyService.class, DistributedLockAop.class, AopForTransaction.class, LockMetrics.class,
+	ProblemPublishFencingChaosTest.AspectConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProblemPublishFencingChaosTest {
+
+	static final int PROBLEM_COUNT = 5;
+	static final int ATTEMPTS_PER_PROBLEM = 8;
+	static final String AUTHOR = "chaos";
+
+	@Autowired
+	ProblemModifyService problemModifyService;
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	@Autowired
+	ProblemNumberSequenceRepository problemNumberSequenceRepository;
+
+	@MockitoBean
+	RedissonClient redissonClient;
+
+	@MockitoBean
+	ProblemInfoCache problemInfoCache;
+
+	@MockitoBean
+	SolvedProblemStore solvedProblemStore;
+
+	@AfterEach
+	void tearDown() {
+		LatencyInjector.maxDelayMs = 0;
+	}
+
+	@Test
+	void makePublic_withExpiredLeasesAndSlowDb_shouldPublishEachProblemOnce() throws Exception {
+		// given
+		problemNumberSequenceRepository.save(ProblemNumberSequence.create(ProblemNumberSequence.PROBLEM_NUMBER, 0L));
+
+		List<Long> problemIds = new ArrayList<>();
+		for (int i = 0; i < PROBLEM_COUNT; i++) {
+			Long problemId = problemRepository.save(
+				Problem.create(ProblemFixture.createProblemCreateRequest("chaos-title" + i, 1.0, 512), AUTHOR)).getId();
+			submissionRepository.save(createSuccessfulSubmission(problemId, Language.JAVA));
+			submissionRepository.save(createSuccessfulSubmission(problemId, Language.PYTHON));
+			problemIds.add(problemId);
+		}
+
+		// 만료된 lease 처럼 누구나 락을 얻는다. 펜싱 토큰은 락 키마다 단조 증가한다
+		RLock rLock = mock(RLock.class);
+		given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+		given(redissonClient.getLock(anyString())).willReturn(rLock);
+		for (Long problemId : problemIds) {
+			AtomicLong sequence = new AtomicLong();
+			RAtomicLong fencingTokens = mock(RAtomicLong.class);
+			given(fencingTokens.incrementAndGet()).willAnswer(invocation -> sequence.incrementAndGet());
+			given(redissonClient.getAtomicLong("FENCE:LOCK:makePublic:" + problemId)).willReturn(fencingTokens);
+		}
+
+		AtomicInteger published = new AtomicInteger();
+		AtomicInteger staleRejected = new AtomicInteger();
+		AtomicInteger alreadyPublic = new AtomicInteger();
+		List<Exception> unexpected = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch start = new CountDownLatch(1);
+		LatencyInjector.maxDelayMs = 15;
+
+		// when
+		try (ExecutorService executorService = Executors.newFixedThreadPool(PROBLEM_COUNT * ATTEMPTS_PER_PROBLEM)) {
+			for (Long problemId : problemIds) {
+				for (int i = 0; i < ATTEMPTS_PER_PROBLEM; i++) {
+					executorService.submit(() -> {
+						try {
+							start.await();
+							problemModifyService.makePublic(problemId, AUTHOR);
+							published.incrementAndGet();
+						} catch (StaleFencingTokenException e) {
+							staleRejected.incrementAndGet();
+						} catch (IllegalStateException e) {
+							if ("이미 공개된 문제입니다.".equals(e.getMessage())) {
+								alreadyPublic.incrementAndGet();
+							} else {
+								unexpected.add(e);
+							}
+						} catch (Exception e) {
+							unexpected.add(e);
+						}
+					});
+				}
+			}
+			start.countDown();
+		}
+		LatencyInjector.maxDelayMs = 0;
+
+		// then - 시도마다 공개, 펜싱 거절, 이미 공개됨 중 정확히 하나로 끝난다
+		assertThat(unexpected).isEmpty();
+		assertThat(published.get()).isEqualTo(PROBLEM_COUNT);
+		assertThat(staleRejected.get() + alreadyPublic.get()).isEqualTo(PROBLEM_COUNT * (ATTEMPTS_PER_PROBLEM - 1));
+
+		List<Long> problemNumbers = problemIds.stream()
+			.map(problemId -> problemRepository.findById(problemId).orElseThrow().getNumber())
+			.sorted()
+			.toList();
+
+		// 번호가 중복되지도, 버려지지도 않는다
+		assertThat(new HashSet<>(problemNumbers)).hasSize(PROBLEM_COUNT);
+		assertThat(problemNumbers).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(problemNumberSequenceRepository.findLastNumber(ProblemNumberSequence.PROBLEM_NUMBER)).isEqualTo(PROBLEM_COUNT);
+	}
+
+	private Submission createSuccessfulSubmission(Long problemId, Language language) {
+		Submission submission = Submission.submit(new SubmitRequest(problemId, "test code", language), AUTHOR, "Title");
+		submission.updateStatus(SubmitStatus.ACCEPTED, 100, 1024);
+
+		return submission;
+	}
+
+	@TestConfiguration
+	@EnableAspectJAutoProxy
+	static class AspectConfig {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	// 모든 SQL 앞에 임의의 지연을 넣어 느린 DB 를 흉내 낸다
+	public static class LatencyInjector implements StatementInspector {
+
+		static volatile int maxDelayMs;
+
+		@Override
+		public String inspect(String sql) {
+			if (maxDelayMs > 0) {
+				try {
+					Thread.sleep(ThreadLocalRandom.current().nextInt(maxDelayMs + 1));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import algomarket.problemservice.application.dto.ProblemListResponse;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.application.required.SubmitCountRepository;
+import jakarta.persistence.EntityManager;
+
+// 비트맵으로 푼 여부를 채운 목록이 변경 전의 상관 EXISTS 쿼리 결과와 모든 페이지에서 같은지 확인한다
+@DataJpaTest
+class SolvedStatusListingTest {
+
+	static final int PROBLEM_COUNT = 120;
+	static final int SUBMISSION_COUNT = 3_000;
+	static final int USER_COUNT = 10;
+	static final int PAGE_COUNT = PROBLEM_COUNT / 12;
+
+	// 변경 전 목록 쿼리. 문제 행마다 Submission 에 대한 상관 EXISTS 가 실행된다
+	static final String CORRELATED_EXISTS_QUERY = """
+		SELECT new algomarket.problemservice.application.dto.ProblemListResponse(
+		    p.number, p.title, p.submitCount,
+		    CASE WHEN EXISTS (
+		        SELECT 1 FROM Submission s2
+		        WHERE s2.problemId = p.id
+		            AND s2.username = :username
+		            AND s2.submitStatus = 'ACCEPTED'
+		    ) THEN true ELSE false END
+		)
+		FROM Problem p
+		WHERE p.problemStatus = 'PUBLIC'
+		ORDER BY p.number ASC
+		""";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	@Test
+	void listWithSolvedStatus_bitmapLookup_shouldMatchCorrelatedExists() {
+		// given
+		insertProblems();
+		insertSubmissions();
+
+		var solvedProblemStore = new InMemorySolvedProblemStore();
+		var problemQueryService = new ProblemQueryService(problemRepository, submissionRepository,
+			new SubmitCountService(mock(SubmitCountRepository.class), mock(ProblemInfoCache.class)), mock(ProblemInfoCache.class), new ApproximateCountCache(60), solvedProblemStore);
+
+		for (int user = 0; user < USER_COUNT; user++) {
+			String username = "user" + user;
+
+			// when
+			List<ProblemListResponse> existsRows = new ArrayList<>();
+			List<ProblemListResponse> bitmapRows = new ArrayList<>();
+			for (int page = 0; page < PAGE_COUNT; page++) {
+				existsRows.addAll(runExistsQuery(username, page));
+				bitmapRows.addAll(problemQueryService.listProblemsWithSolvedStatus(page, username).getContent());
+			}
+
+			// then
+			assertThat(existsRows).hasSize(PROBLEM_COUNT).anyMatch(ProblemListResponse::isSolved);
+			assertThat(bitmapRows).isEqualTo(existsRows);
+		}
+	}
+
+	private List<ProblemListResponse> runExistsQuery(String username, int page) {
+		var pageable = PageRequest.of(page, 12, Sort.by("number"));
+
+		return entityManager.createQuery(CORRELATED_EXISTS_QUERY, ProblemListResponse.class)
+			.setParameter("username", username)
+			.setFirstResult((int) pageable.getOffset())
+			.setMaxResults(pageable.getPageSize())
+			.getResultList();
+	}
+
+	private void insertProblems() {
+		List<Object[]> rows = new ArrayList<>(PROBLEM_COUNT);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int i = 1; i <= PROBLEM_COUNT; i++) {
+			rows.add(new Object[] {(long) i, (long) i, "title" + i, "author", "description", 0, "PUBLIC", 1.0, 256, now});
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO problem (id, number, title, author_username, description, submit_count, problem_status, "
+			+ "time_limit_sec, memory_limit_mb, last_modified) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+	}
+
+	private void insertSubmissions() {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Object[]> rows = new ArrayList<>(SUBMISSION_COUNT);
+
+		for (int i = 0; i < SUBMISSION_COUNT; i++) {
+			long problemId = (i * 7919L) % PROBLEM_COUNT + 1;
+			String status = i % 3 == 0 ? "ACCEPTED" : "WRONG_ANSWER";
+			rows.add(new Object[] {i + 1L, problemId, "title" + problemId, "user" + (i % USER_COUNT), "code", "JAVA", status,
+				Timestamp.valueOf(base.plusSeconds(i))});
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO submission (id, problem_id, problem_title, username, source_code, language, submit_status, submit_time) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+	}
+
+	// Redis 비트맵 대신 같은 의미의 BitSet 으로 대체한다
+	static class InMemorySolvedProblemStore implements SolvedProblemStore {
+
+		private final Map<String, BitSet> bitmaps = new ConcurrentHashMap<>();
+
+		@Override
+		public Optional<Set<Long>> findSolvedAmong(String username, Collection<Long> problemNumbers) {
+			BitSet bitmap = bitmaps.get(username);
+			if (bitmap == null) {
+				return Optional.empty();
+			}
+
+			Set<Long> solved = new HashSet<>();
+			problemNumbers.stream().filter(number -> bitmap.get(number.intValue())).forEach(solved::add);
+
+			return Optional.of(solved);
+		}
+
+		@Override
+		public void initialize(String username, Collection<Long> solvedProblemNumbers) {
+			BitSet bitmap = bitmaps.computeIfAbsent(username, key -> new BitSet());
+			solvedProblemNumbers.forEach(number -> bitmap.set(number.intValue()));
+		}
+
+		@Override
+		public void markSolved(String username, Long problemNumber) {
+			bitmaps.computeIfAbsent(username, key -> new BitSet()).set(problemNumber.intValue());
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.adapter.storage.LocalFileStorage;
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+
+class SourceCodeClaimCheckTest {
+
+	static final int THRESHOLD_BYTES = 61_440;
+	// SubmitRequest @MaxBytes 상한
+	static final int MAX_SOURCE_BYTES = 262_144;
+
+	@TempDir
+	Path storageDir;
+
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void apply_smallSource_shouldKeepInlineSource() {
+		// given
+		var claimCheck = new SourceCodeClaimCheck(new LocalFileStorage(storageDir), true, THRESHOLD_BYTES);
+		var event = submittedEvent(1L, "print(1)");
+
+		// when
+		var result = claimCheck.apply(event);
+
+		// then
+		assertThat(result).isEqualTo(event);
+		assertThat(storageDir).isEmptyDirectory();
+	}
+
+	@Test
+	void apply_largeSource_shouldOffloadToStorageAndKeepReferenceAndHash() throws Exception {
+		// given
+		var claimCheck = new SourceCodeClaimCheck(new LocalFileStorage(storageDir), true, THRESHOLD_BYTES);
+		String sourceCode = "가".repeat(MAX_SOURCE_BYTES / 3);
+		var event = submittedEvent(2L, sourceCode);
+
+		// when
+		var result = claimCheck.apply(event);
+
+		// then
+		byte[] stored = Files.readAllBytes(storageDir.resolve(result.sourceCodeRef()));
+		assertThat(result.sourceCode()).isNull();
+		assertThat(result.sourceCodeRef()).isEqualTo("submissions/2/source");
+		assertThat(new String(stored, StandardCharsets.UTF_8)).isEqualTo(sourceCode);
+		assertThat(result.sourceCodeSha256()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(stored)));
+
+		int inlineBytes = objectMapper.writeValueAsBytes(event).length;
+		int claimCheckBytes = objectMapper.writeValueAsBytes(result).length;
+		assertThat(claimCheckBytes).isLessThan(inlineBytes).isLessThan(1024);
+	}
+
+	@Test
+	void apply_disabled_shouldKeepInlineSourceRegardlessOfSize() {
+		// given
+		var claimCheck = new SourceCodeClaimCheck(new LocalFileStorage(storageDir), false, THRESHOLD_BYTES);
+		var event = submittedEvent(3L, "x".repeat(MAX_SOURCE_BYTES));
+
+		// when
+		var result = claimCheck.apply(event);
+
+		// then
+		assertThat(result).isEqualTo(event);
+		assertThat(storageDir).isEmptyDirectory();
+	}
+
+	@Test
+	void apply_whenSubmitRollsBack_shouldDeleteOffloadedSource() {
+		// given
+		var claimCheck = new SourceCodeClaimCheck(new LocalFileStorage(storageDir), true, THRESHOLD_BYTES);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			var result = claimCheck.apply(submittedEvent(4L, "x".repeat(MAX_SOURCE_BYTES)));
+			assertThat(storageDir.resolve(result.sourceCodeRef())).exists();
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+			// then
+			assertThat(storageDir.resolve(result.sourceCodeRef())).doesNotExist();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void release_afterVerdictCommits_shouldDeleteOffloadedSource() {
+		// given
+		var claimCheck = new SourceCodeClaimCheck(new LocalFileStorage(storageDir), true, THRESHOLD_BYTES);
+		var result = claimCheck.apply(submittedEvent(5L, "x".repeat(MAX_SOURCE_BYTES)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			claimCheck.release(List.of(5L, 6L));
+
+			// then - 커밋 전에는 지우지 않는다
+			assertThat(storageDir.resolve(result.sourceCodeRef())).exists();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertThat(storageDir.resolve(result.sourceCodeRef())).doesNotExist();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void putObject_keyOutsideBaseDir_shouldBeRejected() {
+		// given
+		var fileStorage = new LocalFileStorage(storageDir);
+
+		// when & then
+		assertThatThrownBy(() -> fileStorage.putObject("../escape", new byte[] {1}, "text/plain"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private SubmittedEvent submittedEvent(Long submissionId, String sourceCode) {
+		return SubmittedEvent.of(new SubmitRequest(10L, sourceCode, Language.PYTHON), "user", submissionId, 1.0, 256);
+	}
+}
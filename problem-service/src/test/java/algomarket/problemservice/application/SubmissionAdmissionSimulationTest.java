@@ -0,0 +1,209 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algomarket.problemservice.application.required.JudgeCompletionCounter;
+import algomarket.problemservice.application.required.JudgeQueue;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 초당 처리량이 정해진 채점 서버 무리와 그보다 빠르게 제출하는 대회 트래픽을 1초 단위로 흉내 낸다
+class SubmissionAdmissionSimulationTest {
+
+	static final long MAX_BACKLOG = 200;
+	static final long SAMPLE_INTERVAL_SECONDS = 5;
+	static final int JUDGE_PER_SECOND = 10;
+	static final int SUBMIT_PER_SECOND = 25;
+	static final int CONTEST_SECONDS = 600;
+
+	LocalJudgeQueue judgeQueue;
+	SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		judgeQueue = new LocalJudgeQueue();
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void contestBurst_withAdmission_shouldBoundBacklogAndTellClientsWhenToRetry() {
+		// given
+		SubmissionAdmission admission = createAdmission(true);
+
+		// when
+		Result result = simulate(admission);
+
+		// then - 샘플 사이에 늘어날 수 있는 만큼만 기준을 넘는다
+		assertThat(result.maxBacklog()).isLessThanOrEqualTo(MAX_BACKLOG + (SUBMIT_PER_SECOND - JUDGE_PER_SECOND) * SAMPLE_INTERVAL_SECONDS * 2);
+		assertThat(result.maxWaitSeconds()).isLessThan(60);
+		assertThat(result.retryAfters()).isNotEmpty().allSatisfy(retryAfter -> assertThat(retryAfter).isBetween(1L, 30L));
+		assertThat(admission.drainPerSecond()).isCloseTo(JUDGE_PER_SECOND, offset(2.0));
+		assertThat(meterRegistry.get("submission.admission.rejected").counter().count()).isEqualTo(result.retryAfters().size());
+
+		// 트래픽이 멈추고 대기열이 빠지면 다시 받는다
+		long now = result.endNanos();
+		for (int second = 0; second < 60; second++) {
+			now += TimeUnit.SECONDS.toNanos(1);
+			judgeQueue.judge(JUDGE_PER_SECOND);
+			if (second % SAMPLE_INTERVAL_SECONDS == 0) {
+				admission.sample(now);
+			}
+		}
+		admission.admit(now);
+		assertThat(admission.backlog()).isLessThan(MAX_BACKLOG);
+	}
+
+	@Test
+	void contestBurst_withoutAdmission_backlogKeepsGrowing() {
+		// given
+		SubmissionAdmission admission = createAdmission(false);
+
+		// when
+		Result result = simulate(admission);
+
+		// then
+		assertThat(result.retryAfters()).isEmpty();
+		assertThat(result.maxBacklog()).isEqualTo((long) (SUBMIT_PER_SECOND - JUDGE_PER_SECOND) * CONTEST_SECONDS);
+	}
+
+	@Test
+	void contestBurst_acrossNodes_eachNodeShouldSeeClusterDrainRate() {
+		// given - 제출이 두 노드에 번갈아 들어온다
+		List<SubmissionAdmission> nodes = List.of(createAdmission(true), createAdmission(true));
+
+		// when
+		Result result = simulate(nodes);
+
+		// then - 노드마다 받은 제출 수가 아니라 클러스터 전체의 채점 완료 수로 처리 속도를 본다
+		assertThat(nodes).allSatisfy(node -> assertThat(node.drainPerSecond()).isCloseTo(JUDGE_PER_SECOND, offset(2.0)));
+		assertThat(result.maxBacklog()).isLessThanOrEqualTo(MAX_BACKLOG + (SUBMIT_PER_SECOND - JUDGE_PER_SECOND) * SAMPLE_INTERVAL_SECONDS * 2);
+		assertThat(result.retryAfters()).isNotEmpty().allSatisfy(retryAfter -> assertThat(retryAfter).isBetween(1L, 30L));
+	}
+
+	@Test
+	void judged_shouldAddToSharedCompletionCount() {
+		// given
+		SubmissionAdmission admission = createAdmission(true);
+
+		// when
+		admission.judged(3);
+		admission.judged(2);
+
+		// then
+		assertThat(judgeQueue.total()).hasValue(5);
+	}
+
+	@Test
+	void admit_withStaleOrMissingSample_shouldNotBlock() {
+		// given
+		SubmissionAdmission admission = createAdmission(true);
+		judgeQueue.enqueue(1_000);
+
+		// when & then - 아직 샘플이 없다
+		admission.admit(TimeUnit.SECONDS.toNanos(1));
+
+		admission.sample(TimeUnit.SECONDS.toNanos(1));
+		assertThatThrownBy(() -> admission.admit(TimeUnit.SECONDS.toNanos(2)))
+			.isInstanceOf(SubmissionOverloadedException.class)
+			.satisfies(e -> assertThat(((SubmissionOverloadedException) e).getEstimatedWaitSeconds()).isEqualTo(-1));
+
+		// 샘플링이 세 주기 넘게 멈췄다
+		admission.admit(TimeUnit.SECONDS.toNanos(1 + SAMPLE_INTERVAL_SECONDS * 3 + 1));
+	}
+
+	private Result simulate(SubmissionAdmission admission) {
+		return simulate(List.of(admission));
+	}
+
+	private Result simulate(List<SubmissionAdmission> nodes) {
+		long now = 0;
+		long maxBacklog = 0;
+		List<Long> retryAfters = new ArrayList<>();
+
+		for (int second = 0; second < CONTEST_SECONDS; second++) {
+			now += TimeUnit.SECONDS.toNanos(1);
+
+			for (int i = 0; i < SUBMIT_PER_SECOND; i++) {
+				try {
+					nodes.get(i % nodes.size()).admit(now);
+					judgeQueue.enqueue(1);
+				} catch (SubmissionOverloadedException e) {
+					retryAfters.add(e.getRetryAfterSeconds());
+				}
+			}
+			judgeQueue.judge(JUDGE_PER_SECOND);
+
+			if (second % SAMPLE_INTERVAL_SECONDS == 0) {
+				for (SubmissionAdmission node : nodes) {
+					node.sample(now);
+				}
+			}
+			maxBacklog = Math.max(maxBacklog, judgeQueue.judging());
+		}
+
+		return new Result(maxBacklog, maxBacklog / JUDGE_PER_SECOND, retryAfters, now);
+	}
+
+	private SubmissionAdmission createAdmission(boolean enabled) {
+		SubmissionRepository submissionRepository = mock(SubmissionRepository.class);
+		given(submissionRepository.countBySubmitStatusAndSubmitTimeAfter(eq(SubmitStatus.JUDGING), any()))
+			.willAnswer(invocation -> judgeQueue.judging());
+
+		return new SubmissionAdmission(judgeQueue, submissionRepository, judgeQueue, meterRegistry, enabled, MAX_BACKLOG,
+			TimeUnit.SECONDS.toMillis(SAMPLE_INTERVAL_SECONDS), 30, 30);
+	}
+
+	record Result(long maxBacklog, long maxWaitSeconds, List<Long> retryAfters, long endNanos) {
+	}
+
+	// SQS 와 Redis 완료 카운터 대신 쓰는 대기열. 채점 서버는 매초 정해진 수만큼 꺼내 바로 채점을 끝낸다
+	static class LocalJudgeQueue implements JudgeQueue, JudgeCompletionCounter {
+
+		private long queued;
+		private long completed;
+
+		void enqueue(long count) {
+			queued += count;
+		}
+
+		void judge(long count) {
+			long judged = Math.min(queued, count);
+			queued -= judged;
+			add((int) judged);
+		}
+
+		long judging() {
+			return queued;
+		}
+
+		@Override
+		public long approximateDepth() {
+			return queued;
+		}
+
+		@Override
+		public void add(int count) {
+			completed += count;
+		}
+
+		@Override
+		public OptionalLong total() {
+			return OptionalLong.of(completed);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.shared.CompressedText;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+
+// 같은 말뭉치를 평문과 압축으로 각각 저장해 저장 크기를 비교하고, 압축된 행이 그대로 읽히는지 확인한다
+@DataJpaTest
+class SubmissionStorageTest {
+
+	static final int BATCH_SIZE = 500;
+	// 실제 제출 코드 대신 이 저장소의 Java/Python 소스를 말뭉치로 쓴다
+	static final List<Path> CORPUS_ROOTS = List.of(Path.of("src/main/java"), Path.of("../judge-server/judge"));
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void compressedStorage_shouldShrinkStoredBytes() throws Exception {
+		// given
+		List<String> corpus = loadCorpus();
+
+		// when
+		StoredBytes before = insert(corpus, text -> text.getBytes(StandardCharsets.UTF_8));
+		StoredBytes after = insert(corpus, text -> CompressedText.of(text).stored());
+
+		// then
+		assertThat(after.submissionBytes() + after.outboxBytes()).isLessThan((before.submissionBytes() + before.outboxBytes()) / 2);
+
+		Long submissionId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM submission", Long.class);
+		assertThat(submissionRepository.findSourceByIdAndUsername(submissionId, "user0")).get()
+			.satisfies(source -> assertThat(source.sourceCode()).isEqualTo(corpus.getFirst()));
+		byte[] payload = jdbcTemplate.queryForObject("SELECT payload FROM outbox WHERE aggregate_id = 0", byte[].class);
+		assertThat(objectMapper.readValue(CompressedText.fromStored(payload).text(), SubmittedEvent.class))
+			.satisfies(submittedEvent -> assertThat(submittedEvent.submissionId()).isZero())
+			.satisfies(submittedEvent -> assertThat(submittedEvent.sourceCode()).isEqualTo(corpus.getFirst()));
+	}
+
+	// 압축 도입 전 평문으로 저장된 행도 그대로 읽혀야 한다
+	@Test
+	void legacyPlainRows_shouldStillBeReadable() {
+		// given
+		jdbcTemplate.update("DELETE FROM submission");
+		insert(List.of("print('legacy')"), text -> text.getBytes(StandardCharsets.UTF_8));
+		Long submissionId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM submission", Long.class);
+
+		// when
+		var source = submissionRepository.findSourceByIdAndUsername(submissionId, "user0");
+
+		// then
+		assertThat(source).get().extracting(response -> response.sourceCode()).isEqualTo("print('legacy')");
+	}
+
+	private StoredBytes insert(List<String> corpus, Function<String, byte[]> encoder) {
+		jdbcTemplate.update("DELETE FROM submission");
+		jdbcTemplate.update("DELETE FROM outbox");
+
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Object[]> submissions = new ArrayList<>(BATCH_SIZE);
+		List<Object[]> outboxes = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < corpus.size(); i++) {
+			String sourceCode = corpus.get(i);
+			Timestamp submitTime = Timestamp.valueOf(base.plusSeconds(i));
+			String payload = toPayload(i, sourceCode);
+
+			submissions.add(new Object[] {i + 1L, 1L, "title", "user" + (i % 100), encoder.apply(sourceCode), "JAVA", "JUDGING", submitTime});
+			outboxes.add(new Object[] {i + 1L, (long) i, "SUBMISSION", encoder.apply(payload), submitTime});
+
+			if (submissions.size() == BATCH_SIZE) {
+				flush(submissions, outboxes);
+			}
+		}
+		flush(submissions, outboxes);
+
+		return new StoredBytes(
+			jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(source_code)) FROM submission", Long.class),
+			jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(payload)) FROM outbox", Long.class));
+	}
+
+	private void flush(List<Object[]> submissions, List<Object[]> outboxes) {
+		jdbcTemplate.batchUpdate("INSERT INTO submission (id, problem_id, problem_title, username, source_code, language, submit_status, submit_time) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", submissions);
+		jdbcTemplate.batchUpdate("INSERT INTO outbox (id, aggregate_id, aggregate_type, payload, time_stamp) VALUES (?, ?, ?, ?, ?)", outboxes);
+		submissions.clear();
+		outboxes.clear();
+	}
+
+	private String toPayload(long submissionId, String sourceCode) {
+		try {
+			return objectMapper.writeValueAsString(
+				SubmittedEvent.of(new SubmitRequest(1L, sourceCode, Language.JAVA), "user", submissionId, 1.0, 256));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private List<String> loadCorpus() {
+		List<String> corpus = new ArrayList<>();
+
+		for (Path root : CORPUS_ROOTS) {
+			try (Stream<Path> files = Files.walk(root)) {
+				for (Path file : files.filter(path -> path.toString().endsWith(".java") || path.toString().endsWith(".py")).sorted().toList()) {
+					corpus.add(Files.readString(file));
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return corpus;
+	}
+
+	record StoredBytes(long submissionBytes, long outboxBytes) {
+	}
+}
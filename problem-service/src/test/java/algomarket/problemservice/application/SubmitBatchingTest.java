@@ -0,0 +1,81 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.adapter.persistence.IdSequenceInitializer;
+import algomarket.problemservice.adapter.persistence.JpaBatchConfig;
+import algomarket.problemservice.application.required.OutboxRepository;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.outbox.Outbox;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.Submission;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 테이블 기반 pooled-lo id 덕분에 제출과 아웃박스 INSERT 가 행마다가 아니라 배치 단위로 준비되는지 확인한다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaBatchConfig.class, IdSequenceInitializer.class})
+class SubmitBatchingTest {
+
+	static final int SUBMIT_COUNT = 200;
+	static final String SOURCE_CODE = "import java.util.*;\npublic class Main { public static void main(String[] args) {} }\n";
+
+	@Autowired
+	ProblemRepository problemRepository;
+
+	@Autowired
+	SubmissionRepository submissionRepository;
+
+	@Autowired
+	OutboxRepository outboxRepository;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void saveSubmissionsAndOutboxes_shouldBatchInserts() {
+		// given
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		Problem problem = problemRepository.save(Problem.create(ProblemFixture.createProblemCreateRequest("batching", 1.0, 256), "author"));
+		entityManager.flush();
+		statistics.clear();
+
+		// when
+		List<Submission> submissions = new ArrayList<>(SUBMIT_COUNT);
+		for (int i = 0; i < SUBMIT_COUNT; i++) {
+			Submission submission = submissionRepository.save(
+				Submission.submit(new SubmitRequest(problem.getId(), SOURCE_CODE, Language.JAVA), "author", problem.getTitle()));
+			outboxRepository.save(Outbox.create(submission.getId(), "Submission", Map.of("submissionId", submission.getId()), objectMapper));
+			submissions.add(submission);
+		}
+		entityManager.flush();
+
+		// then - INSERT 배치(50건 단위)와 id 블록 할당만 준비된다
+		assertThat(submissions).extracting(Submission::getId).doesNotContainNull().doesNotHaveDuplicates();
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(SUBMIT_COUNT * 2L);
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(SUBMIT_COUNT / 10);
+		assertThat(submissionRepository.countByProblemIdAndUsername(problem.getId(), "author")).isEqualTo(SUBMIT_COUNT);
+	}
+}
@@ -0,0 +1,107 @@
+package algomarket.problemservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.application.required.SubmissionVerdictRepository;
+import algomarket.problemservice.application.required.VerdictCache;
+import algomarket.problemservice.domain.problem.Problem;
+import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.Submission;
+import algomarket.problemservice.domain.submission.SubmissionVerdict;
+import algomarket.problemservice.domain.submission.SubmitRequest;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import algomarket.problemservice.domain.submission.VerdictKey;
+
+class VerdictCacheResubmissionTest {
+
+	static final SubmitRequest SUBMIT_REQUEST = new SubmitRequest(1L, "class Main {}", Language.JAVA);
+	static final VerdictKey VERDICT_KEY = VerdictKey.of(1L, Language.JAVA, 0L, "class Main {}");
+
+	SubmissionRepository submissionRepository;
+	ApplicationEventPublisher eventPublisher;
+	SolvedProblemStore solvedProblemStore;
+	SubmissionAdmission submissionAdmission;
+	VerdictCache verdictCache;
+	SubmissionService submissionService;
+
+	@BeforeEach
+	void setUp() {
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest(), "author");
+		ReflectionTestUtils.setField(problem, "id", 1L);
+		problem.makePublic(7L);
+
+		ProblemRepository problemRepository = mock(ProblemRepository.class);
+		given(problemRepository.findById(1L)).willReturn(Optional.of(problem));
+
+		submissionRepository = mock(SubmissionRepository.class);
+		willAnswer(invocation -> {
+			Submission submission = invocation.getArgument(0);
+			ReflectionTestUtils.setField(submission, "id", 100L);
+			return submission;
+		}).given(submissionRepository).save(any());
+
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		solvedProblemStore = mock(SolvedProblemStore.class);
+		submissionAdmission = mock(SubmissionAdmission.class);
+		verdictCache = mock(VerdictCache.class);
+
+		SourceCodeClaimCheck sourceCodeClaimCheck = mock(SourceCodeClaimCheck.class);
+		willAnswer(invocation -> invocation.getArgument(0)).given(sourceCodeClaimCheck).apply(any());
+
+		submissionService = new SubmissionService(submissionRepository, problemRepository, eventPublisher, mock(SubmitCountService.class),
+			solvedProblemStore, sourceCodeClaimCheck, mock(SubmissionVerdictRepository.class), submissionAdmission, verdictCache);
+	}
+
+	@Test
+	void submit_withCachedVerdict_shouldFinishWithoutJudging() {
+		// given
+		given(verdictCache.find(VERDICT_KEY)).willReturn(Optional.of(SubmissionVerdict.of(42L, SubmitStatus.ACCEPTED, 120, 14_336)));
+
+		// when
+		var submitResponse = submissionService.submit(SUBMIT_REQUEST, "user");
+
+		// then
+		assertThat(submitResponse.submitStatus()).isEqualTo(SubmitStatus.ACCEPTED);
+		assertThat(submitResponse.runtimeMs()).isEqualTo(120);
+		assertThat(submitResponse.memoryKb()).isEqualTo(14_336);
+		verifyNoInteractions(eventPublisher, submissionAdmission);
+		verify(verdictCache, never()).reserve(any(), any());
+		verify(solvedProblemStore).markSolved("user", 7L);
+	}
+
+	@Test
+	void submit_withoutCachedVerdict_shouldReserveAndQueueForJudging() {
+		// given
+		given(verdictCache.find(VERDICT_KEY)).willReturn(Optional.empty());
+
+		// when
+		var submitResponse = submissionService.submit(SUBMIT_REQUEST, "user");
+
+		// then
+		assertThat(submitResponse.submitStatus()).isEqualTo(SubmitStatus.JUDGING);
+		verify(submissionAdmission).admit();
+		verify(verdictCache).reserve(100L, VERDICT_KEY);
+		verify(eventPublisher).publishEvent(any(SubmittedEvent.class));
+		verify(solvedProblemStore, never()).markSolved(any(), eq(7L));
+	}
+}
@@ -0,0 +1,164 @@
+package algomarket.problemservice.application.provided;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import algomarket.problemservice.application.OutboxService;
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.application.required.OutboxRepository;
+import algomarket.problemservice.application.required.SubmittedEventSender;
+import algomarket.problemservice.domain.outbox.Outbox;
+import algomarket.problemservice.domain.shared.Language;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetryHandlerTest {
+
+	@Mock
+	OutboxRepository outboxRepository;
+
+	@Mock
+	SubmittedEventSender submittedEventSender;
+
+	@Mock
+	SubmissionTracer submissionTracer;
+
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	OutboxRetryHandler outboxRetryHandler;
+
+	@BeforeEach
+	void setUp() {
+		outboxRetryHandler = new OutboxService(outboxRepository, submittedEventSender, objectMapper, submissionTracer);
+		ReflectionTestUtils.setField(outboxRetryHandler, "relayBatchSize", 100);
+	}
+
+	@Test
+	void retryPendingEvents_sendsClaimedBatchAndDeletesOnlySentRows() {
+		// given
+		List<Outbox> claimed = List.of(outbox(1L), outbox(2L), outbox(3L));
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(claimed);
+		given(submittedEventSender.sendBatch(anyList())).willReturn(List.of(1L, 3L));
+
+		// when
+		int relayed = outboxRetryHandler.retryPendingEvents();
+
+		// then
+		assertThat(relayed).isEqualTo(2);
+		ArgumentCaptor<List<SubmittedEvent>> sent = ArgumentCaptor.captor();
+		verify(submittedEventSender).sendBatch(sent.capture());
+		assertThat(sent.getValue()).extracting(SubmittedEvent::submissionId).containsExactly(1L, 2L, 3L);
+		assertThat(sent.getValue()).allSatisfy(submittedEvent -> assertThat(submittedEvent.dispatchedAt()).isNotNull());
+		verify(outboxRepository).deleteByAggregateIdIn(Set.of(1L, 3L));
+		verify(submissionTracer, times(2)).dispatched(any());
+	}
+
+	@Test
+	void retryPendingEvents_claimsWithConfiguredBatchSize() {
+		// given
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(List.of());
+
+		// when
+		int relayed = outboxRetryHandler.retryPendingEvents();
+
+		// then
+		assertThat(relayed).isZero();
+		verify(outboxRepository).findByTimeStampBeforeOrderByTimeStampAsc(any(), eq(Limit.of(100)));
+		verify(submittedEventSender, never()).sendBatch(anyList());
+	}
+
+	@Test
+	void retryPendingEvents_whenNothingSent_shouldReportNoProgressAndPostponeRetry() {
+		// given
+		Outbox claimed = outbox(1L);
+		LocalDateTime savedAt = claimed.getTimeStamp();
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(List.of(claimed));
+		given(submittedEventSender.sendBatch(anyList())).willReturn(List.of());
+
+		// when
+		int relayed = outboxRetryHandler.retryPendingEvents();
+
+		// then - 0 을 돌려줘야 스케줄러가 같은 실행에서 같은 행을 다시 가져오지 않는다
+		assertThat(relayed).isZero();
+		assertThat(claimed.getTimeStamp()).isAfterOrEqualTo(savedAt);
+		verify(outboxRepository, never()).deleteByAggregateIdIn(anyCollection());
+	}
+
+	@Test
+	void retryPendingEvents_postponesOnlyUnsentRows() {
+		// given
+		Outbox sent = outbox(1L);
+		Outbox failed = outbox(2L);
+		ReflectionTestUtils.setField(sent, "timeStamp", LocalDateTime.now().minusMinutes(5));
+		ReflectionTestUtils.setField(failed, "timeStamp", LocalDateTime.now().minusMinutes(5));
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(List.of(sent, failed));
+		given(submittedEventSender.sendBatch(anyList())).willReturn(List.of(1L));
+
+		// when
+		outboxRetryHandler.retryPendingEvents();
+
+		// then
+		assertThat(failed.getTimeStamp()).isAfter(LocalDateTime.now().minusMinutes(1));
+		assertThat(sent.getTimeStamp()).isBefore(LocalDateTime.now().minusMinutes(1));
+	}
+
+	@Test
+	void retryPendingEvents_withUnreadablePayload_shouldDropItAndRelayTheRest() {
+		// given
+		Outbox unreadable = Outbox.create(1L, "Submission", "not a submitted event", objectMapper);
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(List.of(unreadable, outbox(2L)));
+		given(submittedEventSender.sendBatch(anyList())).willReturn(List.of(2L));
+
+		// when
+		int relayed = outboxRetryHandler.retryPendingEvents();
+
+		// then
+		assertThat(relayed).isEqualTo(1);
+		verify(outboxRepository).deleteByAggregateIdIn(List.of(1L));
+		verify(outboxRepository).deleteByAggregateIdIn(Set.of(2L));
+	}
+
+	@Test
+	void retryPendingEvents_withOnlyUnreadablePayloads_shouldNotCallSender() {
+		// given
+		Outbox unreadable = Outbox.create(1L, "Submission", "not a submitted event", objectMapper);
+		given(outboxRepository.findByTimeStampBeforeOrderByTimeStampAsc(any(), any(Limit.class))).willReturn(List.of(unreadable));
+
+		// when
+		int relayed = outboxRetryHandler.retryPendingEvents();
+
+		// then
+		assertThat(relayed).isZero();
+		verify(outboxRepository).deleteByAggregateIdIn(List.of(1L));
+		verify(submittedEventSender, never()).sendBatch(anyList());
+	}
+
+	private Outbox outbox(Long submissionId) {
+		return Outbox.create(submissionId, "Submission", event(submissionId), objectMapper);
+	}
+
+	private SubmittedEvent event(Long submissionId) {
+		return new SubmittedEvent(submissionId, 10L, "user" + submissionId, "print(1)", null, null, Language.PYTHON, 1.0, 256, null, null, null);
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
@@ -17,12 +18,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import algomarket.problemservice.application.ProblemModifyService;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.ProblemNumberSequenceRepository;
 import algomarket.problemservice.application.required.ProblemRepository;
+import algomarket.problemservice.application.required.SolvedProblemStore;
 import algomarket.problemservice.application.required.SubmissionRepository;
 import algomarket.problemservice.domain.problem.DuplicateTitleException;
 import algomarket.problemservice.domain.problem.Problem;
 import algomarket.problemservice.domain.problem.ProblemFixture;
+import algomarket.problemservice.domain.problem.ProblemNumberSequence;
 import algomarket.problemservice.domain.problem.ProblemStatus;
+import algomarket.problemservice.domain.service.InsufficientSolvedLanguagesException;
 import algomarket.problemservice.domain.shared.Language;
 import algomarket.problemservice.domain.submission.Submission;
 import algomarket.problemservice.domain.submission.SubmitRequest;
@@ -37,11 +43,20 @@ class ProblemCreatorTest {
 	@Mock
 	SubmissionRepository submissionRepository;
 
+	@Mock
+	ProblemNumberSequenceRepository problemNumberSequenceRepository;
+
+	@Mock
+	ProblemInfoCache problemInfoCache;
+
+	@Mock
+	SolvedProblemStore solvedProblemStore;
+
 	ProblemCreator problemCreator;
 
 	@BeforeEach
 	void setUp() {
-		problemCreator = new ProblemModifyService(problemRepository, submissionRepository);
+		problemCreator = new ProblemModifyService(problemRepository, submissionRepository, problemNumberSequenceRepository, problemInfoCache, solvedProblemStore);
 	}
 
 	@Test
@@ -86,7 +101,8 @@ class ProblemCreatorTest {
 		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest(), username);
 		given(problemRepository.findByIdAndAuthorUsername(problemId, username)).willReturn(Optional.of(problem));
 
-		given(problemRepository.findMaxProblemNumber()).willReturn(100L);
+		given(problemNumberSequenceRepository.increment(ProblemNumberSequence.PROBLEM_NUMBER)).willReturn(1);
+		given(problemNumberSequenceRepository.findLastNumber(ProblemNumberSequence.PROBLEM_NUMBER)).willReturn(101L);
 		given(submissionRepository.findAllByProblemIdAndUsername(problemId, username)).willReturn(submissions);
 		given(problemRepository.save(any(Problem.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -97,5 +113,51 @@ class ProblemCreatorTest {
 		verify(problemRepository).save(any(Problem.class));
 		assertThat(problem.getProblemStatus()).isEqualTo(ProblemStatus.PUBLIC);
 		assertThat(problem.getNumber()).isEqualTo(101L);
+		verify(problemInfoCache).evict(101L, problem.getTitle());
+		verify(solvedProblemStore).markSolved(username, 101L);
+	}
+
+	@Test
+	void makePublic_withoutTwoSolvedLanguages_shouldNotAllocateNumber() {
+		// given
+		Long problemId = 1L;
+		String username = "username";
+
+		Submission submission = Submission.submit(new SubmitRequest(problemId, "Code", Language.JAVA), username, "Title");
+		ReflectionTestUtils.setField(submission, "submitStatus", SubmitStatus.ACCEPTED);
+
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest(), username);
+		given(problemRepository.findByIdAndAuthorUsername(problemId, username)).willReturn(Optional.of(problem));
+		given(submissionRepository.findAllByProblemIdAndUsername(problemId, username)).willReturn(List.of(submission));
+
+		// when & then
+		assertThatThrownBy(() -> problemCreator.makePublic(problemId, username))
+			.isInstanceOf(InsufficientSolvedLanguagesException.class);
+		verify(problemNumberSequenceRepository, never()).increment(any());
+	}
+
+	@Test
+	void makePublic_withUninitializedNumberSequence_shouldFailWithoutSaving() {
+		// given
+		Long problemId = 1L;
+		String username = "username";
+
+		List<Submission> submissions = List.of(
+			Submission.submit(new SubmitRequest(problemId, "Code", Language.JAVA), username, "Title"),
+			Submission.submit(new SubmitRequest(problemId, "Code", Language.PYTHON), username, "Title")
+		);
+		submissions.forEach(submission -> ReflectionTestUtils.setField(submission, "submitStatus", SubmitStatus.ACCEPTED));
+
+		Problem problem = Problem.create(ProblemFixture.createProblemCreateRequest(), username);
+		given(problemRepository.findByIdAndAuthorUsername(problemId, username)).willReturn(Optional.of(problem));
+		given(submissionRepository.findAllByProblemIdAndUsername(problemId, username)).willReturn(submissions);
+		given(problemNumberSequenceRepository.increment(ProblemNumberSequence.PROBLEM_NUMBER)).willReturn(0);
+
+		// when & then
+		assertThatThrownBy(() -> problemCreator.makePublic(problemId, username))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining(ProblemNumberSequence.PROBLEM_NUMBER);
+		verify(problemNumberSequenceRepository, never()).findLastNumber(any());
+		verify(problemRepository, never()).save(any());
 	}
 }
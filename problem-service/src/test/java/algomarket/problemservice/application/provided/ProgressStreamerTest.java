@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,19 +52,19 @@ class ProgressStreamerTest {
 		Long submissionId = 1L;
 		var expectedEmitter = new SseEmitter();
 
-		given(submissionRepository.existsByUsernameAndIdAndSubmitStatus(username, submissionId, SubmitStatus.JUDGING))
-			.willReturn(true);
-		given(progressNotifier.saveSubscription(username, submissionId))
+		given(submissionRepository.findSubmitStatusByIdAndUsername(submissionId, username))
+			.willReturn(Optional.of(SubmitStatus.JUDGING));
+		given(progressNotifier.saveSubscription(username, submissionId, null))
 			.willReturn(expectedEmitter);
 
 		// when
-		var result = progressStreamer.subscribeSubmissionProgress(username, submissionId);
+		var result = progressStreamer.subscribeSubmissionProgress(username, submissionId, null);
 
 		// then
 		assertThat(result).isEqualTo(expectedEmitter);
 
-		verify(submissionRepository).existsByUsernameAndIdAndSubmitStatus(username, submissionId, SubmitStatus.JUDGING);
-		verify(progressNotifier).saveSubscription(username, submissionId);
+		verify(submissionRepository).findSubmitStatusByIdAndUsername(submissionId, username);
+		verify(progressNotifier).saveSubscription(username, submissionId, null);
 		verify(progressSubscriber).subscribeToProgress(submissionId);
 	}
 
@@ -72,14 +74,36 @@ class ProgressStreamerTest {
 		String username = "testUser";
 		Long submissionId = 1L;
 
-		given(submissionRepository.existsByUsernameAndIdAndSubmitStatus(username, submissionId, SubmitStatus.JUDGING))
-			.willReturn(false);
+		given(submissionRepository.findSubmitStatusByIdAndUsername(submissionId, username))
+			.willReturn(Optional.empty());
 
 		// when & then
-		assertThatThrownBy(() -> progressStreamer.subscribeSubmissionProgress(username, submissionId))
+		assertThatThrownBy(() -> progressStreamer.subscribeSubmissionProgress(username, submissionId, null))
 			.isInstanceOf(IllegalArgumentException.class);
 
-		verify(progressNotifier, never()).saveSubscription(any(), any());
+		verify(progressNotifier, never()).saveSubscription(any(), any(), any());
+		verify(progressSubscriber, never()).subscribeToProgress(any());
+	}
+
+	@Test
+	void subscribeSubmissionProgress_withCompletedSubmission_shouldSendFinalStatus() {
+		// given
+		String username = "testUser";
+		Long submissionId = 1L;
+		var expectedEmitter = new SseEmitter();
+
+		given(submissionRepository.findSubmitStatusByIdAndUsername(submissionId, username))
+			.willReturn(Optional.of(SubmitStatus.ACCEPTED));
+		given(progressNotifier.sendFinalStatus(username, submissionId, SubmitStatus.ACCEPTED))
+			.willReturn(expectedEmitter);
+
+		// when
+		var result = progressStreamer.subscribeSubmissionProgress(username, submissionId, 3L);
+
+		// then
+		assertThat(result).isEqualTo(expectedEmitter);
+
+		verify(progressNotifier, never()).saveSubscription(any(), any(), any());
 		verify(progressSubscriber, never()).subscribeToProgress(any());
 	}
 
@@ -0,0 +1,89 @@
+package algomarket.problemservice.application.provided;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import algomarket.problemservice.application.ApproximateCountCache;
+import algomarket.problemservice.application.SubmissionQueryService;
+import algomarket.problemservice.application.dto.SubmissionCursor;
+import algomarket.problemservice.application.dto.SubmissionHistoryForProblemResponse;
+import algomarket.problemservice.application.required.SubmissionRepository;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionFinderCursorTest {
+
+	@Mock
+	SubmissionRepository submissionRepository;
+
+	SubmissionFinder submissionFinder;
+
+	@BeforeEach
+	void setUp() {
+		submissionFinder = new SubmissionQueryService(submissionRepository, new ApproximateCountCache(60));
+	}
+
+	@Test
+	void findAllBefore_returnsCursorOfLastRow() {
+		// given
+		var last = history(7L, LocalDateTime.of(2025, 1, 1, 12, 0));
+		given(submissionRepository.findAllForHistoryBefore(eq("user"), any(), any(), any()))
+			.willReturn(new SliceImpl<>(List.of(history(8L, LocalDateTime.of(2025, 1, 1, 13, 0)), last), PageRequest.ofSize(2), true));
+		given(submissionRepository.countByUsername("user")).willReturn(42L);
+
+		// when
+		var response = submissionFinder.findAllBefore(null, 2, "user");
+
+		// then
+		assertThat(response.hasNext()).isTrue();
+		assertThat(response.approximateTotalElements()).isEqualTo(42L);
+		assertThat(SubmissionCursor.decode(response.nextCursor())).isEqualTo(new SubmissionCursor(last.submitTime(), 7L));
+	}
+
+	@Test
+	void findAllBefore_seeksFromDecodedCursorAndReusesCachedCount() {
+		// given
+		var cursorRow = history(7L, LocalDateTime.of(2025, 1, 1, 12, 0));
+		String cursor = SubmissionCursor.encode(cursorRow);
+		given(submissionRepository.findAllForHistoryBefore(eq("user"), any(), any(), any()))
+			.willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(2), false));
+		given(submissionRepository.countByUsername("user")).willReturn(42L);
+
+		// when
+		submissionFinder.findAllBefore(cursor, 2, "user");
+		var response = submissionFinder.findAllBefore(cursor, 2, "user");
+
+		// then
+		assertThat(response.hasNext()).isFalse();
+		assertThat(response.nextCursor()).isNull();
+		verify(submissionRepository, times(2)).findAllForHistoryBefore("user", cursorRow.submitTime(), 7L, PageRequest.ofSize(2));
+		verify(submissionRepository, times(1)).countByUsername("user");
+	}
+
+	@Test
+	void findAllBefore_withMalformedCursor_fail() {
+		assertThatThrownBy(() -> submissionFinder.findAllBefore("not-a-cursor", 2, "user"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private SubmissionHistoryForProblemResponse history(Long submissionId, LocalDateTime submitTime) {
+		return new SubmissionHistoryForProblemResponse(submissionId, 1L, "user", SubmitStatus.ACCEPTED, Language.JAVA, 10, 1024, submitTime, "title");
+	}
+}
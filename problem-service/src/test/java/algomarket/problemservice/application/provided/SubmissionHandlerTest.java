@@ -62,7 +62,8 @@ class SubmissionHandlerTest {
 		entityManager.flush();
 		entityManager.clear();
 
-		var judgeEvent = new JudgedEvent(submitResponse.submissionId(), submitResponse.problemId(), "username", SubmitStatus.ACCEPTED, 100, 5400);
+		var judgeEvent = new JudgedEvent(submitResponse.submissionId(), submitResponse.problemId(), "username", SubmitStatus.ACCEPTED, 100, 5400,
+			null, null, null, null, null, null, null);
 
 		// when
 		submissionHandler.finishSubmission(judgeEvent);
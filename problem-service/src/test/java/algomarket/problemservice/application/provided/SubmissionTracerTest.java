@@ -0,0 +1,102 @@
+package algomarket.problemservice.application.provided;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algomarket.problemservice.adapter.tracing.InMemorySubmissionTraceStore;
+import algomarket.problemservice.adapter.tracing.SubmissionTraceEndpoint;
+import algomarket.problemservice.application.SubmissionTraceService;
+import algomarket.problemservice.application.dto.SubmissionStage;
+import algomarket.problemservice.application.dto.SubmissionTraceResponse;
+import algomarket.problemservice.application.event.JudgedEvent;
+import algomarket.problemservice.application.event.ProgressEvent;
+import algomarket.problemservice.application.event.SubmittedEvent;
+import algomarket.problemservice.domain.shared.Language;
+import algomarket.problemservice.domain.submission.SubmitStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SubmissionTracerTest {
+
+	static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+	SimpleMeterRegistry meterRegistry;
+	SubmissionTraceService submissionTraceService;
+	SubmissionTraceEndpoint submissionTraceEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		submissionTraceService = new SubmissionTraceService(new InMemorySubmissionTraceStore(100, 60), meterRegistry);
+		submissionTraceEndpoint = new SubmissionTraceEndpoint(submissionTraceService);
+	}
+
+	@Test
+	void judged_afterFullLifecycle_shouldExposeOrderedStagesAndRecordHistograms() {
+		// given - 제출부터 채점 결과 수신까지 한 바퀴를 흉내 낸다
+		long submittedAt = System.currentTimeMillis() - 10_000;
+		long dispatchedAt = submittedAt + 40;
+		long receivedAt = dispatchedAt + 1_500;
+		long judgeStartedAt = receivedAt + 10;
+		long judgeFinishedAt = judgeStartedAt + 3_000;
+		long resultSentAt = judgeFinishedAt + 5;
+		long ingestedAt = resultSentAt + 200;
+
+		SubmittedEvent submittedEvent = new SubmittedEvent(1L, 10L, "user", "print(1)", null, null, Language.PYTHON, 1.0, 256,
+			TRACE_ID, submittedAt, null);
+		JudgedEvent judgedEvent = new JudgedEvent(1L, 10L, "user", SubmitStatus.ACCEPTED, 100, 5400,
+			TRACE_ID, submittedAt, dispatchedAt, receivedAt, judgeStartedAt, judgeFinishedAt, resultSentAt);
+
+		// when
+		submissionTraceService.submitted(submittedEvent);
+		submissionTraceService.dispatched(submittedEvent.withDispatchedAt(dispatchedAt));
+		submissionTraceService.progressed(new ProgressEvent(1L, "user", SubmitStatus.JUDGING, 50, 5, 10,
+			LocalDateTime.now(), null, null, TRACE_ID, judgeStartedAt + 100));
+		submissionTraceService.judged(judgedEvent, ingestedAt);
+
+		// then
+		SubmissionTraceResponse trace = submissionTraceEndpoint.trace(1L);
+		assertThat(trace.traceId()).isEqualTo(TRACE_ID);
+		assertThat(trace.stages()).extracting(SubmissionTraceResponse.StageTimestamp::stage).containsExactly(
+			SubmissionStage.SUBMITTED,
+			SubmissionStage.DISPATCHED,
+			SubmissionStage.JUDGE_RECEIVED,
+			SubmissionStage.JUDGE_STARTED,
+			SubmissionStage.FIRST_PROGRESS,
+			SubmissionStage.JUDGE_FINISHED,
+			SubmissionStage.RESULT_SENT,
+			SubmissionStage.RESULT_INGESTED,
+			SubmissionStage.FINISHED
+		);
+		assertThat(trace.stages().get(2).sincePreviousMs()).isEqualTo(1_500);
+		assertThat(trace.totalMs()).isGreaterThanOrEqualTo(ingestedAt - submittedAt);
+
+		assertThat(meterRegistry.get("submission.lifecycle.dispatch").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+		assertThat(meterRegistry.get("submission.lifecycle.queue.wait").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1_500);
+		assertThat(meterRegistry.get("submission.lifecycle.judge").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3_000);
+		assertThat(meterRegistry.get("submission.lifecycle.result.ingest.lag").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+		assertThat(meterRegistry.get("submission.lifecycle.progress.lag").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("submission.lifecycle.total").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void judged_fromJudgeServerWithoutTimestamps_shouldSkipHistograms() {
+		// given - 구간 시각을 보내지 않는 이전 버전 채점 서버
+		JudgedEvent judgedEvent = new JudgedEvent(2L, 10L, "user", SubmitStatus.ACCEPTED, 100, 5400,
+			null, null, null, null, null, null, null);
+
+		// when
+		submissionTraceService.judged(judgedEvent, System.currentTimeMillis());
+
+		// then
+		assertThat(submissionTraceEndpoint.trace(2L).stages()).extracting(SubmissionTraceResponse.StageTimestamp::stage)
+			.containsExactly(SubmissionStage.RESULT_INGESTED, SubmissionStage.FINISHED);
+		assertThat(meterRegistry.get("submission.lifecycle.queue.wait").timer().count()).isZero();
+		assertThat(meterRegistry.get("submission.lifecycle.total").timer().count()).isZero();
+		assertThat(submissionTraceEndpoint.trace(3L)).isNull();
+	}
+}
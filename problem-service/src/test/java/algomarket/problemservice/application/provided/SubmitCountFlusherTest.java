@@ -0,0 +1,123 @@
+package algomarket.problemservice.application.provided;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import algomarket.problemservice.application.SubmitCountService;
+import algomarket.problemservice.application.dto.ProblemListResponse;
+import algomarket.problemservice.application.required.ProblemInfoCache;
+import algomarket.problemservice.application.required.SubmitCountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SubmitCountFlusherTest {
+
+	@Mock
+	SubmitCountRepository submitCountRepository;
+
+	@Mock
+	ProblemInfoCache problemInfoCache;
+
+	SubmitCountService submitCountService;
+
+	@BeforeEach
+	void setUp() {
+		submitCountService = new SubmitCountService(submitCountRepository, problemInfoCache);
+	}
+
+	@Test
+	void flushSubmitCounts_writesAllProblemsInOneBatch() throws Exception {
+		// given
+		try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+			CountDownLatch latch = new CountDownLatch(1_000);
+			for (int i = 0; i < 1_000; i++) {
+				long problemNumber = i % 2 == 0 ? 1L : 2L;
+				executorService.submit(() -> {
+					submitCountService.increment(problemNumber);
+					latch.countDown();
+				});
+			}
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// when
+		submitCountService.flushSubmitCounts();
+
+		// then
+		verify(submitCountRepository).addSubmitCounts(Map.of(1L, 500, 2L, 500));
+		verify(problemInfoCache).evictNumbers(Set.of(1L, 2L));
+		assertThat(submitCountService.pendingCount(1L)).isZero();
+	}
+
+	@Test
+	void flushSubmitCounts_whenUpdateFails_keepsPendingCount() {
+		// given
+		submitCountService.increment(1L);
+		submitCountService.increment(1L);
+		submitCountService.increment(2L);
+		willThrow(new RuntimeException("db down")).given(submitCountRepository).addSubmitCounts(anyMap());
+
+		// when
+		submitCountService.flushSubmitCounts();
+
+		// then
+		assertThat(submitCountService.pendingCount(1L)).isEqualTo(2);
+		assertThat(submitCountService.pendingCount(2L)).isEqualTo(1);
+		verify(problemInfoCache, never()).evictNumbers(anyCollection());
+	}
+
+	@Test
+	void flushSubmitCounts_withoutPendingCount_shouldNotUpdate() {
+		// when
+		submitCountService.flushSubmitCounts();
+
+		// then
+		verify(submitCountRepository, never()).addSubmitCounts(anyMap());
+	}
+
+	@Test
+	void increment_insideTransaction_countsOnlyAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			submitCountService.increment(1L);
+
+			// then
+			assertThat(submitCountService.pendingCount(1L)).isZero();
+			TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+			assertThat(submitCountService.pendingCount(1L)).isEqualTo(1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void withPendingCount_mergesNotYetFlushedCount() {
+		// given
+		submitCountService.increment(7L);
+
+		// when
+		var merged = submitCountService.withPendingCount(new ProblemListResponse(7L, "title", 10, null));
+
+		// then
+		assertThat(merged.submitCount()).isEqualTo(11);
+	}
+}
@@ -3,6 +3,9 @@ package algomarket.problemservice.domain.problem;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -26,4 +29,24 @@ class ProblemTest {
 
 		assertThatThrownBy(() -> Problem.create(requestWithInvalidLimit, "username")).isInstanceOf(IllegalStateException.class);
 	}
+
+	@Test
+	void modifyDraft_whenJudgingChanges_increasesRevision() {
+		var request = ProblemFixture.createProblemCreateRequest();
+		Problem problem = Problem.create(request, "username");
+
+		problem.modifyDraft(new ProblemDraftModifyRequest(1L, "New Title", "New Description", request.timeLimitSec(), request.memoryLimitMb(),
+			null, request.testCaseUrls()));
+		assertThat(problem.getRevision()).isZero();
+
+		problem.modifyDraft(new ProblemDraftModifyRequest(1L, "New Title", "New Description", 2.0, request.memoryLimitMb(),
+			null, request.testCaseUrls()));
+		assertThat(problem.getRevision()).isEqualTo(1);
+
+		List<TestCaseUrl> testCaseUrls = new ArrayList<>(request.testCaseUrls());
+		testCaseUrls.set(0, new TestCaseUrl("new-in", "new-out"));
+		problem.modifyDraft(new ProblemDraftModifyRequest(1L, "New Title", "New Description", 2.0, request.memoryLimitMb(),
+			null, testCaseUrls));
+		assertThat(problem.getRevision()).isEqualTo(2);
+	}
 }
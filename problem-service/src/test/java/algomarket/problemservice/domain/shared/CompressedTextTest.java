@@ -0,0 +1,46 @@
+package algomarket.problemservice.domain.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class CompressedTextTest {
+
+	@Test
+	void of_largeText_shouldCompressAndRoundTrip() {
+		String text = "import java.util.*;\n".repeat(500) + "한글 주석";
+
+		CompressedText compressed = CompressedText.of(text);
+		CompressedText loaded = CompressedText.fromStored(compressed.stored());
+
+		assertThat(compressed.isCompressed()).isTrue();
+		assertThat(compressed.stored().length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 10);
+		assertThat(loaded.text()).isEqualTo(text);
+		assertThat(loaded).isEqualTo(compressed);
+	}
+
+	@Test
+	void of_smallText_shouldStayPlain() {
+		CompressedText compressed = CompressedText.of("print(1)");
+
+		assertThat(compressed.isCompressed()).isFalse();
+		assertThat(compressed.stored()).isEqualTo("print(1)".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void fromStored_legacyPlainRow_shouldBeReadAsUtf8() {
+		byte[] legacy = "이전 평문 행".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+		assertThat(CompressedText.fromStored(legacy).text()).isEqualTo("이전 평문 행".repeat(100));
+	}
+
+	@Test
+	void fromStored_unknownVersion_shouldFailOnRead() {
+		CompressedText unknown = CompressedText.fromStored(new byte[] {(byte)0xFF, 9, 1, 0});
+
+		assertThatThrownBy(unknown::text).isInstanceOf(IllegalStateException.class);
+	}
+}
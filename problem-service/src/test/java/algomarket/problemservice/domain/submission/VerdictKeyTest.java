@@ -0,0 +1,27 @@
+package algomarket.problemservice.domain.submission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import algomarket.problemservice.domain.shared.Language;
+
+class VerdictKeyTest {
+
+	@Test
+	void of_withDifferentLineEndingsAndTrailingBlankLines_isSameKey() {
+		var unix = VerdictKey.of(1L, Language.PYTHON, 0L, "print(1)\nprint(2)\n");
+		var windows = VerdictKey.of(1L, Language.PYTHON, 0L, "print(1)\r\nprint(2)\r\n\r\n  ");
+
+		assertThat(windows).isEqualTo(unix);
+	}
+
+	@Test
+	void of_withDifferentCodeOrRevision_isDifferentKey() {
+		var key = VerdictKey.of(1L, Language.PYTHON, 0L, "print('a b')");
+
+		assertThat(VerdictKey.of(1L, Language.PYTHON, 0L, "print('a  b')")).isNotEqualTo(key);
+		assertThat(VerdictKey.of(1L, Language.PYTHON, 1L, "print('a b')")).isNotEqualTo(key);
+		assertThat(VerdictKey.of(1L, Language.JAVA, 0L, "print('a b')")).isNotEqualTo(key);
+	}
+}